@@ -0,0 +1,5 @@
+--Goal progress filters on status = 'FINISHED' and a finished_date range, then groups by month
+--and takes the newest five. With status first, both queries read one contiguous index range.
+--CONCURRENTLY keeps the books table writable while the index builds; run it outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_books_status_finished_date ON books (status, finished_date);
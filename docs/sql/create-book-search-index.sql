@@ -0,0 +1,32 @@
+--Full-text and trigram search for books (library.book-search.engine=postgres)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Weighted document: title ranks above author, author above description
+CREATE OR REPLACE FUNCTION book_search_vector(title TEXT, author TEXT, description TEXT)
+RETURNS tsvector
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(author, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+$$;
+
+-- Whole words go through the tsvector; partial words fall back to the trigram indexes
+CREATE OR REPLACE FUNCTION book_matches(title TEXT, author TEXT, description TEXT, term TEXT)
+RETURNS BOOLEAN
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT book_search_vector(title, author, description) @@ websearch_to_tsquery('simple', term)
+        OR lower(title) LIKE '%' || lower(term) || '%'
+        OR lower(author) LIKE '%' || lower(term) || '%'
+        OR lower(description) LIKE '%' || lower(term) || '%'
+$$;
+
+-- Indexes for better query performance
+CREATE INDEX IF NOT EXISTS idx_books_search_vector
+    ON books USING GIN (book_search_vector(title, author, description));
+CREATE INDEX IF NOT EXISTS idx_books_title_trgm ON books USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_books_author_trgm ON books USING GIN (lower(author) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_books_description_trgm ON books USING GIN (lower(description) gin_trgm_ops);
+
+-- Comments for documentation
+COMMENT ON FUNCTION book_search_vector(TEXT, TEXT, TEXT) IS 'Indexed search document for a book';
+COMMENT ON FUNCTION book_matches(TEXT, TEXT, TEXT, TEXT) IS 'Search predicate served by the GIN indexes on books';
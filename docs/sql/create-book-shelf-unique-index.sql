@@ -0,0 +1,10 @@
+--One row per book and shelf, so concurrent bulk adds (POST /api/shelves/{id}/books) stay idempotent
+
+-- Drop duplicate memberships left by earlier single-book adds, keeping the oldest row
+DELETE FROM book_shelf a
+USING book_shelf b
+WHERE a.shelf_id = b.shelf_id
+  AND a.book_id = b.book_id
+  AND a.id > b.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_book_shelf_shelf_book ON book_shelf (shelf_id, book_id);
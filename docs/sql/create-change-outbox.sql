@@ -0,0 +1,16 @@
+--Outbox behind GET /api/changes. Rows are written in the same transaction as the book, shelf or
+--reading goal change; seq is filled in once the row is published. Only needed where ddl-auto is off.
+
+CREATE TABLE IF NOT EXISTS change_outbox (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    seq         BIGINT,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    operation   VARCHAR(10) NOT NULL,
+    changed_at  TIMESTAMP   NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_change_outbox_seq ON change_outbox (seq);
+
+-- Keeps the publisher's "seq IS NULL" lookup small however long the retained history gets
+CREATE INDEX IF NOT EXISTS idx_change_outbox_unpublished ON change_outbox (id) WHERE seq IS NULL;
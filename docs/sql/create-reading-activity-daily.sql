@@ -0,0 +1,22 @@
+--Daily reading activity rollup behind goal progress and the books-read-per-year statistics.
+--The application keeps it in step with books and reconciles it at startup and nightly
+--(library.activity.reconcile-cron), so this script is only needed where ddl-auto is off.
+
+CREATE TABLE IF NOT EXISTS reading_activity_daily (
+    activity_date  DATE   PRIMARY KEY,
+    finished_count BIGINT NOT NULL DEFAULT 0,
+    pages_read     BIGINT NOT NULL DEFAULT 0,
+    started_count  BIGINT NOT NULL DEFAULT 0
+);
+
+-- Backfill from the books table
+INSERT INTO reading_activity_daily (activity_date, finished_count, pages_read, started_count)
+SELECT day, SUM(finished), SUM(pages), SUM(started)
+FROM (
+    SELECT finished_date AS day, 1 AS finished, COALESCE(page_count, 0) AS pages, 0 AS started
+    FROM books WHERE status = 'FINISHED' AND finished_date IS NOT NULL
+    UNION ALL
+    SELECT date_started, 0, 0, 1 FROM books WHERE date_started IS NOT NULL
+) activity
+GROUP BY day
+ON CONFLICT (activity_date) DO NOTHING;
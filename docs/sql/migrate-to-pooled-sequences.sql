@@ -0,0 +1,14 @@
+--Pooled sequences for books, shelves and reading goals (run before starting the new version)
+--Hibernate takes 50 ids per nextval: a value of N covers ids N-49..N, so each sequence
+--is set to the current max id and the first block starts right after it
+
+CREATE SEQUENCE IF NOT EXISTS book_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('book_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM books), 1));
+
+CREATE SEQUENCE IF NOT EXISTS shelf_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('shelf_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM shelves), 1));
+
+CREATE SEQUENCE IF NOT EXISTS reading_goal_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('reading_goal_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM reading_goals), 1));
+
+-- book_shelf keeps its identity column: the shelf membership inserts rely on the column default
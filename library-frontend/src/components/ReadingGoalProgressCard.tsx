@@ -9,17 +9,43 @@ import MonthlyProgressChart from './MonthlyProgressChart';
 
 interface GoalProgressCardProps {
   goal: ReadingGoal;
+  initialProgress?: GoalProgress;
   onEdit: (goal: ReadingGoal) => void;
   onDelete: (goalId: number) => void;
 }
 
-const GoalProgressCard: React.FC<GoalProgressCardProps> = ({ goal, onEdit, onDelete }) => {
-  const [progress, setProgress] = useState<GoalProgress | null>(null);
-  const [loading, setLoading] = useState(true);
+const GoalProgressCard: React.FC<GoalProgressCardProps> = ({ goal, initialProgress, onEdit, onDelete }) => {
+  const [progress, setProgress] = useState<GoalProgress | null>(initialProgress ?? null);
+  const [loading, setLoading] = useState(!initialProgress);
 
   useEffect(() => {
-    fetchProgress();
-  }, [goal.id]);
+    // Past and future goals rarely change, so only a goal that is under way keeps a live stream open
+    const today = new Date().toISOString().slice(0, 10);
+    if (initialProgress && (goal.endDate < today || goal.startDate > today)) {
+      setProgress(initialProgress);
+      setLoading(false);
+      return;
+    }
+
+    // The stream sends the current progress first, then again whenever a finished book changes
+    let received = false;
+    const close = ReadingGoalApi.streamGoalProgress(
+      goal.id,
+      (data) => {
+        received = true;
+        setProgress(data);
+        setLoading(false);
+      },
+      () => {
+        // Fall back to a single fetch if the stream could not be opened at all
+        if (!received) {
+          close();
+          fetchProgress();
+        }
+      }
+    );
+    return close;
+  }, [goal.id, goal.startDate, goal.endDate, initialProgress]);
 
   const fetchProgress = async () => {
     try {
@@ -1,13 +1,15 @@
 import React, { useState, useEffect } from 'react';
 import { Target, Plus, TrendingUp, AlertCircle } from 'lucide-react';
 import ReadingGoalApi, {
-    type ReadingGoal
+    type ReadingGoal,
+    type GoalProgress
 } from '../services/ReadingGoalApi';
 import ReadingGoalProgressCard from '../components/ReadingGoalProgressCard';
 import CreateReadingGoalModal from '../components/CreateReadingGoalModal';
 
 const GoalsPage: React.FC = () => {
   const [goals, setGoals] = useState<ReadingGoal[]>([]);
+  const [progressByGoal, setProgressByGoal] = useState<Record<number, GoalProgress>>({});
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [isModalOpen, setIsModalOpen] = useState(false);
@@ -22,8 +24,13 @@ const GoalsPage: React.FC = () => {
     try {
       setLoading(true);
       setError(null);
-      const data = await ReadingGoalApi.getAllGoals();
+      // Progress for every card comes back in one request instead of one per goal
+      const [data, progress] = await Promise.all([
+        ReadingGoalApi.getAllGoals(),
+        ReadingGoalApi.getAllGoalProgress(),
+      ]);
       setGoals(data);
+      setProgressByGoal(Object.fromEntries(progress.map((p) => [p.goalId, p])));
     } catch (err) {
       console.error('Failed to fetch goals:', err);
       setError('Failed to load goals. Please try again.');
@@ -169,6 +176,7 @@ const GoalsPage: React.FC = () => {
             <ReadingGoalProgressCard
               key={goal.id}
               goal={goal}
+              initialProgress={progressByGoal[goal.id]}
               onEdit={handleEditClick}
               onDelete={handleDeleteClick}
             />
@@ -112,6 +112,30 @@ const ReadingGoalApi = {
     const response = await axios.get(`${API_BASE_URL}/goals/${id}/progress`);
     return response.data;
   },
+
+  // Get progress for every goal, optionally limited to one year, in a single request
+  getAllGoalProgress: async (year?: number): Promise<GoalProgress[]> => {
+    const response = await axios.get(`${API_BASE_URL}/goals/progress`, {
+      params: year !== undefined ? { year } : undefined,
+    });
+    return response.data;
+  },
+
+  // Subscribe to live goal progress; returns a function that closes the stream
+  streamGoalProgress: (
+    id: number,
+    onProgress: (progress: GoalProgress) => void,
+    onError?: () => void
+  ): (() => void) => {
+    const source = new EventSource(`${API_BASE_URL}/goals/${id}/progress/stream`);
+    source.addEventListener('progress', (event) => {
+      onProgress(JSON.parse((event as MessageEvent).data));
+    });
+    if (onError) {
+      source.onerror = onError;
+    }
+    return () => source.close();
+  },
 };
 
 export default ReadingGoalApi;
\ No newline at end of file
@@ -14,4 +14,5 @@ export interface MultiSourceSearchResponse {
     query: string;
     results: BookSearchResult[];
     totalResults: number;
+    timedOutSources?: BookSearchResult['source'][];
     }
\ No newline at end of file
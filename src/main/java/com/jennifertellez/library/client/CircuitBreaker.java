@@ -0,0 +1,213 @@
+package com.jennifertellez.library.client;
+
+import com.jennifertellez.library.config.CircuitBreakerProperties;
+import com.jennifertellez.library.exception.CircuitBreakerOpenException;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Count-based circuit breaker for one external source.
+ *
+ * <p>CLOSED records the outcome of the last {@code windowSize} calls and opens when the share
+ * of failed or slow calls crosses its threshold. OPEN rejects calls straight away until
+ * {@code openDuration} has passed, then HALF_OPEN lets {@code halfOpenCalls} trial calls
+ * through and closes or re-opens depending on how they went.</p>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final CircuitBreakerProperties.Settings settings;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    // Ring buffer of the most recent call outcomes
+    private final long[] durations;
+    private final boolean[] failures;
+    private int buffered;
+    private int next;
+
+    private State state = State.CLOSED;
+    private long stateSince = System.nanoTime();
+    private int trialsStarted;
+    private int trialsFinished;
+    private int trialsFailed;
+    private long notPermitted;
+
+    public CircuitBreaker(String name, CircuitBreakerProperties.Settings settings) {
+        this.name = name;
+        this.settings = settings;
+        this.slowCallNanos = settings.getSlowCallDuration().toNanos();
+        this.openNanos = settings.getOpenDuration().toNanos();
+        this.durations = new long[settings.getWindowSize()];
+        this.failures = new boolean[settings.getWindowSize()];
+    }
+
+    /**
+     * @throws CircuitBreakerOpenException if the source is currently being skipped
+     */
+    public void acquirePermission() {
+        if (!tryAcquirePermission()) {
+            throw new CircuitBreakerOpenException(name);
+        }
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        long now = System.nanoTime();
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && now - stateSince >= openNanos) {
+            transitionTo(State.HALF_OPEN, now);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialsStarted < settings.getHalfOpenCalls()) {
+                trialsStarted++;
+                return true;
+            }
+            // Trials that never reported back (e.g. the caller gave up) must not wedge the breaker
+            if (now - stateSince >= openNanos) {
+                transitionTo(State.HALF_OPEN, now);
+                trialsStarted++;
+                return true;
+            }
+        }
+        notPermitted++;
+        return false;
+    }
+
+    /**
+     * Run the call, timing it and recording whether it failed. Client errors other than 429 are
+     * the caller's fault, not the source's, so they count as successes.
+     */
+    public <T> T record(Call<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            onResult(System.nanoTime() - start, false);
+            return result;
+        } catch (HttpClientErrorException e) {
+            onResult(System.nanoTime() - start, e.getStatusCode().value() == 429);
+            throw e;
+        } catch (RuntimeException e) {
+            onResult(System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+
+    private synchronized void onResult(long nanos, boolean failed) {
+        durations[next] = nanos;
+        failures[next] = failed;
+        next = (next + 1) % durations.length;
+        buffered = Math.min(buffered + 1, durations.length);
+
+        long now = System.nanoTime();
+        boolean bad = failed || nanos >= slowCallNanos;
+        switch (state) {
+            case HALF_OPEN -> {
+                trialsFinished++;
+                if (bad) {
+                    trialsFailed++;
+                }
+                if (trialsFinished >= settings.getHalfOpenCalls()) {
+                    transitionTo(trialsFailed > 0 ? State.OPEN : State.CLOSED, now);
+                }
+            }
+            case CLOSED -> {
+                if (buffered >= settings.getMinimumCalls()
+                        && (failureRate() >= settings.getFailureRateThreshold()
+                        || slowCallRate() >= settings.getSlowCallRateThreshold())) {
+                    transitionTo(State.OPEN, now);
+                }
+            }
+            case OPEN -> {
+                // A call that started before the breaker opened; nothing to decide
+            }
+        }
+    }
+
+    private void transitionTo(State newState, long now) {
+        if (newState == State.CLOSED) {
+            buffered = 0;
+            next = 0;
+        }
+        state = newState;
+        stateSince = now;
+        trialsStarted = 0;
+        trialsFinished = 0;
+        trialsFailed = 0;
+    }
+
+    public synchronized void reset() {
+        transitionTo(State.CLOSED, System.nanoTime());
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Latency at the given percentile over the recent calls, or null before any call finished.
+     */
+    public synchronized Duration latencyPercentile(double percentile) {
+        if (buffered == 0) {
+            return null;
+        }
+        long[] sorted = Arrays.copyOf(durations, buffered);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * buffered) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, Math.min(index, buffered - 1))]);
+    }
+
+    private double failureRate() {
+        int failed = 0;
+        for (int i = 0; i < buffered; i++) {
+            if (failures[i]) {
+                failed++;
+            }
+        }
+        return buffered == 0 ? 0 : failed * 100.0 / buffered;
+    }
+
+    private double slowCallRate() {
+        int slow = 0;
+        for (int i = 0; i < buffered; i++) {
+            if (durations[i] >= slowCallNanos) {
+                slow++;
+            }
+        }
+        return buffered == 0 ? 0 : slow * 100.0 / buffered;
+    }
+
+    public synchronized Stats stats() {
+        Duration p50 = latencyPercentile(0.5);
+        Duration p95 = latencyPercentile(0.95);
+        return new Stats(
+                name,
+                state,
+                failureRate(),
+                slowCallRate(),
+                buffered,
+                notPermitted,
+                p50 == null ? 0 : p50.toMillis(),
+                p95 == null ? 0 : p95.toMillis(),
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - stateSince)
+        );
+    }
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T call();
+    }
+
+    public record Stats(String name, State state, double failureRate, double slowCallRate, int bufferedCalls,
+                        long notPermittedCalls, long p50LatencyMillis, long p95LatencyMillis,
+                        long secondsInState) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.jennifertellez.library.client;
+
+import com.jennifertellez.library.config.CircuitBreakerProperties;
+import com.jennifertellez.library.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One circuit breaker per external source, shared by every caller of that source.
+ */
+@Component
+@RequiredArgsConstructor
+public class CircuitBreakerRegistry {
+
+    private final CircuitBreakerProperties properties;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreaker get(String source) {
+        return breakers.computeIfAbsent(source, name -> new CircuitBreaker(name, properties.settingsFor(name)));
+    }
+
+    public List<CircuitBreaker.Stats> stats() {
+        return breakers.values().stream()
+                .map(CircuitBreaker::stats)
+                .sorted(Comparator.comparing(CircuitBreaker.Stats::name))
+                .toList();
+    }
+
+    public void reset(String source) {
+        CircuitBreaker breaker = breakers.get(source);
+        if (breaker == null) {
+            throw new ResourceNotFoundException("Circuit breaker not found: " + source);
+        }
+        breaker.reset();
+    }
+}
@@ -0,0 +1,449 @@
+package com.jennifertellez.library.client;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only on-disk store behind a {@link LookupCache}.
+ *
+ * <p>Every put is appended as one JSON line to the active segment file and an in-memory index
+ * maps each key to the offset of its newest line. Overwritten, removed and expired lines stay in
+ * the files until compaction copies the live ones into a fresh segment and deletes the rest.
+ * Opening the store scans the segments to rebuild the index, so a restarted node answers repeat
+ * lookups from disk. Compaction triggered by a put runs on the store's own background thread,
+ * so the caller that crosses the threshold does not pay for the copy.</p>
+ */
+@Slf4j
+public class DiskLookupStore<V> implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final byte NEWLINE = '\n';
+
+    private final String name;
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final long maxSegmentBytes;
+    private final double compactionThreshold;
+
+    private final Map<String, Pointer> index = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, FileChannel> segments = new ConcurrentSkipListMap<>();
+    // Reads share the lock; compaction and clear swap segments under the write lock
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object appendLock = new Object();
+    private final ExecutorService compactionExecutor;
+    private final AtomicBoolean compactionQueued = new AtomicBoolean();
+
+    private long activeSegmentId;
+    private long totalBytes;
+    private long liveBytes;
+
+    private DiskLookupStore(String name, Path directory, ObjectMapper objectMapper, JavaType valueType,
+                            long maxSegmentBytes, double compactionThreshold) {
+        this.name = name;
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.compactionThreshold = compactionThreshold;
+        this.compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lookup-store-compaction-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Open the store for one cache, rebuilding the index from any segments left by a previous run.
+     */
+    public static <V> DiskLookupStore<V> open(String name, Path directory, ObjectMapper objectMapper,
+                                              JavaType valueType, long maxSegmentBytes,
+                                              double compactionThreshold) throws IOException {
+        DiskLookupStore<V> store = new DiskLookupStore<>(name, directory.resolve(name), objectMapper,
+                valueType, maxSegmentBytes, compactionThreshold);
+        store.load();
+        return store;
+    }
+
+    private void load() throws IOException {
+        Files.createDirectories(directory);
+
+        List<Long> ids;
+        try (Stream<Path> files = Files.list(directory)) {
+            ids = files.map(path -> path.getFileName().toString())
+                    .filter(file -> file.endsWith(SEGMENT_SUFFIX))
+                    .map(file -> Long.parseLong(file.substring(0, file.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+
+        long now = System.currentTimeMillis();
+        for (long id : ids) {
+            byte[] bytes = Files.readAllBytes(segmentPath(id));
+            int validLength = scanSegment(id, bytes, now);
+            FileChannel channel = FileChannel.open(segmentPath(id), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (validLength < bytes.length) {
+                // Drop a line cut short by a crash so the next append starts cleanly
+                log.warn("Truncating {} bytes of partial record in lookup store {} segment {}",
+                        bytes.length - validLength, name, id);
+                channel.truncate(validLength);
+            }
+            segments.put(id, channel);
+            totalBytes += validLength;
+        }
+        liveBytes = index.values().stream().mapToLong(Pointer::length).sum();
+
+        if (segments.isEmpty() || segments.lastEntry().getValue().size() >= maxSegmentBytes) {
+            startSegment(segments.isEmpty() ? 1 : segments.lastKey() + 1);
+        } else {
+            activeSegmentId = segments.lastKey();
+        }
+
+        log.info("Opened lookup store {} with {} entries in {} segments ({} bytes)",
+                name, index.size(), segments.size(), totalBytes);
+        if (shouldCompact()) {
+            compact();
+        }
+    }
+
+    private int scanSegment(long id, byte[] bytes, long now) {
+        int start = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != NEWLINE) {
+                continue;
+            }
+            int length = i - start + 1;
+            try {
+                JsonNode node = objectMapper.readTree(bytes, start, length - 1);
+                String key = node.get("key").asText();
+                long expiresAt = node.get("expiresAt").asLong();
+                if (expiresAt > now) {
+                    index.put(key, new Pointer(id, start, length, expiresAt));
+                } else {
+                    index.remove(key);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Skipping unreadable record in lookup store {} segment {} at offset {}", name, id, start);
+            }
+            start = i + 1;
+        }
+        return start;
+    }
+
+    /**
+     * Read the stored answer for a key, or empty if it was never stored or has expired.
+     */
+    public Optional<Entry<V>> get(String key) {
+        Pointer pointer = index.get(key);
+        if (pointer == null) {
+            return Optional.empty();
+        }
+        long remainingMillis = pointer.expiresAt() - System.currentTimeMillis();
+        if (remainingMillis <= 0) {
+            expire(key, pointer);
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (index.get(key) != pointer) {
+                // Moved by a compaction that ran since the index lookup
+                return get(key);
+            }
+            FileChannel channel = segments.get(pointer.segmentId());
+            if (channel == null) {
+                return Optional.empty();
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(pointer.length() - 1);
+            long position = pointer.offset();
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of segment " + pointer.segmentId());
+                }
+                position += read;
+            }
+            JsonNode value = objectMapper.readTree(buffer.array()).get("value");
+            Optional<V> result = value == null || value.isNull()
+                    ? Optional.empty()
+                    : Optional.of(objectMapper.readerFor(valueType).readValue(value));
+            return Optional.of(new Entry<>(result, Duration.ofMillis(remainingMillis)));
+        } catch (IOException e) {
+            log.warn("Could not read {} from lookup store {}: {}", key, name, e.getMessage());
+            return Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Append an answer for a key. An empty value is stored too, so "not found" survives a restart.
+     */
+    public void put(String key, Optional<V> value, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("key", key);
+        node.put("expiresAt", expiresAt);
+        node.set("value", value.<JsonNode>map(objectMapper::valueToTree).orElse(null));
+        append(key, node, expiresAt);
+    }
+
+    /**
+     * Forget a key. A tombstone is appended so the old answer does not come back after a restart.
+     */
+    public void remove(String key) {
+        if (!index.containsKey(key)) {
+            return;
+        }
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("key", key);
+        node.put("expiresAt", 0L);
+        append(key, node, 0L);
+    }
+
+    private void append(String key, ObjectNode node, long expiresAt) {
+        byte[] line;
+        try {
+            line = (objectMapper.writeValueAsString(node) + "\n").getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("Could not serialize {} for lookup store {}: {}", key, name, e.getMessage());
+            return;
+        }
+
+        lock.readLock().lock();
+        try {
+            synchronized (appendLock) {
+                FileChannel channel = segments.get(activeSegmentId);
+                long offset = channel.size();
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer, offset + buffer.position());
+                }
+                totalBytes += line.length;
+
+                Pointer previous = expiresAt > 0
+                        ? index.put(key, new Pointer(activeSegmentId, offset, line.length, expiresAt))
+                        : index.remove(key);
+                if (expiresAt > 0) {
+                    liveBytes += line.length;
+                }
+                if (previous != null) {
+                    liveBytes -= previous.length();
+                }
+
+                if (offset + line.length >= maxSegmentBytes) {
+                    startSegment(activeSegmentId + 1);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not write {} to lookup store {}: {}", key, name, e.getMessage());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (shouldCompact()) {
+            scheduleCompaction();
+        }
+    }
+
+    // At most one compaction waits in the queue; puts keep going while it runs
+    private void scheduleCompaction() {
+        if (!compactionQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compactionExecutor.execute(() -> {
+                compactionQueued.set(false);
+                if (shouldCompact()) {
+                    compact();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The store is closing
+            compactionQueued.set(false);
+        }
+    }
+
+    private void expire(String key, Pointer pointer) {
+        synchronized (appendLock) {
+            if (index.remove(key, pointer)) {
+                liveBytes -= pointer.length();
+            }
+        }
+    }
+
+    private boolean shouldCompact() {
+        synchronized (appendLock) {
+            return segments.size() > 1 && totalBytes - liveBytes > totalBytes * compactionThreshold;
+        }
+    }
+
+    /**
+     * Copy every live, unexpired record into a new segment and delete the old segment files.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            if (segments.isEmpty()) {
+                // Closed
+                return;
+            }
+            long now = System.currentTimeMillis();
+            long compactedId = activeSegmentId + 1;
+            List<Long> oldIds = new ArrayList<>(segments.keySet());
+            List<Map.Entry<String, Pointer>> live = index.entrySet().stream()
+                    .filter(entry -> entry.getValue().expiresAt() > now)
+                    .sorted(Comparator.comparing((Map.Entry<String, Pointer> entry) -> entry.getValue().segmentId())
+                            .thenComparing(entry -> entry.getValue().offset()))
+                    .toList();
+
+            FileChannel target = FileChannel.open(segmentPath(compactedId),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long position = 0;
+            Map<String, Pointer> compacted = new ConcurrentHashMap<>();
+            for (Map.Entry<String, Pointer> entry : live) {
+                Pointer pointer = entry.getValue();
+                FileChannel source = segments.get(pointer.segmentId());
+                long copied = 0;
+                while (copied < pointer.length()) {
+                    copied += source.transferTo(pointer.offset() + copied, pointer.length() - copied,
+                            target.position(position + copied));
+                }
+                compacted.put(entry.getKey(), new Pointer(compactedId, position, pointer.length(), pointer.expiresAt()));
+                position += pointer.length();
+            }
+            target.force(false);
+
+            long before = totalBytes;
+            segments.put(compactedId, target);
+            for (long id : oldIds) {
+                segments.remove(id).close();
+                Files.deleteIfExists(segmentPath(id));
+            }
+            index.clear();
+            index.putAll(compacted);
+            totalBytes = position;
+            liveBytes = position;
+            activeSegmentId = compactedId;
+            if (position >= maxSegmentBytes) {
+                startSegment(compactedId + 1);
+            }
+            log.info("Compacted lookup store {} from {} to {} bytes", name, before, position);
+        } catch (IOException e) {
+            log.error("Compaction of lookup store {} failed", name, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Delete every segment and start over empty.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            for (long id : new ArrayList<>(segments.keySet())) {
+                segments.remove(id).close();
+                Files.deleteIfExists(segmentPath(id));
+            }
+            index.clear();
+            totalBytes = 0;
+            liveBytes = 0;
+            startSegment(activeSegmentId + 1);
+        } catch (IOException e) {
+            log.error("Could not clear lookup store {}", name, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Keys of the unexpired entries, newest write first.
+     */
+    public List<String> keysNewestFirst(int limit) {
+        long now = System.currentTimeMillis();
+        return index.entrySet().stream()
+                .filter(entry -> entry.getValue().expiresAt() > now)
+                .sorted(Comparator.comparing((Map.Entry<String, Pointer> entry) -> entry.getValue().segmentId())
+                        .thenComparing(entry -> entry.getValue().offset())
+                        .reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public long totalBytes() {
+        synchronized (appendLock) {
+            return totalBytes;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        compactionExecutor.shutdown();
+        try {
+            if (!compactionExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Compaction of lookup store {} still running at close", name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.writeLock().lock();
+        try {
+            for (FileChannel channel : segments.values()) {
+                channel.close();
+            }
+            segments.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void startSegment(long id) throws IOException {
+        segments.put(id, FileChannel.open(segmentPath(id),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        activeSegmentId = id;
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%010d%s", id, SEGMENT_SUFFIX));
+    }
+
+    public record Entry<V>(Optional<V> value, Duration remainingTtl) {
+    }
+
+    private record Pointer(long segmentId, long offset, int length, long expiresAt) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.jennifertellez.library.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the requests open to each host and times every exchange into {@link HttpHostMetrics}.
+ * The slot is held until the response is closed, so reading a slow body still counts.
+ */
+public class HostLimitingInterceptor implements ClientHttpRequestInterceptor {
+
+    private final HttpHostMetrics metrics;
+    private final long acquireTimeoutNanos;
+
+    public HostLimitingInterceptor(HttpHostMetrics metrics, Duration acquireTimeout) {
+        this.metrics = metrics;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        HttpHostMetrics.Host host = metrics.host(request.getURI().getHost());
+        try {
+            if (!host.tryAcquire(acquireTimeoutNanos)) {
+                throw new ResourceAccessException("No free connection to " + request.getURI().getHost());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a connection to " + request.getURI().getHost());
+        }
+
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            host.release(System.nanoTime() - start, true);
+            throw e;
+        }
+        return new ReleasingResponse(response, host, start);
+    }
+
+    private static class ReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final HttpHostMetrics.Host host;
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingResponse(ClientHttpResponse delegate, HttpHostMetrics.Host host, long start) {
+            this.delegate = delegate;
+            this.host = host;
+            this.start = start;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    host.release(System.nanoTime() - start, isError());
+                }
+            }
+        }
+
+        private boolean isError() {
+            try {
+                return delegate.getStatusCode().isError();
+            } catch (IOException e) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.jennifertellez.library.client;
+
+import com.jennifertellez.library.config.HttpClientProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-host connection slots and latency counters for the outbound HTTP client. Every external
+ * book API shares the one client, so each of them shows up here under its host name.
+ */
+@Component
+public class HttpHostMetrics {
+
+    private final int maxConnectionsPerHost;
+    private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+
+    public HttpHostMetrics(HttpClientProperties properties) {
+        this.maxConnectionsPerHost = properties.getMaxConnectionsPerHost();
+    }
+
+    public Host host(String name) {
+        return hosts.computeIfAbsent(name, key -> new Host(key, maxConnectionsPerHost));
+    }
+
+    public List<Stats> stats() {
+        return hosts.values().stream()
+                .map(Host::stats)
+                .sorted(Comparator.comparing(Stats::host))
+                .toList();
+    }
+
+    public static class Host {
+
+        private final String name;
+        private final int maxConnections;
+        private final Semaphore connections;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        Host(String name, int maxConnections) {
+            this.name = name;
+            this.maxConnections = maxConnections;
+            this.connections = new Semaphore(maxConnections, true);
+        }
+
+        /**
+         * Wait for a free connection slot, returning false if none frees up in time.
+         */
+        public boolean tryAcquire(long timeoutNanos) throws InterruptedException {
+            waiting.incrementAndGet();
+            try {
+                boolean acquired = connections.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+                if (!acquired) {
+                    rejected.increment();
+                }
+                return acquired;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        /**
+         * Free the slot and record how long the exchange took, body included.
+         */
+        public void release(long elapsedNanos, boolean failed) {
+            connections.release();
+            requests.increment();
+            if (failed) {
+                errors.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        Stats stats() {
+            long count = requests.sum();
+            return new Stats(
+                    name,
+                    maxConnections - connections.availablePermits(),
+                    maxConnections,
+                    waiting.get(),
+                    count,
+                    errors.sum(),
+                    rejected.sum(),
+                    count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count),
+                    TimeUnit.NANOSECONDS.toMillis(maxNanos.get())
+            );
+        }
+    }
+
+    public record Stats(String host, int activeConnections, int maxConnections, int waiting, long requests,
+                        long errors, long rejected, long averageLatencyMillis, long maxLatencyMillis) {
+    }
+}
@@ -0,0 +1,305 @@
+package com.jennifertellez.library.client;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded in-memory cache in front of one external lookup. Found values live for the full TTL,
+ * "not found" answers for the shorter negative TTL, and failed lookups are never cached.
+ * An optional {@link DiskLookupStore} sits between the memory cache and the source so answers
+ * survive a restart.
+ * <p>
+ * Entries are futures: a miss installs an incomplete one and the calling thread then loads outside the
+ * cache's own locks, so a slow source or disk read never blocks other keys sharing the same hash bin.
+ */
+public class LookupCache<V> {
+
+    private final String name;
+    private final UnaryOperator<String> keyNormalizer;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final long maxSize;
+    private final DiskLookupStore<V> diskStore;
+    private final AsyncCache<String, Cached<V>> cache;
+    private final LongAdder diskHits = new LongAdder();
+
+    public LookupCache(String name, UnaryOperator<String> keyNormalizer,
+                       long maxSize, Duration ttl, Duration negativeTtl) {
+        this(name, keyNormalizer, maxSize, ttl, negativeTtl, null);
+    }
+
+    public LookupCache(String name, UnaryOperator<String> keyNormalizer,
+                       long maxSize, Duration ttl, Duration negativeTtl, DiskLookupStore<V> diskStore) {
+        this.name = name;
+        this.keyNormalizer = keyNormalizer;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.maxSize = maxSize;
+        this.diskStore = diskStore;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new CachedExpiry<V>())
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Return the cached answer for the key, trying the disk store and then the loader on a miss.
+     * Concurrent callers for the same key wait for a single load. Exceptions from the loader
+     * propagate and leave nothing behind in the cache.
+     */
+    public Optional<V> get(String key, Loader<V> loader) throws InterruptedException {
+        String normalized = keyNormalizer.apply(key);
+        CompletableFuture<Cached<V>> created = new CompletableFuture<>();
+        CompletableFuture<Cached<V>> future = cache.get(normalized, (k, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(load(normalized, loader));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(new FailedLoad(e));
+            }
+        }
+        return await(future).value();
+    }
+
+    private Cached<V> load(String key, Loader<V> loader) {
+        if (diskStore != null) {
+            Optional<DiskLookupStore.Entry<V>> stored = diskStore.get(key);
+            if (stored.isPresent()) {
+                diskHits.increment();
+                return new Cached<>(stored.get().value(), stored.get().remainingTtl());
+            }
+        }
+
+        Optional<V> value;
+        try {
+            value = loader.load();
+        } catch (InterruptedException e) {
+            throw new InterruptedLoad(e);
+        }
+        Duration entryTtl = value.isPresent() ? ttl : negativeTtl;
+        if (diskStore != null) {
+            diskStore.put(key, value, entryTtl);
+        }
+        return new Cached<>(value, entryTtl);
+    }
+
+    /**
+     * Return the answers for several keys, keyed as given. Keys missing from memory and disk are
+     * handed to the loader together, and any key the loader leaves out is cached as "not found".
+     */
+    public Map<String, Optional<V>> getAll(Collection<String> keys, BulkLoader<V> loader) throws InterruptedException {
+        Map<String, String> normalized = new LinkedHashMap<>();
+        keys.forEach(key -> normalized.put(key, keyNormalizer.apply(key)));
+
+        CompletableFuture<Map<String, Cached<V>>> created = new CompletableFuture<>();
+        List<Set<? extends String>> missingKeys = new ArrayList<>(1);
+        CompletableFuture<Map<String, Cached<V>>> future = cache.getAll(new LinkedHashSet<>(normalized.values()),
+                (missing, executor) -> {
+                    missingKeys.add(missing);
+                    return created;
+                });
+        if (!missingKeys.isEmpty()) {
+            try {
+                created.complete(loadAll(missingKeys.get(0), loader));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(new FailedLoad(e));
+            }
+        }
+        Map<String, Cached<V>> found = await(future);
+
+        Map<String, Optional<V>> values = new LinkedHashMap<>();
+        normalized.forEach((key, normalizedKey) -> values.put(key, found.get(normalizedKey).value()));
+        return values;
+    }
+
+    // Loads that fail are dropped from the cache by Caffeine; an interrupted load is rethrown as such
+    private static <T> T await(CompletableFuture<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (FailedLoad e) {
+            if (e.getCause() instanceof InterruptedLoad interrupted) {
+                throw interrupted.getCause();
+            }
+            throw e.getCause();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Map<String, Cached<V>> loadAll(Set<? extends String> keys, BulkLoader<V> loader) {
+        Map<String, Cached<V>> loaded = new HashMap<>();
+        List<String> remaining = new ArrayList<>();
+        for (String key : keys) {
+            Optional<DiskLookupStore.Entry<V>> stored = diskStore != null ? diskStore.get(key) : Optional.empty();
+            if (stored.isPresent()) {
+                diskHits.increment();
+                loaded.put(key, new Cached<>(stored.get().value(), stored.get().remainingTtl()));
+            } else {
+                remaining.add(key);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return loaded;
+        }
+
+        Map<String, Optional<V>> values;
+        try {
+            values = loader.load(remaining);
+        } catch (InterruptedException e) {
+            throw new InterruptedLoad(e);
+        }
+        for (String key : remaining) {
+            Optional<V> value = values.getOrDefault(key, Optional.empty());
+            Duration entryTtl = value.isPresent() ? ttl : negativeTtl;
+            if (diskStore != null) {
+                diskStore.put(key, value, entryTtl);
+            }
+            loaded.put(key, new Cached<>(value, entryTtl));
+        }
+        return loaded;
+    }
+
+    /**
+     * Pull the newest entries from the disk store into memory, up to the cache's maximum size.
+     */
+    public int warmUp() {
+        if (diskStore == null) {
+            return 0;
+        }
+        int loaded = 0;
+        for (String key : diskStore.keysNewestFirst((int) Math.min(maxSize, Integer.MAX_VALUE))) {
+            Optional<DiskLookupStore.Entry<V>> stored = diskStore.get(key);
+            if (stored.isPresent()) {
+                cache.put(key, CompletableFuture.completedFuture(
+                        new Cached<>(stored.get().value(), stored.get().remainingTtl())));
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    public void invalidate(String key) {
+        String normalized = keyNormalizer.apply(key);
+        cache.synchronous().invalidate(normalized);
+        if (diskStore != null) {
+            diskStore.remove(normalized);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+        if (diskStore != null) {
+            diskStore.clear();
+        }
+    }
+
+    public void compact() {
+        if (diskStore != null) {
+            diskStore.compact();
+        }
+    }
+
+    public void close() throws IOException {
+        if (diskStore != null) {
+            diskStore.close();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Stats stats() {
+        CacheStats stats = cache.synchronous().stats();
+        return new Stats(
+                name,
+                cache.synchronous().estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.loadFailureCount(),
+                diskHits.sum(),
+                diskStore != null ? diskStore.size() : 0,
+                diskStore != null ? diskStore.totalBytes() : 0
+        );
+    }
+
+    @FunctionalInterface
+    public interface Loader<V> {
+        Optional<V> load() throws InterruptedException;
+    }
+
+    @FunctionalInterface
+    public interface BulkLoader<V> {
+        Map<String, Optional<V>> load(List<String> keys) throws InterruptedException;
+    }
+
+    public record Stats(String name, long size, long hits, long misses, double hitRate,
+                        long evictions, long loadFailures, long diskHits, long diskEntries, long diskBytes) {
+    }
+
+    private record Cached<V>(Optional<V> value, Duration ttl) {
+    }
+
+    private static class InterruptedLoad extends RuntimeException {
+        InterruptedLoad(InterruptedException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized InterruptedException getCause() {
+            return (InterruptedException) super.getCause();
+        }
+    }
+
+    // A CancellationException so Caffeine drops the entry without logging a warning for every failed lookup
+    private static class FailedLoad extends CancellationException {
+        FailedLoad(RuntimeException cause) {
+            initCause(cause);
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+
+    private static class CachedExpiry<V> implements Expiry<String, Cached<V>> {
+
+        @Override
+        public long expireAfterCreate(String key, Cached<V> value, long currentTime) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Cached<V> value, long currentTime, long currentDuration) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Cached<V> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.jennifertellez.library.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jennifertellez.library.config.LookupCacheProperties;
+import com.jennifertellez.library.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Creates the external lookup caches and keeps track of them for stats and invalidation.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LookupCacheManager {
+
+    private final LookupCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, LookupCache<?>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Create a cache, backed by the disk store when enabled. The value type is needed to read
+     * stored entries back after a restart.
+     */
+    public <V> LookupCache<V> create(String name, UnaryOperator<String> keyNormalizer, TypeReference<V> valueType) {
+        LookupCache<V> cache = new LookupCache<>(name, keyNormalizer,
+                properties.getMaxSize(), properties.getTtl(), properties.getNegativeTtl(),
+                openDiskStore(name, valueType));
+        caches.put(name, cache);
+
+        if (properties.getDisk().isEnabled() && properties.getDisk().isWarmUp()) {
+            long start = System.currentTimeMillis();
+            int loaded = cache.warmUp();
+            log.info("Warmed up lookup cache {} with {} entries in {}ms",
+                    name, loaded, System.currentTimeMillis() - start);
+        }
+        return cache;
+    }
+
+    private <V> DiskLookupStore<V> openDiskStore(String name, TypeReference<V> valueType) {
+        LookupCacheProperties.Disk disk = properties.getDisk();
+        if (!disk.isEnabled()) {
+            return null;
+        }
+        try {
+            return DiskLookupStore.open(name, Path.of(disk.getDirectory()), objectMapper,
+                    objectMapper.getTypeFactory().constructType(valueType),
+                    disk.getSegmentSize().toBytes(), disk.getCompactionThreshold());
+        } catch (IOException e) {
+            // The memory cache still works without the disk tier
+            log.error("Could not open disk store for lookup cache {}, continuing in memory only", name, e);
+            return null;
+        }
+    }
+
+    public List<LookupCache.Stats> stats() {
+        return caches.values().stream()
+                .map(LookupCache::stats)
+                .sorted(Comparator.comparing(LookupCache.Stats::name))
+                .toList();
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(LookupCache::invalidateAll);
+    }
+
+    public void invalidate(String name, String key) {
+        LookupCache<?> cache = getCache(name);
+        if (key == null) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(key);
+        }
+    }
+
+    public void compactAll() {
+        caches.values().forEach(LookupCache::compact);
+    }
+
+    @PreDestroy
+    public void close() {
+        caches.values().forEach(cache -> {
+            try {
+                cache.close();
+            } catch (IOException e) {
+                log.warn("Could not close lookup cache {}: {}", cache.getName(), e.getMessage());
+            }
+        });
+    }
+
+    private LookupCache<?> getCache(String name) {
+        LookupCache<?> cache = caches.get(name);
+        if (cache == null) {
+            throw new ResourceNotFoundException("Lookup cache not found: " + name);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,26 @@
+package com.jennifertellez.library.client;
+
+import java.util.Locale;
+
+/**
+ * Normalizes lookup input so equivalent ISBNs and titles share one cache entry.
+ */
+public final class LookupKeys {
+
+    private LookupKeys() {
+    }
+
+    // "978-0-441-17271-9" and "9780441172719" are the same book
+    public static String isbn(String isbn) {
+        return isbn.replaceAll("[^0-9Xx]", "").toUpperCase(Locale.ROOT);
+    }
+
+    // Case and repeated whitespace don't change a title search
+    public static String title(String title) {
+        return title.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    public static String id(String id) {
+        return id.trim();
+    }
+}
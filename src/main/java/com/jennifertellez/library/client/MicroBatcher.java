@@ -0,0 +1,134 @@
+package com.jennifertellez.library.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gathers single-key requests that arrive within a short window and answers them with one
+ * batch load. The batch is sent when the window closes or when it reaches the maximum size,
+ * whichever comes first. Callers asking for the same key in one window share its answer.
+ */
+@Slf4j
+public class MicroBatcher<K, V> implements AutoCloseable {
+
+    private final String name;
+    private final BatchLoader<K, V> loader;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+
+    private Batch pending = new Batch();
+    private long batchesSent;
+    private long keysRequested;
+
+    public MicroBatcher(String name, BatchLoader<K, V> loader, Duration window, int maxBatchSize, int threads) {
+        this.name = name;
+        this.loader = loader;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        AtomicInteger count = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-batch-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue the key for the next batch and wait for its value, which is null when the loader
+     * returned nothing for it. A loader failure is rethrown to every caller in the batch.
+     */
+    public V get(K key) throws InterruptedException {
+        try {
+            return submit(key).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof InterruptedException interrupted) {
+                throw interrupted;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public CompletableFuture<V> submit(K key) {
+        Batch full = null;
+        CompletableFuture<V> future;
+        synchronized (this) {
+            keysRequested++;
+            future = pending.futures.get(key);
+            if (future == null) {
+                // The first key of a batch starts its window
+                if (pending.futures.isEmpty()) {
+                    Batch batch = pending;
+                    scheduler.schedule(() -> send(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+                }
+                future = new CompletableFuture<>();
+                pending.futures.put(key, future);
+                if (pending.futures.size() >= maxBatchSize) {
+                    full = pending;
+                    pending = new Batch();
+                }
+            }
+        }
+        if (full != null) {
+            Batch batch = full;
+            scheduler.execute(() -> send(batch));
+        }
+        return future;
+    }
+
+    private void send(Batch batch) {
+        synchronized (this) {
+            // A full batch is sent early, so its window timer finds it already gone
+            if (batch.sent) {
+                return;
+            }
+            batch.sent = true;
+            if (batch == pending) {
+                pending = new Batch();
+            }
+            batchesSent++;
+        }
+        try {
+            Map<K, V> values = loader.load(List.copyOf(batch.futures.keySet()));
+            batch.futures.forEach((key, future) -> future.complete(values.get(key)));
+        } catch (Exception e) {
+            log.warn("Batch load of {} keys for {} failed: {}", batch.futures.size(), name, e.getMessage());
+            batch.futures.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(name, batchesSent, keysRequested);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface BatchLoader<K, V> {
+        Map<K, V> load(List<K> keys) throws Exception;
+    }
+
+    public record Stats(String name, long batchesSent, long keysRequested) {
+    }
+
+    private final class Batch {
+        private final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        private boolean sent;
+    }
+}
@@ -0,0 +1,38 @@
+package com.jennifertellez.library.client;
+
+import com.jennifertellez.library.config.RateLimitProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One shared rate limiter per external source, so every thread calling a source draws from the same bucket.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimiterRegistry {
+
+    private final RateLimitProperties properties;
+    private final Map<String, TokenBucketRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter get(String source) {
+        return limiters.computeIfAbsent(source, this::create);
+    }
+
+    public List<TokenBucketRateLimiter.Stats> stats() {
+        return limiters.values().stream()
+                .map(TokenBucketRateLimiter::stats)
+                .toList();
+    }
+
+    private TokenBucketRateLimiter create(String source) {
+        RateLimitProperties.Limit limit = properties.getSources().get(source);
+        if (limit == null) {
+            return TokenBucketRateLimiter.unlimited(source);
+        }
+        return new TokenBucketRateLimiter(source, limit.getPermitsPerSecond(), limit.getBurst(), limit.getMaxWait());
+    }
+}
@@ -0,0 +1,70 @@
+package com.jennifertellez.library.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Runs at most one piece of work per key at a time. Callers arriving while the work for their
+ * key is in flight wait for it and get the same result (or exception) instead of repeating it.
+ * Nothing is kept once the work finishes; caching is left to the caller.
+ */
+public class SingleFlight<V> {
+
+    private final String name;
+    private final UnaryOperator<String> keyNormalizer;
+    private final Map<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public SingleFlight(String name, UnaryOperator<String> keyNormalizer) {
+        this.name = name;
+        this.keyNormalizer = keyNormalizer;
+    }
+
+    public V run(String key, Supplier<V> work) {
+        calls.increment();
+        String normalized = keyNormalizer.apply(key);
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(normalized, mine);
+        if (existing != null) {
+            shared.increment();
+            return join(existing);
+        }
+
+        try {
+            V value = work.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(normalized, mine);
+        }
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(name, calls.sum(), shared.sum(), inFlight.size());
+    }
+
+    // shared counts the calls that waited on another caller's work instead of running their own
+    public record Stats(String name, long calls, long shared, int inFlight) {
+    }
+}
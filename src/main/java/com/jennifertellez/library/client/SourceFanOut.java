@@ -0,0 +1,103 @@
+package com.jennifertellez.library.client;
+
+import com.jennifertellez.library.config.ExternalSearchProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Queries several external book sources at the same time, giving each its own deadline.
+ */
+@Component
+@Slf4j
+public class SourceFanOut {
+
+    private final Executor executor;
+    private final ExternalSearchProperties properties;
+
+    public SourceFanOut(@Qualifier("externalLookupExecutor") Executor executor,
+                        ExternalSearchProperties properties) {
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    /**
+     * Start a single source lookup on the shared pool. The future completes exceptionally with a
+     * {@link TimeoutException} if the source misses its deadline, in which case the lookup thread is
+     * interrupted so it goes back to the pool, or with a {@link RejectedExecutionException} when the
+     * pool is saturated. Lookups never run on the caller's thread.
+     */
+    public <T> CompletableFuture<Optional<T>> submit(String source, Supplier<Optional<T>> lookup) {
+        long timeoutMillis = properties.timeoutFor(source).toMillis();
+        CompletableFuture<Optional<T>> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                result.complete(lookup.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+            return null;
+        });
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        return result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((value, error) -> {
+                    if (error instanceof TimeoutException) {
+                        task.cancel(true);
+                    }
+                });
+    }
+
+    /**
+     * Run every lookup concurrently and wait until each has answered or hit its deadline.
+     * Results keep the order the sources were given in.
+     */
+    public <T> Result<T> searchAll(Map<String, Supplier<Optional<T>>> lookups) {
+        Map<String, CompletableFuture<Optional<T>>> futures = new LinkedHashMap<>();
+        lookups.forEach((source, lookup) -> futures.put(source, submit(source, lookup)));
+
+        List<T> results = new ArrayList<>();
+        List<String> timedOutSources = new ArrayList<>();
+        List<String> failedSources = new ArrayList<>();
+
+        futures.forEach((source, future) -> {
+            try {
+                future.join().ifPresent(results::add);
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    log.warn("Source {} did not answer within {}", source, properties.timeoutFor(source));
+                    timedOutSources.add(source);
+                } else if (e.getCause() instanceof RejectedExecutionException) {
+                    log.warn("Source {} skipped, external lookup pool is saturated", source);
+                    failedSources.add(source);
+                } else {
+                    log.warn("Source {} failed: {}", source, e.getCause().getMessage());
+                    failedSources.add(source);
+                }
+            }
+        });
+
+        return new Result<>(results, timedOutSources, failedSources);
+    }
+
+    public record Result<T>(List<T> results, List<String> timedOutSources, List<String> failedSources) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.jennifertellez.library.client;
+
+import com.jennifertellez.library.exception.RateLimitExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token bucket shared by every caller of one external API.
+ *
+ * <p>The bucket is tracked as a single "theoretical arrival time" updated with CAS: each permit
+ * pushes it forward by one emission interval, and up to {@code burst} permits may be taken
+ * ahead of it. A caller that finds the bucket empty reserves the next free slot and sleeps only
+ * until that slot, so concurrent callers are spaced out globally instead of each sleeping on
+ * its own.</p>
+ */
+public class TokenBucketRateLimiter {
+
+    private final String name;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long maxWaitNanos;
+
+    private final AtomicLong nextFreeNanos = new AtomicLong(System.nanoTime());
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder granted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitObservedNanos = new AtomicLong();
+
+    /**
+     * @param permitsPerSecond sustained rate, zero or less disables limiting
+     * @param burst            permits that may be taken back to back when the bucket is full
+     * @param maxWait          longest a caller may wait for a permit, zero to fail fast
+     */
+    public TokenBucketRateLimiter(String name, double permitsPerSecond, int burst, Duration maxWait) {
+        this.name = name;
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+        this.burstNanos = intervalNanos * Math.max(1, burst);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public static TokenBucketRateLimiter unlimited(String name) {
+        return new TokenBucketRateLimiter(name, 0, 1, Duration.ZERO);
+    }
+
+    /**
+     * Take a permit, waiting up to the configured maximum if the bucket is empty.
+     *
+     * @throws RateLimitExceededException if no permit frees up within the maximum wait
+     */
+    public void acquirePermission() throws InterruptedException {
+        if (!tryAcquire(maxWaitNanos)) {
+            throw new RateLimitExceededException(name);
+        }
+    }
+
+    /**
+     * Take a permit only if one is available right now.
+     */
+    public boolean tryAcquire() {
+        try {
+            return tryAcquire(0);
+        } catch (InterruptedException e) {
+            // Never sleeps with a zero wait
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean tryAcquire(long maxWait) throws InterruptedException {
+        if (intervalNanos == 0) {
+            granted.increment();
+            return true;
+        }
+
+        long now;
+        long waitNanos;
+        while (true) {
+            now = System.nanoTime();
+            long current = nextFreeNanos.get();
+            long next = Math.max(current, now) + intervalNanos;
+            waitNanos = next - burstNanos - now;
+
+            if (waitNanos > maxWait) {
+                rejected.increment();
+                return false;
+            }
+            if (nextFreeNanos.compareAndSet(current, next)) {
+                break;
+            }
+        }
+
+        granted.increment();
+        if (waitNanos > 0) {
+            await(waitNanos);
+        }
+        return true;
+    }
+
+    private void await(long waitNanos) throws InterruptedException {
+        delayed.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitObservedNanos.accumulateAndGet(waitNanos, Math::max);
+
+        waiting.incrementAndGet();
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Stats stats() {
+        long delayedCount = delayed.sum();
+        return new Stats(
+                name,
+                intervalNanos == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / (double) intervalNanos,
+                waiting.get(),
+                granted.sum(),
+                rejected.sum(),
+                delayedCount,
+                delayedCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum() / delayedCount),
+                TimeUnit.NANOSECONDS.toMillis(maxWaitObservedNanos.get())
+        );
+    }
+
+    public record Stats(String name, double permitsPerSecond, int queueDepth, long granted, long rejected,
+                        long delayed, long averageWaitMillis, long maxWaitMillis) {
+    }
+}
@@ -1,14 +1,122 @@
 package com.jennifertellez.library.config;
 
+import com.jennifertellez.library.client.GzipInterceptor;
+import com.jennifertellez.library.client.HostLimitingInterceptor;
+import com.jennifertellez.library.client.HttpHostMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
+@EnableScheduling
+@EnableConfigurationProperties({ExternalSearchProperties.class, RateLimitProperties.class,
+        LookupCacheProperties.class, BookSearchProperties.class, BookImportProperties.class,
+        HttpClientProperties.class, CircuitBreakerProperties.class, GoalStreamProperties.class,
+        BookEventProperties.class, ChangeFeedProperties.class})
 public class AppConfig {
 
+    private static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+
+    @Bean
+    public RestTemplate restTemplate(HttpClientProperties properties, HttpHostMetrics hostMetrics) {
+        // The JDK client reads its idle timeout once, from a system property, when its pool is first used
+        if (System.getProperty(KEEP_ALIVE_PROPERTY) == null) {
+            System.setProperty(KEEP_ALIVE_PROPERTY, String.valueOf(properties.getKeepAlive().toSeconds()));
+        }
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(properties.getVersion())
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.getInterceptors().add(new HostLimitingInterceptor(hostMetrics, properties.getAcquireTimeout()));
+        if (properties.isGzip()) {
+            restTemplate.getInterceptors().add(new GzipInterceptor());
+        }
+        return restTemplate;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor externalLookupExecutor(ExternalSearchProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("external-lookup-");
+        // When saturated, reject so SourceFanOut reports the source as failed instead of running it on the request thread
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor hedgeLookupExecutor(ExternalSearchProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getHedgePoolSize());
+        executor.setMaxPoolSize(properties.getHedgePoolSize());
+        executor.setQueueCapacity(properties.getHedgeQueueCapacity());
+        executor.setThreadNamePrefix("hedge-lookup-");
+        // When saturated, reject so BookLookupService falls back to asking the sources one after the other
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor bookImportExecutor(BookImportProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getMaxRunningJobs());
+        executor.setMaxPoolSize(properties.getMaxRunningJobs());
+        executor.setQueueCapacity(properties.getMaxQueuedJobs());
+        executor.setThreadNamePrefix("book-import-");
+        // Imports beyond the queue are refused rather than run on the request thread
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor importLookupExecutor(BookImportProperties properties) {
+        // Each running import keeps at most lookupConcurrency lookups in flight
+        int threads = properties.getLookupConcurrency() * properties.getMaxRunningJobs();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("import-lookup-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor bookEventExecutor(BookEventProperties properties) {
+        // Each subscriber queues at most one task at a time, so the queue stays as short as the subscriber list
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setThreadNamePrefix("book-events-");
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public ThreadPoolTaskExecutor changeFeedExecutor() {
+        // Publishing is serialized anyway, so one thread is enough
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("change-feed-");
+        executor.initialize();
+        return executor;
     }
 }
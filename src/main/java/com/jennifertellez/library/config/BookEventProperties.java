@@ -0,0 +1,18 @@
+package com.jennifertellez.library.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "library.events")
+public class BookEventProperties {
+
+    // Distinct books a subscriber may have waiting before it is told to resync instead
+    private int queueCapacity = 1000;
+
+    // Changes handed to a subscriber in one call
+    private int maxBatchSize = 100;
+
+    // Threads delivering batches; each subscriber uses at most one at a time
+    private int poolSize = 2;
+}
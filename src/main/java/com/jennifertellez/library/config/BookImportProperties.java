@@ -0,0 +1,30 @@
+package com.jennifertellez.library.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "library.import")
+public class BookImportProperties {
+
+    // ISBN lookups in flight per import; each source's rate limiter still applies on top
+    private int lookupConcurrency = 8;
+
+    // ISBNs resolved together with one OpenLibrary request ahead of the individual lookups
+    private int prefetchSize = 50;
+
+    // Rows per JDBC batch insert
+    private int batchSize = 500;
+
+    // Largest import accepted in one request
+    private int maxIsbns = 10_000;
+
+    // Imports running at once, and how many more may wait before new ones are refused
+    private int maxRunningJobs = 2;
+    private int maxQueuedJobs = 10;
+
+    // How long a finished job can still be polled
+    private Duration jobRetention = Duration.ofHours(1);
+}
@@ -0,0 +1,29 @@
+package com.jennifertellez.library.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "library.book-search")
+public class BookSearchProperties {
+
+    // like, postgres or index
+    private String engine = "like";
+
+    private Index index = new Index();
+
+    @Data
+    public static class Index {
+
+        // Save the in-memory index on shutdown and after a rebuild so startup can skip the database scan
+        private boolean snapshotEnabled = true;
+
+        private String snapshotFile = "data/search-index/books.idx";
+
+        // Books read per query while rebuilding
+        private int rebuildBatchSize = 5_000;
+
+        // Larger match sets are filtered with LIKE instead of an id list
+        private int maxIdFilter = 10_000;
+    }
+}
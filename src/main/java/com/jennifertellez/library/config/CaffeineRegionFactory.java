@@ -0,0 +1,141 @@
+package com.jennifertellez.library.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate second-level cache regions kept in Caffeine, in the same JVM as the application.
+ * Selected with hibernate.cache.region.factory_class; Hibernate creates it, not Spring.
+ *
+ * <p>Entity, collection and query regions are bounded by hibernate.cache.caffeine.maximum_size
+ * and expire after hibernate.cache.caffeine.expire_after_write. The timestamps region is
+ * neither: a dropped timestamp would make stale query results look current.</p>
+ */
+public class CaffeineRegionFactory extends RegionFactoryTemplate {
+
+    public static final String MAXIMUM_SIZE = "hibernate.cache.caffeine.maximum_size";
+    public static final String EXPIRE_AFTER_WRITE = "hibernate.cache.caffeine.expire_after_write";
+
+    private final Map<String, CaffeineStorageAccess> regions = new ConcurrentHashMap<>();
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofHours(1);
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        Object size = configValues.get(MAXIMUM_SIZE);
+        if (size != null) {
+            maximumSize = Long.parseLong(size.toString());
+        }
+        Object expiry = configValues.get(EXPIRE_AFTER_WRITE);
+        if (expiry != null) {
+            expireAfterWrite = Duration.parse(expiry.toString());
+        }
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.values().forEach(CaffeineStorageAccess::release);
+        regions.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return register(regionConfig.getRegionName(), true);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return register(regionName, true);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return register(regionName, false);
+    }
+
+    private CaffeineStorageAccess register(String regionName, boolean bounded) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (bounded) {
+            builder.maximumSize(maximumSize).expireAfterWrite(expireAfterWrite);
+        }
+        CaffeineStorageAccess storage = new CaffeineStorageAccess(regionName, builder.build());
+        regions.put(regionName, storage);
+        return storage;
+    }
+
+    public List<Stats> stats() {
+        return regions.values().stream()
+                .map(CaffeineStorageAccess::stats)
+                .sorted(Comparator.comparing(Stats::region))
+                .toList();
+    }
+
+    public record Stats(String region, long size, long hits, long misses, double hitRate, long evictions) {
+    }
+
+    private static final class CaffeineStorageAccess implements DomainDataStorageAccess {
+
+        private final String regionName;
+        private final Cache<Object, Object> cache;
+
+        private CaffeineStorageAccess(String regionName, Cache<Object, Object> cache) {
+            this.regionName = regionName;
+            this.cache = cache;
+        }
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            cache.put(key, value);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return cache.asMap().containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void release() {
+            cache.invalidateAll();
+            cache.cleanUp();
+        }
+
+        private Stats stats() {
+            CacheStats stats = cache.stats();
+            return new Stats(regionName, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                    stats.hitRate(), stats.evictionCount());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.jennifertellez.library.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "library.changes")
+public class ChangeFeedProperties {
+
+    // Longest a GET /api/changes request may wait for new changes
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    // Long polls allowed to wait at the same time
+    private int maxWaiters = 100;
+
+    // Most changes returned by one request
+    private int maxLimit = 1000;
+
+    // Unpublished rows given a seq per relay transaction
+    private int publishBatchSize = 500;
+
+    // Published changes older than this are pruned; readers further behind must resync
+    private Duration retention = Duration.ofDays(30);
+}
@@ -0,0 +1,39 @@
+package com.jennifertellez.library.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "library.circuit-breakers")
+public class CircuitBreakerProperties {
+
+    // Used for every source without its own entry
+    private Settings defaults = new Settings();
+
+    // Overrides keyed by source name: openLibrary, google, jikan
+    private Map<String, Settings> sources = new HashMap<>();
+
+    public Settings settingsFor(String source) {
+        return sources.getOrDefault(source, defaults);
+    }
+
+    @Data
+    public static class Settings {
+        // Open when this share of the recent calls failed or was slow, in percent
+        private int failureRateThreshold = 50;
+        private int slowCallRateThreshold = 80;
+        private Duration slowCallDuration = Duration.ofSeconds(2);
+
+        // Recent calls the rates are taken over, and how many are needed before judging
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+
+        // Time spent open before trial calls are let through, and how many trials decide
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+    }
+}
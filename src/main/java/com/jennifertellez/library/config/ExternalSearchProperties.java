@@ -0,0 +1,42 @@
+package com.jennifertellez.library.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "library.search")
+public class ExternalSearchProperties {
+
+    // Threads shared by all concurrent calls to the external book APIs
+    private int poolSize = 16;
+    private int queueCapacity = 100;
+
+    // Deadline for a source that has no entry in timeouts
+    private Duration defaultTimeout = Duration.ofSeconds(3);
+
+    // Per-source deadlines keyed by source name: openLibrary, google, jikan
+    private Map<String, Duration> timeouts = new HashMap<>();
+
+    // OpenLibrary ISBN lookups arriving within this window share one multi-bibkey request
+    private Duration isbnBatchWindow = Duration.ofMillis(10);
+    private int isbnBatchMaxSize = 50;
+    private int isbnBatchThreads = 4;
+
+    // When on, a slow OpenLibrary ISBN lookup is raced against Google Books after OpenLibrary's
+    // p95 latency, clamped to hedgeMinDelay, or after hedgeDefaultDelay before any calls are recorded
+    private boolean hedgeIsbnLookups = false;
+    private Duration hedgeMinDelay = Duration.ofMillis(100);
+    private Duration hedgeDefaultDelay = Duration.ofMillis(800);
+
+    // Hedged lookups get their own threads so a busy search fan-out cannot starve them
+    private int hedgePoolSize = 8;
+    private int hedgeQueueCapacity = 50;
+
+    public Duration timeoutFor(String source) {
+        return timeouts.getOrDefault(source, defaultTimeout);
+    }
+}
@@ -0,0 +1,17 @@
+package com.jennifertellez.library.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "library.goals.stream")
+public class GoalStreamProperties {
+
+    // How long one SSE connection stays open; EventSource reconnects on its own afterwards
+    private Duration timeout = Duration.ofMinutes(30);
+
+    // Open streams allowed per goal
+    private int maxSubscribersPerGoal = 100;
+}
@@ -0,0 +1,29 @@
+package com.jennifertellez.library.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "library.http")
+public class HttpClientProperties {
+
+    // HTTP_2 falls back to HTTP/1.1 for hosts that don't offer it
+    private HttpClient.Version version = HttpClient.Version.HTTP_2;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    // Longest wait for a response once connected, so a slow API can't hold a request thread
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    // Requests open at once to a single host, and how long a request may wait for a free slot
+    private int maxConnectionsPerHost = 20;
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+
+    // Idle pooled connections are closed after this long
+    private Duration keepAlive = Duration.ofSeconds(60);
+
+    private boolean gzip = true;
+}
@@ -0,0 +1,78 @@
+package com.jennifertellez.library.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * With ddl-auto=update Hibernate creates a missing id sequence starting at 1, even when the table already
+ * holds rows, and the first inserts then collide with existing ids. Before anything is saved, each pooled
+ * sequence whose next block could reach MAX(id) is moved past it, as docs/sql/migrate-to-pooled-sequences.sql
+ * does. PostgreSQL only; the H2 test schema is always created empty.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceCheck {
+
+    // Sequence per table, as declared by the entities' @SequenceGenerator
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "book_seq", "books",
+            "shelf_seq", "shelves",
+            "reading_goal_seq", "reading_goals"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    // Injected so the schema update has run before the sequences are read
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void alignSequences() {
+        if (!"PostgreSQL".equals(databaseProductName())) {
+            return;
+        }
+        SEQUENCES.forEach(this::align);
+    }
+
+    private void align(String sequence, String table) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT COALESCE(last_value + increment_by, start_value) AS next_value, increment_by " +
+                        "FROM pg_sequences WHERE schemaname = current_schema() AND sequencename = ?", sequence);
+        if (rows.isEmpty()) {
+            log.warn("Id sequence {} not found, inserts into {} will fail", sequence, table);
+            return;
+        }
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+
+        // Hibernate's pooled optimizer hands out next_value - increment + 1 .. next_value for the next nextval
+        long nextValue = ((Number) rows.get(0).get("next_value")).longValue();
+        long increment = ((Number) rows.get(0).get("increment_by")).longValue();
+        if (nextValue - increment + 1 > maxId) {
+            return;
+        }
+        log.warn("Id sequence {} would hand out ids from {} but {} already goes up to {}, moving it past MAX(id)",
+                sequence, nextValue - increment + 1, table, maxId);
+        jdbcTemplate.queryForObject("SELECT setval(CAST(? AS regclass), ?)", Long.class, sequence, maxId);
+    }
+
+    private String databaseProductName() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            return "unknown";
+        }
+    }
+}
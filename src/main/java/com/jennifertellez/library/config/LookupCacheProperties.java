@@ -0,0 +1,41 @@
+package com.jennifertellez.library.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "library.lookup-cache")
+public class LookupCacheProperties {
+
+    // Entries kept per cache before the least recently used are evicted
+    private long maxSize = 10_000;
+
+    // How long a found book is reused
+    private Duration ttl = Duration.ofHours(24);
+
+    // "Not found" answers are retried sooner in case the source adds the book
+    private Duration negativeTtl = Duration.ofMinutes(10);
+
+    private Disk disk = new Disk();
+
+    @Data
+    public static class Disk {
+
+        // Keep lookups in append-only segment files so a restart does not re-fetch them
+        private boolean enabled = false;
+
+        private String directory = "data/lookup-cache";
+
+        // A new segment is started once the active one reaches this size
+        private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+        // Rewrite the live entries once this fraction of the files is overwritten or expired
+        private double compactionThreshold = 0.5;
+
+        // Load up to max-size of the newest entries into memory at startup
+        private boolean warmUp = true;
+    }
+}
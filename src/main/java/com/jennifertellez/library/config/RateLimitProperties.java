@@ -0,0 +1,24 @@
+package com.jennifertellez.library.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "library.rate-limits")
+public class RateLimitProperties {
+
+    // Limits keyed by source name: openLibrary, google, jikan. Sources without an entry are unlimited.
+    private Map<String, Limit> sources = new HashMap<>();
+
+    @Data
+    public static class Limit {
+        private double permitsPerSecond;
+        private int burst = 1;
+        // Zero makes callers fail fast instead of waiting for a permit
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+}
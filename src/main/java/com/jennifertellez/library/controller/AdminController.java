@@ -0,0 +1,204 @@
+package com.jennifertellez.library.controller;
+
+import com.jennifertellez.library.client.CircuitBreaker;
+import com.jennifertellez.library.client.CircuitBreakerRegistry;
+import com.jennifertellez.library.client.HttpHostMetrics;
+import com.jennifertellez.library.client.LookupCache;
+import com.jennifertellez.library.client.LookupCacheManager;
+import com.jennifertellez.library.client.MicroBatcher;
+import com.jennifertellez.library.client.RateLimiterRegistry;
+import com.jennifertellez.library.client.SingleFlight;
+import com.jennifertellez.library.client.TokenBucketRateLimiter;
+import com.jennifertellez.library.config.CaffeineRegionFactory;
+import com.jennifertellez.library.service.BookEventDispatcher;
+import com.jennifertellez.library.service.BookLookupService;
+import com.jennifertellez.library.service.ChangeFeed;
+import com.jennifertellez.library.service.GoalProgressStream;
+import com.jennifertellez.library.service.OpenLibraryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Admin", description = "Operational metrics for the external book API clients")
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminController {
+
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final HttpHostMetrics httpHostMetrics;
+    private final LookupCacheManager lookupCacheManager;
+    private final OpenLibraryService openLibraryService;
+    private final BookLookupService bookLookupService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final GoalProgressStream goalProgressStream;
+    private final BookEventDispatcher bookEventDispatcher;
+    private final ChangeFeed changeFeed;
+
+    @Operation(
+            summary = "Get rate limiter metrics",
+            description = "Queue depth, granted/rejected permits and wait times per external source"
+    )
+    @GetMapping("/rate-limiters")
+    public ResponseEntity<List<TokenBucketRateLimiter.Stats>> getRateLimiters() {
+        log.info("GET /api/admin/rate-limiters - Fetching rate limiter metrics");
+        return ResponseEntity.ok(rateLimiterRegistry.stats());
+    }
+
+    @Operation(
+            summary = "Get circuit breaker state",
+            description = "State, failure and slow call rates and latency percentiles per external source"
+    )
+    @GetMapping("/circuit-breakers")
+    public ResponseEntity<List<CircuitBreaker.Stats>> getCircuitBreakers() {
+        log.info("GET /api/admin/circuit-breakers - Fetching circuit breaker state");
+        return ResponseEntity.ok(circuitBreakerRegistry.stats());
+    }
+
+    @Operation(
+            summary = "Reset a circuit breaker",
+            description = "Closes the breaker and forgets its recorded calls"
+    )
+    @PostMapping("/circuit-breakers/{name}/reset")
+    public ResponseEntity<Void> resetCircuitBreaker(@PathVariable String name) {
+        log.info("POST /api/admin/circuit-breakers/{}/reset - Resetting circuit breaker", name);
+        circuitBreakerRegistry.reset(name);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Get request batching metrics",
+            description = "Batches sent versus keys requested for each coalesced external lookup"
+    )
+    @GetMapping("/batchers")
+    public ResponseEntity<List<MicroBatcher.Stats>> getBatchers() {
+        log.info("GET /api/admin/batchers - Fetching request batching metrics");
+        return ResponseEntity.ok(List.of(openLibraryService.batchStats()));
+    }
+
+    @Operation(
+            summary = "Get single-flight metrics",
+            description = "Lookups requested versus lookups that joined one already in flight, per key type"
+    )
+    @GetMapping("/single-flights")
+    public ResponseEntity<List<SingleFlight.Stats>> getSingleFlights() {
+        log.info("GET /api/admin/single-flights - Fetching single-flight metrics");
+        return ResponseEntity.ok(bookLookupService.singleFlightStats());
+    }
+
+    @Operation(
+            summary = "Get HTTP connection metrics",
+            description = "Open connections, waiting requests and latency per external API host"
+    )
+    @GetMapping("/http-hosts")
+    public ResponseEntity<List<HttpHostMetrics.Stats>> getHttpHosts() {
+        log.info("GET /api/admin/http-hosts - Fetching HTTP connection metrics");
+        return ResponseEntity.ok(httpHostMetrics.stats());
+    }
+
+    @Operation(
+            summary = "Get lookup cache metrics",
+            description = "Size, hit rate and evictions for each external lookup cache"
+    )
+    @GetMapping("/caches")
+    public ResponseEntity<List<LookupCache.Stats>> getCaches() {
+        log.info("GET /api/admin/caches - Fetching lookup cache metrics");
+        return ResponseEntity.ok(lookupCacheManager.stats());
+    }
+
+    @Operation(
+            summary = "Get goal progress stream metrics",
+            description = "Goals being streamed, open SSE subscribers and progress recomputations so far"
+    )
+    @GetMapping("/goal-streams")
+    public ResponseEntity<GoalProgressStream.Stats> getGoalStreams() {
+        log.info("GET /api/admin/goal-streams - Fetching goal progress stream metrics");
+        return ResponseEntity.ok(goalProgressStream.stats());
+    }
+
+    @Operation(
+            summary = "Get book change event metrics",
+            description = "Per subscriber: changes queued and coalesced, batches delivered, queue overflows and how long the oldest queued change has waited"
+    )
+    @GetMapping("/book-events")
+    public ResponseEntity<List<BookEventDispatcher.Stats>> getBookEvents() {
+        log.info("GET /api/admin/book-events - Fetching book change event metrics");
+        return ResponseEntity.ok(bookEventDispatcher.stats());
+    }
+
+    @Operation(
+            summary = "Get change feed metrics",
+            description = "Changes published so far, long polls waiting and the newest seq"
+    )
+    @GetMapping("/change-feed")
+    public ResponseEntity<ChangeFeed.Stats> getChangeFeed() {
+        log.info("GET /api/admin/change-feed - Fetching change feed metrics");
+        return ResponseEntity.ok(changeFeed.stats());
+    }
+
+    @Operation(
+            summary = "Get entity cache metrics",
+            description = "Size, hit rate and evictions for each Hibernate second-level and query cache region"
+    )
+    @GetMapping("/entity-caches")
+    public ResponseEntity<List<CaffeineRegionFactory.Stats>> getEntityCaches() {
+        log.info("GET /api/admin/entity-caches - Fetching entity cache metrics");
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache().getRegionFactory();
+        if (regionFactory instanceof CaffeineRegionFactory caffeine) {
+            return ResponseEntity.ok(caffeine.stats());
+        }
+        return ResponseEntity.ok(List.of());
+    }
+
+    @Operation(
+            summary = "Clear all lookup caches",
+            description = "Drops every cached external lookup so the next request goes to the source"
+    )
+    @DeleteMapping("/caches")
+    public ResponseEntity<Void> clearCaches() {
+        log.info("DELETE /api/admin/caches - Clearing all lookup caches");
+        lookupCacheManager.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Clear one lookup cache",
+            description = "Drops a single key when one is given, otherwise the whole cache"
+    )
+    @DeleteMapping("/caches/{name}")
+    public ResponseEntity<Void> clearCache(
+            @PathVariable String name,
+            @RequestParam(required = false) String key) {
+        log.info("DELETE /api/admin/caches/{} - Clearing key: {}", name, key);
+        lookupCacheManager.invalidate(name, key);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Compact the on-disk lookup stores",
+            description = "Rewrites each store with only its live, unexpired entries"
+    )
+    @PostMapping("/caches/compact")
+    public ResponseEntity<Void> compactCaches() {
+        log.info("POST /api/admin/caches/compact - Compacting lookup stores");
+        lookupCacheManager.compactAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -3,12 +3,14 @@ package com.jennifertellez.library.controller;
 import com.jennifertellez.library.dto.*;
 import com.jennifertellez.library.model.BookSearchCriteria;
 import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.service.BookImportService;
 import com.jennifertellez.library.service.BookService;
 import com.jennifertellez.library.service.GoogleBooksService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,9 +18,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 
 @Tag(name = "Books", description = "Book management APIs")
@@ -30,6 +35,7 @@ public class BookController {
 
     private final BookService bookService;
     private final GoogleBooksService googleBooksService;
+    private final BookImportService bookImportService;
 
     @Operation(
             summary = "Create a new book",
@@ -48,6 +54,18 @@ public class BookController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(
+            summary = "Create many books at once",
+            description = "Inserts the books in JDBC batches within one transaction. Fails as a whole " +
+                    "if any ISBN is repeated or already in the library"
+    )
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BookResponse>> createBooks(@Valid @RequestBody BulkCreateBooksRequest request) {
+        log.info("POST /api/books/bulk - Creating {} books", request.getBooks().size());
+        List<BookResponse> response = bookService.createBooks(request.getBooks());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @PostMapping("/isbn/{isbn}")
     public ResponseEntity<BookResponse> createBookByIsbn(@PathVariable String isbn) {
         log.info("POST /api/books/isbn/{} - Creating book from ISBN or title", isbn);
@@ -66,6 +84,49 @@ public class BookController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(
+            summary = "Import books from a list of ISBNs",
+            description = "Accepts a JSON array of ISBNs and starts a background import. " +
+                    "Poll GET /api/books/import/{jobId} for progress and per-ISBN results"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import queued"),
+            @ApiResponse(responseCode = "400", description = "No ISBNs or too many ISBNs"),
+            @ApiResponse(responseCode = "429", description = "Too many imports already running")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportJobResponse> importBooks(@RequestBody List<String> isbns) {
+        log.info("POST /api/books/import - Importing {} ISBNs", isbns.size());
+        return accepted(bookImportService.startImport(isbns));
+    }
+
+    @Operation(
+            summary = "Import books from a CSV file",
+            description = "Reads the ISBN13 or ISBN column (or the first column without a header) " +
+                    "from a text/csv body and starts a background import"
+    )
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<ImportJobResponse> importBooksCsv(HttpServletRequest request) throws IOException {
+        log.info("POST /api/books/import - Importing ISBNs from CSV");
+        return accepted(bookImportService.startImport(request.getInputStream()));
+    }
+
+    @Operation(
+            summary = "Get import job progress",
+            description = "Counts so far and the outcome for every ISBN processed"
+    )
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable String jobId) {
+        log.info("GET /api/books/import/{} - Fetching import progress", jobId);
+        return ResponseEntity.ok(bookImportService.getJob(jobId));
+    }
+
+    private static ResponseEntity<ImportJobResponse> accepted(ImportJobResponse job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/books/import/" + job.getJobId()))
+                .body(job);
+    }
+
     @Operation(
             summary = "Get all books with pagination and sorting",
             description = "Retrieves books with pagination, sorting, and optional filtering"
@@ -87,7 +148,8 @@ public class BookController {
                 ? Sort.Direction.DESC
                 : Sort.Direction.ASC;
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+        Pageable pageable = PageRequest.of(page, Math.min(size, BookService.MAX_PAGE_SIZE),
+                Sort.by(sortDirection, sortBy));
 
         PageResponse<BookResponse> response;
 
@@ -104,6 +166,32 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "Get books with cursor pagination",
+            description = "Keyset pagination: pass the returned nextCursor to get the next slice. " +
+                    "Deep slices cost the same as the first; the total is only counted with includeTotal=true"
+    )
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<BookResponse>> scrollBooks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction,
+            @RequestParam(required = false) ReadingStatus status,
+            @RequestParam(required = false) String author,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.info("GET /api/books/scroll - size: {}, sortBy: {}, direction: {}", size, sortBy, direction);
+
+        BookSearchCriteria criteria = BookSearchCriteria.builder()
+                .status(status)
+                .author(author)
+                .build();
+
+        return ResponseEntity.ok(bookService.scrollBooks(
+                criteria, Sort.by(toDirection(direction), sortBy), size, cursor, includeTotal));
+    }
+
     @Operation(
             summary = "Get book by ID",
             description = "Retrieves a specific book by its ID"
@@ -167,7 +255,8 @@ public class BookController {
 
     @Operation(
             summary = "Search books with pagination",
-            description = "Search books by title, author, or description with pagination support"
+            description = "Search books by title, author, or description with pagination support. " +
+                    "Results are ranked by relevance unless sortBy names a field"
     )
 
     //Search for a specific book
@@ -176,11 +265,13 @@ public class BookController {
             @RequestParam String term,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "title") String sortBy) {
+            @RequestParam(defaultValue = "relevance") String sortBy) {
 
         log.info("GET /api/books/search?term={}&page={}&size={} - Searching books", term, page, size);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
+        Pageable pageable = "relevance".equals(sortBy)
+                ? PageRequest.of(page, Math.min(size, BookService.MAX_PAGE_SIZE))
+                : PageRequest.of(page, Math.min(size, BookService.MAX_PAGE_SIZE), Sort.by(sortBy));
         PageResponse<BookResponse> response = bookService.searchBooks(term, pageable);
 
         return ResponseEntity.ok(response);
@@ -222,12 +313,56 @@ public class BookController {
                 ? Sort.Direction.DESC
                 : Sort.Direction.ASC;
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+        Pageable pageable = PageRequest.of(page, Math.min(size, BookService.MAX_PAGE_SIZE),
+                Sort.by(sortDirection, sortBy));
         PageResponse<BookResponse> response = bookService.advanceSearch(criteria, pageable);
 
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+            summary = "Advanced search with cursor pagination",
+            description = "Same filters as advanced-search, paged with a continuation cursor instead of page numbers"
+    )
+    @GetMapping("/advanced-search/scroll")
+    public ResponseEntity<CursorPageResponse<BookResponse>> advanceSearchScroll(
+            @RequestParam(required = false) String term,
+            @RequestParam(required = false) ReadingStatus status,
+            @RequestParam(required = false) String author,
+            @RequestParam(required = false) Integer minRating,
+            @RequestParam(required = false) Integer maxRating,
+            @RequestParam(required = false) Integer minYear,
+            @RequestParam(required = false) Integer maxYear,
+            @RequestParam(required = false) Boolean hasIsbn,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.info("GET /api/books/advanced-search/scroll with filters");
+
+        BookSearchCriteria criteria = BookSearchCriteria.builder()
+                .searchTerm(term)
+                .status(status)
+                .author(author)
+                .minRating(minRating)
+                .maxRating(maxRating)
+                .minYear(minYear)
+                .maxYear(maxYear)
+                .hasIsbn(hasIsbn)
+                .build();
+
+        return ResponseEntity.ok(bookService.scrollBooks(
+                criteria, Sort.by(toDirection(direction), sortBy), size, cursor, includeTotal));
+    }
+
+    private static Sort.Direction toDirection(String direction) {
+        return direction.equalsIgnoreCase("DESC")
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+    }
+
     @Operation(
             summary = "Get Reading statistics",
             description = "Comprehensive statistics about your reading habits"
@@ -239,6 +374,17 @@ public class BookController {
         return ResponseEntity.ok(stats);
     }
 
+    @Operation(
+            summary = "Rebuild reading statistics",
+            description = "Recomputes the pre-aggregated statistics counters from the database"
+    )
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<ReadingStatsResponse> rebuildStatistics() {
+        log.info("POST /api/books/stats/rebuild - Rebuilding reading statistics");
+        bookService.rebuildReadingStatistics();
+        return ResponseEntity.ok(bookService.getReadingStatistics());
+    }
+
     @GetMapping("/search/title")
     public ResponseEntity<BookResponse> searchByTitle(@RequestParam String title) {
         log.info("POST /api/books/search/title - Searching for: {}", title);
@@ -0,0 +1,42 @@
+package com.jennifertellez.library.controller;
+
+import com.jennifertellez.library.dto.ChangeFeedResponse;
+import com.jennifertellez.library.service.ChangeFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@Tag(name = "Changes", description = "Feed of committed book, shelf and reading goal changes")
+@CrossOrigin(origins = "*")
+public class ChangeFeedController {
+
+    private final ChangeFeed changeFeed;
+
+    @GetMapping
+    @Operation(
+            summary = "Get changes after a position",
+            description = "Returns changes with seq greater than since, oldest first. Start with since=0 and pass nextSince " +
+                    "back on the next call. With waitSeconds the request is held until a change arrives or the wait ends. " +
+                    "resyncRequired means changes after since were pruned and a full sync is needed."
+    )
+    public DeferredResult<ChangeFeedResponse> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") int waitSeconds) {
+        log.debug("GET /api/changes - since={}, limit={}, waitSeconds={}", since, limit, waitSeconds);
+        return changeFeed.poll(since, limit, Duration.ofSeconds(waitSeconds));
+    }
+}
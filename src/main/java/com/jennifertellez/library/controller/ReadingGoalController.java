@@ -5,6 +5,7 @@ import com.jennifertellez.library.dto.GoalProgressDTO;
 import com.jennifertellez.library.dto.ReadingGoalDTO;
 import com.jennifertellez.library.dto.UpdateReadingGoalRequest;
 import com.jennifertellez.library.model.ReadingGoal;
+import com.jennifertellez.library.service.GoalProgressStream;
 import com.jennifertellez.library.service.ReadingGoalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,8 +13,10 @@ import jakarta.validation.Valid;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -25,6 +28,7 @@ import java.util.List;
 public class ReadingGoalController {
 
     private final ReadingGoalService readingGoalService;
+    private final GoalProgressStream goalProgressStream;
 
     @PostMapping
     @Operation(summary = "Create a new reading goal")
@@ -77,10 +81,24 @@ public class ReadingGoalController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/progress")
+    @Operation(summary = "Get progress statistics for all goals",
+            description = "Computes every goal's progress in one pass; pass year to limit it to that year's goals")
+    public ResponseEntity<List<GoalProgressDTO>> getAllGoalProgress(@RequestParam(required = false) Integer year) {
+        return ResponseEntity.ok(readingGoalService.getAllGoalProgress(year));
+    }
+
     @GetMapping("/{id}/progress")
     @Operation(summary = "Get progress statistics for a goal")
     public ResponseEntity<GoalProgressDTO> getGoalProgress(@PathVariable Long id) {
         GoalProgressDTO progress = readingGoalService.getGoalProgress(id);
         return ResponseEntity.ok(progress);
     }
+
+    @GetMapping(value = "/{id}/progress/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream progress for a goal",
+            description = "Sends the current progress, then a new 'progress' event whenever a finished book in the goal window changes")
+    public SseEmitter streamGoalProgress(@PathVariable Long id) {
+        return goalProgressStream.subscribe(id);
+    }
 }
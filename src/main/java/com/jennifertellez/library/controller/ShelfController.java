@@ -1,6 +1,10 @@
 package com.jennifertellez.library.controller;
 
+import com.jennifertellez.library.dto.BookResponse;
 import com.jennifertellez.library.dto.CreateShelfRequest;
+import com.jennifertellez.library.dto.PageResponse;
+import com.jennifertellez.library.dto.ShelfBooksRequest;
+import com.jennifertellez.library.dto.ShelfBooksUpdateResponse;
 import com.jennifertellez.library.dto.ShelfResponse;
 import com.jennifertellez.library.dto.UpdateShelfRequest;
 import com.jennifertellez.library.service.ShelfService;
@@ -11,6 +15,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -43,15 +50,44 @@ public class ShelfController {
 
     @Operation(
             summary = "Get all shelves",
-            description = "Retrieves all shelves in the library"
+            description = "Retrieves all shelves in the library. With summary=true only the book counts are " +
+                    "returned; page through a shelf's books with GET /api/shelves/{id}/books"
     )
     @GetMapping
-    public ResponseEntity<List<ShelfResponse>> getAllShelves() {
-        log.info("GET /api/shelves - Fetching all shelves");
-        List<ShelfResponse> shelves = shelfService.getAllShelves();
+    public ResponseEntity<List<ShelfResponse>> getAllShelves(
+            @RequestParam(defaultValue = "false") boolean summary) {
+        log.info("GET /api/shelves - Fetching all shelves, summary: {}", summary);
+        List<ShelfResponse> shelves = summary
+                ? shelfService.getShelfSummaries()
+                : shelfService.getAllShelves();
         return ResponseEntity.ok(shelves);
     }
 
+    @Operation(
+            summary = "Get the books on a shelf",
+            description = "Retrieves a shelf's books with pagination and sorting"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Books found"),
+            @ApiResponse(responseCode = "404", description = "Shelf not found")
+    })
+    @GetMapping("/{id}/books")
+    public ResponseEntity<PageResponse<BookResponse>> getShelfBooks(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "title") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+        log.info("GET /api/shelves/{}/books - page: {}, size: {}", id, page, size);
+
+        Sort.Direction sortDirection = direction.equalsIgnoreCase("DESC")
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        return ResponseEntity.ok(shelfService.getShelfBooks(id, pageable));
+    }
+
     @Operation(
             summary = "Get shelf by ID",
             description = "Retrieves a specific shelf by its ID"
@@ -112,4 +148,29 @@ public class ShelfController {
         ShelfResponse response = shelfService.removeBookFromShelf(shelfId, bookId);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(
+            summary = "Add many books to a shelf",
+            description = "Adds the listed books in one statement. Books already on the shelf are left alone, " +
+                    "and unknown IDs are reported instead of failing the request"
+    )
+    @PostMapping("/{id}/books")
+    public ResponseEntity<ShelfBooksUpdateResponse> addBooksToShelf(
+            @PathVariable Long id,
+            @Valid @RequestBody ShelfBooksRequest request) {
+        log.info("POST /api/shelves/{}/books - Adding {} books to shelf", id, request.getBookIds().size());
+        return ResponseEntity.ok(shelfService.addBooksToShelf(id, request.getBookIds()));
+    }
+
+    @Operation(
+            summary = "Remove many books from a shelf",
+            description = "Removes the listed books in one statement; books not on the shelf are ignored"
+    )
+    @DeleteMapping("/{id}/books")
+    public ResponseEntity<ShelfBooksUpdateResponse> removeBooksFromShelf(
+            @PathVariable Long id,
+            @Valid @RequestBody ShelfBooksRequest request) {
+        log.info("DELETE /api/shelves/{}/books - Removing {} books from shelf", id, request.getBookIds().size());
+        return ResponseEntity.ok(shelfService.removeBooksFromShelf(id, request.getBookIds()));
+    }
 }
@@ -0,0 +1,34 @@
+package com.jennifertellez.library.dto;
+
+import com.jennifertellez.library.model.ReadingStatus;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Published when a book is created, updated or deleted. before is null for a new book and after is null
+ * for a deleted one.
+ */
+public record BookChangedEvent(Long bookId, BookStatsSnapshot before, BookStatsSnapshot after) {
+
+    /**
+     * Whether the change can move progress for a goal running from start to end: the book was or is
+     * finished inside that window, and its status or finished date actually changed.
+     */
+    public boolean affectsGoalWindow(LocalDate start, LocalDate end) {
+        if (before != null && after != null
+                && before.getStatus() == after.getStatus()
+                && Objects.equals(before.getFinishedDate(), after.getFinishedDate())) {
+            return false;
+        }
+        return finishedWithin(before, start, end) || finishedWithin(after, start, end);
+    }
+
+    private static boolean finishedWithin(BookStatsSnapshot snapshot, LocalDate start, LocalDate end) {
+        return snapshot != null
+                && snapshot.getStatus() == ReadingStatus.FINISHED
+                && snapshot.getFinishedDate() != null
+                && !snapshot.getFinishedDate().isBefore(start)
+                && !snapshot.getFinishedDate().isAfter(end);
+    }
+}
@@ -0,0 +1,37 @@
+package com.jennifertellez.library.dto;
+
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The handful of book fields that reading statistics are derived from.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookStatsSnapshot {
+
+    private ReadingStatus status;
+    private Integer rating;
+    private String author;
+    private Integer pageCount;
+    private LocalDate finishedDate;
+    private LocalDateTime createdAt;
+
+    public static BookStatsSnapshot of(Book book) {
+        return new BookStatsSnapshot(
+                book.getStatus(),
+                book.getRating(),
+                book.getAuthor(),
+                book.getPageCount(),
+                book.getFinishedDate(),
+                book.getCreatedAt()
+        );
+    }
+}
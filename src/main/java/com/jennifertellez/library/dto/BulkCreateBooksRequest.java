@@ -0,0 +1,20 @@
+package com.jennifertellez.library.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateBooksRequest {
+
+    @NotEmpty(message = "At least one book is required")
+    @Size(max = 10000, message = "At most 10000 books can be created at once")
+    private List<@Valid CreateBookRequest> books;
+}
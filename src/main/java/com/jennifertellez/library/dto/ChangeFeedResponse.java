@@ -0,0 +1,32 @@
+package com.jennifertellez.library.dto;
+
+import com.jennifertellez.library.model.ChangeOutboxEntry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse {
+
+    private List<Change> changes;
+
+    // Pass back as "since" on the next request; unchanged when nothing new arrived
+    private long nextSince;
+
+    // True when changes after "since" were already pruned, so the reader has to do a full sync first
+    private boolean resyncRequired;
+
+    public record Change(long seq, ChangeOutboxEntry.EntityType entityType, Long entityId,
+                         ChangeOutboxEntry.Operation operation, LocalDateTime changedAt) {
+
+        public static Change of(ChangeOutboxEntry entry) {
+            return new Change(entry.getSeq(), entry.getEntityType(), entry.getEntityId(),
+                    entry.getOperation(), entry.getChangedAt());
+        }
+    }
+}
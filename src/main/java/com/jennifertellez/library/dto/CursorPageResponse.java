@@ -0,0 +1,23 @@
+package com.jennifertellez.library.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+
+    // Pass back as "cursor" to get the next slice; null on the last one
+    private String nextCursor;
+
+    // Only filled in when includeTotal=true, since it costs a COUNT over the whole filter
+    private Long totalElements;
+}
@@ -1,7 +1,7 @@
 package com.jennifertellez.library.dto;
 
-import com.jennifertellez.library.model.Book;
 import com.jennifertellez.library.model.ReadingGoal;
+import com.jennifertellez.library.repository.projection.RecentlyFinishedBook;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -43,7 +43,7 @@ public class GoalProgressDTO {
     private Boolean onTrack;
 
     // Recently finished books in this goal period
-    private List<Book> recentlyFinished;
+    private List<RecentlyFinishedBook> recentlyFinished;
 
     // Monthly stats
     private Map<String, Integer> monthlyBreakdown = new HashMap<>();
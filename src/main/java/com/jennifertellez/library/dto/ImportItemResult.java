@@ -0,0 +1,21 @@
+package com.jennifertellez.library.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportItemResult {
+
+    public enum Status {
+        IMPORTED, DUPLICATE, INVALID, NOT_FOUND, FAILED
+    }
+
+    private String isbn;
+    private Status status;
+    private Long bookId;
+    private String title;
+    private String message;
+}
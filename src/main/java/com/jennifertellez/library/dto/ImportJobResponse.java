@@ -0,0 +1,33 @@
+package com.jennifertellez.library.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponse {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String jobId;
+    private Status status;
+    private int total;
+    private int processed;
+    private int imported;
+    private int duplicates;
+    private int invalid;
+    private int notFound;
+    private int failed;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private List<ImportItemResult> results;
+}
@@ -15,4 +15,8 @@ public class MultiSourceSearchResponse {
     private String query;
     private List<BookSearchResult> results;
     private Integer totalResults;
+    // Sources that missed their deadline and are not in results
+    private List<String> timedOutSources;
+    // Sources that errored or could not be started because the lookup pool was full
+    private List<String> failedSources;
 }
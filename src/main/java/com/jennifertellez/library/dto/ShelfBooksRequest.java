@@ -0,0 +1,19 @@
+package com.jennifertellez.library.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShelfBooksRequest {
+
+    @NotEmpty(message = "At least one book ID is required")
+    @Size(max = 5000, message = "At most 5000 books can be moved at once")
+    private List<Long> bookIds;
+}
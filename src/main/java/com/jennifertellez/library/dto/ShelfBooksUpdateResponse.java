@@ -0,0 +1,22 @@
+package com.jennifertellez.library.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShelfBooksUpdateResponse {
+
+    private Long shelfId;
+    private int requested;
+    // Rows actually added or removed; books already in the requested state are not counted
+    private int changed;
+    private List<Long> notFoundBookIds;
+    private long bookCount;
+}
@@ -0,0 +1,7 @@
+package com.jennifertellez.library.exception;
+
+public class CircuitBreakerOpenException extends RuntimeException {
+    public CircuitBreakerOpenException(String breakerName) {
+        super("Circuit breaker open for " + breakerName);
+    }
+}
@@ -0,0 +1,7 @@
+package com.jennifertellez.library.exception;
+
+public class RateLimitExceededException extends RuntimeException {
+    public RateLimitExceededException(String limiterName) {
+        super("Rate limit exceeded for " + limiterName);
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,17 +16,22 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "books", indexes = {
         @Index(name = "idx_isbn", columnList = "isbn"),
-        @Index(name = "idx_title", columnList = "title")
+        @Index(name = "idx_title", columnList = "title"),
+        @Index(name = "idx_books_status_finished_date", columnList = "status, finished_date")
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Book {
 
+    // Pooled sequence: one round trip hands out 50 ids, and inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+    @SequenceGenerator(name = "book_seq", sequenceName = "book_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, length = 13)
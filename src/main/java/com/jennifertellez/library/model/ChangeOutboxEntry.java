@@ -0,0 +1,53 @@
+package com.jennifertellez.library.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One committed change to a book, shelf or reading goal, written by ChangeOutbox in the same transaction
+ * as the change itself. seq stays null until ChangeFeed publishes the row; it is handed out only to
+ * committed rows, in the order they are published, so a reader that has seen seq N never later finds
+ * a smaller one appearing.
+ */
+@Entity
+@Table(name = "change_outbox", indexes = {
+        @Index(name = "idx_change_outbox_seq", columnList = "seq", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeOutboxEntry {
+
+    public enum EntityType {
+        BOOK, SHELF, READING_GOAL
+    }
+
+    public enum Operation {
+        CREATED, UPDATED, DELETED
+    }
+
+    // Rows are only ever inserted with plain JDBC, so the database assigns the id
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Operation operation;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,34 @@
+package com.jennifertellez.library.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * One row per day with reading activity, kept in step with the books table by ReadingActivityRollup.
+ * finishedCount and pagesRead cover books with status FINISHED on their finished date;
+ * startedCount covers books by their start date.
+ */
+@Entity
+@Table(name = "reading_activity_daily")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingActivityDaily {
+
+    @Id
+    @Column(name = "activity_date")
+    private LocalDate activityDate;
+
+    @Column(name = "finished_count", nullable = false)
+    private long finishedCount;
+
+    @Column(name = "pages_read", nullable = false)
+    private long pagesRead;
+
+    @Column(name = "started_count", nullable = false)
+    private long startedCount;
+}
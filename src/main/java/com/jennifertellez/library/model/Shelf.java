@@ -5,6 +5,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -12,6 +14,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "shelves")
 @Getter
 @Setter
@@ -22,7 +26,8 @@ import java.util.Set;
 public class Shelf {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shelf_seq")
+    @SequenceGenerator(name = "shelf_seq", sequenceName = "shelf_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Shelf name is required")
@@ -33,6 +38,7 @@ public class Shelf {
     private String description;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
             name = "book_shelf",
             joinColumns = @JoinColumn(name = "shelf_id"),
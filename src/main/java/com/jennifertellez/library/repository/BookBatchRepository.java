@@ -0,0 +1,14 @@
+package com.jennifertellez.library.repository;
+
+import com.jennifertellez.library.model.Book;
+
+import java.util.List;
+
+public interface BookBatchRepository {
+
+    /**
+     * Insert new books with one JDBC batch, bypassing the persistence context.
+     * Generated ids and timestamps are written back onto the given books.
+     */
+    void insertAll(List<Book> books);
+}
@@ -0,0 +1,80 @@
+package com.jennifertellez.library.repository;
+
+import com.jennifertellez.library.model.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Picked up by Spring Data as the implementation of the BookBatchRepository fragment
+@RequiredArgsConstructor
+public class BookBatchRepositoryImpl implements BookBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO books (id, isbn, title, author, description, " +
+            "published_date, page_count, thumbnail_url, status, date_started, finished_date, rating, notes, " +
+            "mal_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<Book> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+
+        // Ids come from Hibernate's own pooled generator, so they never collide with books saved through JPA
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Book.class).getGenerator();
+        LocalDateTime now = LocalDateTime.now();
+        for (Book book : books) {
+            book.setId((Long) generator.generate(session, book, null, EventType.INSERT));
+            book.setCreatedAt(now);
+            book.setUpdatedAt(now);
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Book book = books.get(i);
+                ps.setLong(1, book.getId());
+                ps.setString(2, book.getIsbn());
+                ps.setString(3, book.getTitle());
+                ps.setString(4, book.getAuthor());
+                ps.setString(5, book.getDescription());
+                ps.setString(6, book.getPublishedDate());
+                ps.setObject(7, book.getPageCount(), Types.INTEGER);
+                ps.setString(8, book.getThumbnail());
+                ps.setString(9, book.getStatus().name());
+                ps.setDate(10, book.getDateStarted() == null ? null : Date.valueOf(book.getDateStarted()));
+                ps.setDate(11, book.getFinishedDate() == null ? null : Date.valueOf(book.getFinishedDate()));
+                ps.setObject(12, book.getRating(), Types.INTEGER);
+                ps.setString(13, book.getNotes());
+                ps.setObject(14, book.getMalId(), Types.BIGINT);
+                ps.setTimestamp(15, timestamp);
+                ps.setTimestamp(16, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return books.size();
+            }
+        });
+    }
+}
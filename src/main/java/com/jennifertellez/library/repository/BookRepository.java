@@ -1,7 +1,10 @@
 package com.jennifertellez.library.repository;
 
+import com.jennifertellez.library.dto.BookStatsSnapshot;
 import com.jennifertellez.library.model.Book;
 import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.projection.*;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,34 +14,80 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>,
+        BookBatchRepository, BookSummaryRepository {
 
     Optional<Book> findByIsbn(String isbn);
 
     boolean existsByIsbn(String isbn);
 
+    //Which of the given ISBNs are already in the library, in one round trip
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    @Query("SELECT b.id FROM Book b WHERE b.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     List<Book> findByStatus(ReadingStatus status);
 
+    //Books on one shelf, a page at a time
+    @Query(value = "SELECT b FROM Book b JOIN b.shelves s WHERE s.id = :shelfId",
+            countQuery = "SELECT COUNT(b) FROM Book b JOIN b.shelves s WHERE s.id = :shelfId")
+    Page<Book> findByShelfId(@Param("shelfId") Long shelfId, Pageable pageable);
+
     List<Book> findByAuthorContainingIgnoreCase(String author);
 
     List<Book> findByTitleContainingIgnoreCase(String title);
 
-    @Query("SELECT b FROM Book b WHERE " +
-            "LOWER(b.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-            "LOWER(b.author) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-            "LOWER(b.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    List<Book> searchBooks(@Param("searchTerm") String searchTerm);
+    //Ids of books containing the term, in the pageable's sort order
+    @Query(value = "SELECT b.id FROM Book b WHERE " +
+            "LOWER(b.title) LIKE :pattern OR " +
+            "LOWER(b.author) LIKE :pattern OR " +
+            "LOWER(b.description) LIKE :pattern",
+            countQuery = "SELECT COUNT(b) FROM Book b WHERE " +
+                    "LOWER(b.title) LIKE :pattern OR " +
+                    "LOWER(b.author) LIKE :pattern OR " +
+                    "LOWER(b.description) LIKE :pattern")
+    Page<Long> searchBookIds(@Param("pattern") String pattern, Pageable pageable);
+
+    //Ids of books containing the term, exact and leading title matches first, then title, author, description
+    @Query(value = "SELECT b.id FROM Book b WHERE " +
+            "LOWER(b.title) LIKE :pattern OR " +
+            "LOWER(b.author) LIKE :pattern OR " +
+            "LOWER(b.description) LIKE :pattern " +
+            "ORDER BY CASE " +
+            "WHEN LOWER(b.title) = :term THEN 0 " +
+            "WHEN LOWER(b.title) LIKE :prefix THEN 1 " +
+            "WHEN LOWER(b.title) LIKE :pattern THEN 2 " +
+            "WHEN LOWER(b.author) LIKE :pattern THEN 3 " +
+            "ELSE 4 END, b.title, b.id",
+            countQuery = "SELECT COUNT(b) FROM Book b WHERE " +
+                    "LOWER(b.title) LIKE :pattern OR " +
+                    "LOWER(b.author) LIKE :pattern OR " +
+                    "LOWER(b.description) LIKE :pattern")
+    Page<Long> searchBookIdsRanked(@Param("term") String term,
+                                   @Param("prefix") String prefix,
+                                   @Param("pattern") String pattern,
+                                   Pageable pageable);
 
-    //Search books with pagination support
-    @Query("SELECT b FROM Book b WHERE " +
-            "LOWER(b.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-            "LOWER(b.author) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-            "LOWER(b.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    Page<Book> searchBooks(@Param("searchTerm") String searchTerm, Pageable pageable);
+    //Restrict a set of search hits to one sorted page
+    @Query(value = "SELECT b.id FROM Book b WHERE b.id IN :ids",
+            countQuery = "SELECT COUNT(b) FROM Book b WHERE b.id IN :ids")
+    Page<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids, Pageable pageable);
+
+    //Text fields for the in-memory search index, read in id order one batch at a time
+    @Query("SELECT b.id AS id, b.title AS title, b.author AS author, b.description AS description " +
+            "FROM Book b WHERE b.id > :afterId ORDER BY b.id")
+    List<SearchDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    //Detects changes made while a search index snapshot was on disk
+    @Query("SELECT COUNT(b) AS total, MAX(b.updatedAt) AS lastUpdated FROM Book b")
+    IndexWatermark findIndexWatermark();
 
     //Find books by status with pagination
     Page<Book> findByStatus(ReadingStatus status, Pageable pageable);
@@ -46,8 +95,60 @@ public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificat
     //Find books by author with pagination
     Page<Book> findByAuthorContainingIgnoreCase(String author, Pageable pageable);
 
-    List<Book> findByStatusAndFinishedDateBetween(ReadingStatus status, LocalDate startDate, LocalDate endDate);
+    //What the daily activity rollup should hold, recomputed from books when it is reconciled
+    @Query("SELECT new com.jennifertellez.library.repository.projection.DailyActivity(" +
+            "b.finishedDate, COUNT(b), COALESCE(SUM(b.pageCount), 0L)) FROM Book b " +
+            "WHERE b.status = :status AND b.finishedDate IS NOT NULL GROUP BY b.finishedDate")
+    List<DailyActivity> countByStatusAndFinishedDay(@Param("status") ReadingStatus status);
+
+    @Query("SELECT new com.jennifertellez.library.repository.projection.DailyActivity(" +
+            "b.dateStarted, COUNT(b), 0L) FROM Book b WHERE b.dateStarted IS NOT NULL GROUP BY b.dateStarted")
+    List<DailyActivity> countStartedByDay();
+
+    //Most recently finished books in a window, newest first; pass a Limit for the top N
+    @Query("SELECT new com.jennifertellez.library.repository.projection.RecentlyFinishedBook(" +
+            "b.id, b.title, b.author, b.thumbnail, b.finishedDate) FROM Book b " +
+            "WHERE b.status = :status AND b.finishedDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY b.finishedDate DESC, b.id DESC")
+    List<RecentlyFinishedBook> findRecentlyFinished(@Param("status") ReadingStatus status,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate,
+                                                    Limit limit);
 
     Optional<Book> findByMalId(Long malId);
 
+    @Query("SELECT new com.jennifertellez.library.dto.BookStatsSnapshot(" +
+            "b.status, b.rating, b.author, b.pageCount, b.finishedDate, b.createdAt) FROM Book b WHERE b.id = :id")
+    Optional<BookStatsSnapshot> findStatsSnapshotById(@Param("id") Long id);
+
+    //Aggregates for reading statistics, computed in the database
+    @Query("SELECT b.status AS status, COUNT(b) AS total FROM Book b GROUP BY b.status")
+    List<StatusCount> countByStatus();
+
+    @Query("SELECT b.rating AS rating, COUNT(b) AS total FROM Book b " +
+            "WHERE b.rating IS NOT NULL GROUP BY b.rating")
+    List<RatingCount> countByRating();
+
+    //Only FINISHED books count as read, the same rule as the daily activity rollup
+    @Query("SELECT YEAR(b.finishedDate) AS period, COUNT(b) AS total FROM Book b " +
+            "WHERE b.status = com.jennifertellez.library.model.ReadingStatus.FINISHED " +
+            "AND b.finishedDate IS NOT NULL GROUP BY YEAR(b.finishedDate)")
+    List<YearCount> countFinishedByYear();
+
+    @Query("SELECT YEAR(b.createdAt) AS period, COUNT(b) AS total FROM Book b GROUP BY YEAR(b.createdAt)")
+    List<YearCount> countCreatedByYear();
+
+    //Ordered by count, pass a page size to get the top N authors
+    @Query("SELECT b.author AS author, COUNT(b) AS total FROM Book b " +
+            "WHERE b.author IS NOT NULL AND b.author <> '' " +
+            "GROUP BY b.author ORDER BY COUNT(b) DESC, b.author ASC")
+    List<AuthorCount> countByAuthor(Pageable pageable);
+
+    @Query("SELECT COUNT(DISTINCT b.author) FROM Book b WHERE b.author IS NOT NULL AND b.author <> ''")
+    long countDistinctAuthors();
+
+    @Query("SELECT COALESCE(SUM(b.pageCount), 0) AS pageSum, COUNT(b) AS booksWithPages FROM Book b " +
+            "WHERE b.pageCount > 0")
+    PageTotals sumPageCounts();
+
 }
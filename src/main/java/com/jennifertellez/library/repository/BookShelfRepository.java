@@ -1,13 +1,18 @@
 package com.jennifertellez.library.repository;
 
 import com.jennifertellez.library.model.BookShelf;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+
 @Repository
 public interface BookShelfRepository extends JpaRepository<BookShelf, Long> {
 
@@ -15,4 +20,30 @@ public interface BookShelfRepository extends JpaRepository<BookShelf, Long> {
     @Query("DELETE FROM BookShelf bs WHERE bs.book.id = :bookId")
     void deleteByBookId(@Param("bookId") Long bookId);
 
+    //Add every existing book in the list that is not on the shelf yet, in one statement.
+    //Hibernate only drops a cached collection when the table of its element entity is a native space, so
+    //books is listed next to book_shelf to evict Shelf.books; without spaces it would evict every cache region
+    @Modifying(flushAutomatically = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "book_shelf"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "books")
+    })
+    @Query(value = "INSERT INTO book_shelf (shelf_id, book_id) " +
+            "SELECT :shelfId, b.id FROM books b WHERE b.id IN (:bookIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM book_shelf bs WHERE bs.shelf_id = :shelfId AND bs.book_id = b.id)",
+            nativeQuery = true)
+    int addBooksToShelf(@Param("shelfId") Long shelfId, @Param("bookIds") Collection<Long> bookIds);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "book_shelf"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "books")
+    })
+    @Query(value = "DELETE FROM book_shelf WHERE shelf_id = :shelfId AND book_id IN (:bookIds)",
+            nativeQuery = true)
+    int removeBooksFromShelf(@Param("shelfId") Long shelfId, @Param("bookIds") Collection<Long> bookIds);
+
+    @Query(value = "SELECT COUNT(*) FROM book_shelf WHERE shelf_id = :shelfId", nativeQuery = true)
+    long countByShelfId(@Param("shelfId") Long shelfId);
+
 }
@@ -14,18 +14,7 @@ public class BookSpecification {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            // Search term - searches in title, author, and description
-            if (criteria.getSearchTerm() != null && !criteria.getSearchTerm().isEmpty()) {
-                String searchPattern = "%" + criteria.getSearchTerm().toLowerCase() + "%";
-                Predicate titlePredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("title")), searchPattern);
-                Predicate authorPredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("author")), searchPattern);
-                Predicate descriptionPredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("description")), searchPattern);
-
-                predicates.add(criteriaBuilder.or(titlePredicate, authorPredicate, descriptionPredicate));
-            }
+            // The search term is matched by the configured BookSearchEngine, see containsTerm
 
             // Filter by status
             if (criteria.getStatus() != null) {
@@ -71,4 +60,19 @@ public class BookSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    // Search term - searches in title, author, and description
+    public static Specification<Book> containsTerm(String searchTerm) {
+        return (root, query, criteriaBuilder) -> {
+            String searchPattern = "%" + searchTerm.trim().toLowerCase() + "%";
+            Predicate titlePredicate = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("title")), searchPattern);
+            Predicate authorPredicate = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("author")), searchPattern);
+            Predicate descriptionPredicate = criteriaBuilder.like(
+                    criteriaBuilder.lower(root.get("description")), searchPattern);
+
+            return criteriaBuilder.or(titlePredicate, authorPredicate, descriptionPredicate);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.jennifertellez.library.repository;
+
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.repository.projection.BookSummary;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BookSummaryRepository {
+
+    /**
+     * One page of summaries for the books matching the specification, which may be null to match every book.
+     */
+    Page<BookSummary> findSummaries(Specification<Book> spec, Pageable pageable);
+
+    /**
+     * Summaries of the given books, in no particular order.
+     */
+    List<BookSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    /**
+     * Up to limit summaries after the keyset position, in sort order. The sort may only use id, title and createdAt.
+     */
+    Window<BookSummary> scrollSummaries(Specification<Book> spec, Sort sort, KeysetScrollPosition position, int limit);
+}
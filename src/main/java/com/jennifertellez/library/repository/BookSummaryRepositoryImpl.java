@@ -0,0 +1,161 @@
+package com.jennifertellez.library.repository;
+
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.repository.projection.BookSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Picked up by Spring Data as the implementation of the BookSummaryRepository fragment
+public class BookSummaryRepositoryImpl implements BookSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<BookSummary> findSummaries(Specification<Book> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookSummary> query = cb.createQuery(BookSummary.class);
+        Root<Book> root = query.from(Book.class);
+        select(query, root, cb);
+        Predicate predicate = toPredicate(spec, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<BookSummary> typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            List<BookSummary> content = typedQuery.getResultList();
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize());
+
+        // Skips the count when the first page already shows the total
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<BookSummary> findSummariesByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookSummary> query = cb.createQuery(BookSummary.class);
+        Root<Book> root = query.from(Book.class);
+        select(query, root, cb);
+        query.where(root.get("id").in(ids));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public Window<BookSummary> scrollSummaries(Specification<Book> spec, Sort sort, KeysetScrollPosition position,
+                                               int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookSummary> query = cb.createQuery(BookSummary.class);
+        Root<Book> root = query.from(Book.class);
+        select(query, root, cb);
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate predicate = toPredicate(spec, root, query, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (!position.getKeys().isEmpty()) {
+            predicates.add(after(position.getKeys(), sort, root, cb));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        // One extra row tells whether there is a next window
+        List<BookSummary> rows = entityManager.createQuery(query).setMaxResults(limit + 1).getResultList();
+        List<BookSummary> content = rows.size() > limit ? rows.subList(0, limit) : rows;
+        return Window.from(content, index -> ScrollPosition.forward(keysOf(content.get(index), sort)),
+                rows.size() > limit);
+    }
+
+    // (a > :a) OR (a = :a AND b > :b) ..., with < for descending columns
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate after(Map<String, ?> keys, Sort sort, Root<Book> root, CriteriaBuilder cb) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalSoFar = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<Comparable> path = root.get(order.getProperty());
+            Comparable value = (Comparable) keys.get(order.getProperty());
+            List<Predicate> alternative = new ArrayList<>(equalSoFar);
+            alternative.add(order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+            alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+            equalSoFar.add(cb.equal(path, value));
+        }
+        return cb.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    private static Map<String, Object> keysOf(BookSummary summary, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            keys.put(order.getProperty(), switch (order.getProperty()) {
+                case "id" -> summary.id();
+                case "title" -> summary.title();
+                case "createdAt" -> summary.createdAt();
+                default -> throw new IllegalArgumentException("Cannot scroll by " + order.getProperty());
+            });
+        }
+        return keys;
+    }
+
+    private long count(Specification<Book> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Book> root = query.from(Book.class);
+        query.select(cb.count(root));
+        Predicate predicate = toPredicate(spec, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate toPredicate(Specification<Book> spec, Root<Book> root, CriteriaQuery<?> query,
+                                         CriteriaBuilder cb) {
+        return spec == null ? null : spec.toPredicate(root, query, cb);
+    }
+
+    private static void select(CriteriaQuery<BookSummary> query, Root<Book> root, CriteriaBuilder cb) {
+        query.select(cb.construct(BookSummary.class,
+                root.get("id"),
+                root.get("isbn"),
+                root.get("title"),
+                root.get("author"),
+                root.get("publishedDate"),
+                root.get("pageCount"),
+                root.get("thumbnail"),
+                root.get("status"),
+                root.get("finishedDate"),
+                root.get("rating"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+    }
+}
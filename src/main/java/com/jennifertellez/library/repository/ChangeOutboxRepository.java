@@ -0,0 +1,35 @@
+package com.jennifertellez.library.repository;
+
+import com.jennifertellez.library.model.ChangeOutboxEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChangeOutboxRepository extends JpaRepository<ChangeOutboxEntry, Long> {
+
+    //Published changes after a reader's position, an index range scan on seq
+    List<ChangeOutboxEntry> findBySeqGreaterThanOrderBySeq(Long since, Limit limit);
+
+    //Committed rows still waiting for a seq, oldest first
+    @Query("SELECT e.id FROM ChangeOutboxEntry e WHERE e.seq IS NULL ORDER BY e.id")
+    List<Long> findUnpublishedIds(Limit limit);
+
+    @Query("SELECT COALESCE(MAX(e.seq), 0) FROM ChangeOutboxEntry e")
+    long findLastSeq();
+
+    @Query("SELECT MIN(e.seq) FROM ChangeOutboxEntry e")
+    Long findFirstSeq();
+
+    //Never removes the newest row, so seq keeps counting up from it
+    @Modifying
+    @Query("DELETE FROM ChangeOutboxEntry e WHERE e.seq IS NOT NULL AND e.changedAt < :cutoff " +
+            "AND e.seq < (SELECT MAX(l.seq) FROM ChangeOutboxEntry l)")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,50 @@
+package com.jennifertellez.library.repository;
+
+import com.jennifertellez.library.model.ReadingActivityDaily;
+import com.jennifertellez.library.repository.projection.MonthlyActivity;
+import com.jennifertellez.library.repository.projection.YearCount;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reads over the daily activity rollup. The range queries are native on purpose: Hibernate flushes
+ * pending book changes before a native query, so the rollup rows they touch are current.
+ */
+@Repository
+public interface ReadingActivityRepository extends JpaRepository<ReadingActivityDaily, LocalDate> {
+
+    //Finished books per month of a goal window
+    @Query(value = "SELECT EXTRACT(YEAR FROM activity_date) AS period_year, " +
+            "EXTRACT(MONTH FROM activity_date) AS period_month, SUM(finished_count) AS finished " +
+            "FROM reading_activity_daily WHERE activity_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY EXTRACT(YEAR FROM activity_date), EXTRACT(MONTH FROM activity_date)",
+            nativeQuery = true)
+    List<MonthlyActivity> sumFinishedByMonth(@Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    //Days with finished books across a span of goals, oldest first, for the multi-goal sweep
+    @Query(value = "SELECT * FROM reading_activity_daily " +
+            "WHERE activity_date BETWEEN :startDate AND :endDate AND finished_count > 0 " +
+            "ORDER BY activity_date",
+            nativeQuery = true)
+    List<ReadingActivityDaily> findFinishedDays(@Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
+
+    @Query(value = "SELECT EXTRACT(YEAR FROM activity_date) AS period, SUM(finished_count) AS total " +
+            "FROM reading_activity_daily GROUP BY EXTRACT(YEAR FROM activity_date) " +
+            "HAVING SUM(finished_count) > 0",
+            nativeQuery = true)
+    List<YearCount> sumFinishedByYear();
+
+    //Locks the existing rollup rows only; a day inserted meanwhile is not covered, so the repair guards that separately
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM ReadingActivityDaily a")
+    List<ReadingActivityDaily> findAllForUpdate();
+}
@@ -1,8 +1,11 @@
 package com.jennifertellez.library.repository;
 
 import com.jennifertellez.library.model.ReadingGoal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -12,7 +15,8 @@ import java.util.Optional;
 @Repository
 public interface ReadingGoalRepository extends JpaRepository<ReadingGoal, Long> {
 
-    // Find the current active goal
+    // Find the current active goal; cached until reading_goals is next written
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ReadingGoal> findByIsActiveTrue();
 
     // Find all goals for a specific year
@@ -28,6 +32,7 @@ public interface ReadingGoalRepository extends JpaRepository<ReadingGoal, Long>
     boolean existsOverlappingGoal(Long excludeId, LocalDate startDate, LocalDate endDate);
 
     // Find current goal (overlaps with today)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT g FROM ReadingGoal g WHERE " +
             "g.startDate <= :date AND g.endDate >= :date")
     Optional<ReadingGoal> findCurrentGoal(LocalDate date);
@@ -1,9 +1,16 @@
 package com.jennifertellez.library.repository;
 
 import com.jennifertellez.library.model.Shelf;
+import com.jennifertellez.library.repository.projection.ShelfSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,5 +18,17 @@ public interface ShelfRepository extends JpaRepository<Shelf, Long> {
 
     Optional<Shelf> findByName(String name);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByName(String name);
+
+    //Load every shelf together with its books in one query instead of one query per shelf
+    @EntityGraph(attributePaths = "books")
+    @Query("SELECT s FROM Shelf s")
+    List<Shelf> findAllWithBooks();
+
+    //Shelves with their book counts, without loading any books
+    @Query("SELECT s.id AS id, s.name AS name, s.description AS description, s.createdAt AS createdAt, " +
+            "COUNT(b.id) AS bookCount FROM Shelf s LEFT JOIN s.books b " +
+            "GROUP BY s.id, s.name, s.description, s.createdAt ORDER BY s.name")
+    List<ShelfSummary> findSummaries();
 }
@@ -0,0 +1,25 @@
+package com.jennifertellez.library.repository.projection;
+
+import com.jennifertellez.library.model.ReadingStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The columns a book card needs. Leaves out the long description and notes columns.
+ */
+public record BookSummary(
+        Long id,
+        String isbn,
+        String title,
+        String author,
+        String publishedDate,
+        Integer pageCount,
+        String thumbnail,
+        ReadingStatus status,
+        LocalDate finishedDate,
+        Integer rating,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.jennifertellez.library.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Activity for one day recomputed from the books table, used to check the rollup.
+ */
+public record DailyActivity(LocalDate day, Long books, Long pages) {
+}
@@ -0,0 +1,10 @@
+package com.jennifertellez.library.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface IndexWatermark {
+
+    Long getTotal();
+
+    LocalDateTime getLastUpdated();
+}
@@ -0,0 +1,15 @@
+package com.jennifertellez.library.repository.projection;
+
+public interface MonthlyActivity {
+
+    Integer getPeriodYear();
+
+    Integer getPeriodMonth();
+
+    Long getFinished();
+
+    // Same yyyy-MM key as GoalProgressDTO.monthlyBreakdown
+    default String key() {
+        return getPeriodYear() + "-" + String.format("%02d", getPeriodMonth());
+    }
+}
@@ -0,0 +1,8 @@
+package com.jennifertellez.library.repository.projection;
+
+public interface PageTotals {
+
+    Long getPageSum();
+
+    Long getBooksWithPages();
+}
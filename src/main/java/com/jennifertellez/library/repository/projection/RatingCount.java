@@ -0,0 +1,8 @@
+package com.jennifertellez.library.repository.projection;
+
+public interface RatingCount {
+
+    Integer getRating();
+
+    Long getTotal();
+}
@@ -0,0 +1,9 @@
+package com.jennifertellez.library.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * What the goal progress card shows for a recently finished book.
+ */
+public record RecentlyFinishedBook(Long id, String title, String author, String thumbnail, LocalDate finishedDate) {
+}
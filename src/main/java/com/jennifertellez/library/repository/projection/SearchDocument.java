@@ -0,0 +1,12 @@
+package com.jennifertellez.library.repository.projection;
+
+public interface SearchDocument {
+
+    Long getId();
+
+    String getTitle();
+
+    String getAuthor();
+
+    String getDescription();
+}
@@ -0,0 +1,16 @@
+package com.jennifertellez.library.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ShelfSummary {
+
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    LocalDateTime getCreatedAt();
+
+    Long getBookCount();
+}
@@ -0,0 +1,10 @@
+package com.jennifertellez.library.repository.projection;
+
+import com.jennifertellez.library.model.ReadingStatus;
+
+public interface StatusCount {
+
+    ReadingStatus getStatus();
+
+    Long getTotal();
+}
@@ -0,0 +1,8 @@
+package com.jennifertellez.library.repository.projection;
+
+public interface YearCount {
+
+    Integer getPeriod();
+
+    Long getTotal();
+}
@@ -0,0 +1,37 @@
+package com.jennifertellez.library.search;
+
+import com.jennifertellez.library.model.Book;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Matches a free-text term against book title, author and description.
+ * Selected with {@code library.book-search.engine}.
+ */
+public interface BookSearchEngine {
+
+    /**
+     * Ids of the books matching the term. Best matches come first unless the pageable carries
+     * its own sort.
+     */
+    Page<Long> search(String term, Pageable pageable);
+
+    /**
+     * The same match as a specification, for combining with the advanced search filters.
+     */
+    Specification<Book> matching(String term);
+
+    /**
+     * Called after a book is created or updated. Engines that query the database directly
+     * have nothing to do.
+     */
+    default void onBookSaved(Book book) {
+    }
+
+    /**
+     * Called after a book is deleted.
+     */
+    default void onBookDeleted(Long id) {
+    }
+}
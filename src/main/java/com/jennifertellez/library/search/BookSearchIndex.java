@@ -0,0 +1,456 @@
+package com.jennifertellez.library.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over book title, author and description.
+ *
+ * <p>Each term maps to a posting list of book ids and weighted term frequencies, kept as
+ * delta-encoded varints plus a small sorted buffer of recent changes that is merged in once it
+ * grows. Queries match every word, the last one as a prefix, and are ranked with BM25 where a
+ * title occurrence counts three times and an author occurrence twice.</p>
+ */
+public class BookSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 3;
+    private static final int AUTHOR_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int SNAPSHOT_MAGIC = 0x424B4958;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    /**
+     * Split text into lowercase words, dropping punctuation.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Add a book, replacing whatever was indexed for it before.
+     */
+    public void index(long id, String title, String author, String description) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        addTokens(frequencies, title, TITLE_WEIGHT);
+        addTokens(frequencies, author, AUTHOR_WEIGHT);
+        addTokens(frequencies, description, DESCRIPTION_WEIGHT);
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            String[] terms = new String[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                PostingList list = postings.computeIfAbsent(entry.getKey(), term -> new PostingList());
+                list.add(id, entry.getValue());
+                // Share the dictionary's copy of the term
+                terms[i++] = postings.ceilingKey(entry.getKey());
+            }
+            docs.put(id, new Doc(terms, length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addTokens(Map<String, Integer> frequencies, String text, int weight) {
+        for (String token : tokenize(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Doc previous = docs.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            PostingList list = postings.get(term);
+            list.remove(id);
+            if (list.size() == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= previous.length();
+    }
+
+    /**
+     * Rank the books matching every word of the query and return one page of ids, best first.
+     */
+    public Result search(String query, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<Long, double[]> scores = score(query);
+            int wanted = (int) Math.min(scores.size(), offset + limit);
+            if (wanted <= offset) {
+                return new Result(List.of(), scores.size());
+            }
+
+            // Keep only the top offset + limit hits instead of sorting them all
+            Comparator<Map.Entry<Long, double[]>> byRank =
+                    Comparator.<Map.Entry<Long, double[]>>comparingDouble(entry -> entry.getValue()[0])
+                            .thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+            PriorityQueue<Map.Entry<Long, double[]>> top = new PriorityQueue<>(wanted, byRank);
+            for (Map.Entry<Long, double[]> entry : scores.entrySet()) {
+                if (top.size() < wanted) {
+                    top.add(entry);
+                } else if (byRank.compare(entry, top.peek()) > 0) {
+                    top.poll();
+                    top.add(entry);
+                }
+            }
+
+            List<Long> ranked = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ranked.add(top.poll().getKey());
+            }
+            Collections.reverse(ranked);
+            return new Result(ranked.subList((int) offset, ranked.size()), scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of every book matching the query, in id order.
+     */
+    public List<Long> matchingIds(String query) {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>(score(query).keySet());
+            Collections.sort(ids);
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, double[]> score(String query) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || docs.isEmpty()) {
+            return Map.of();
+        }
+
+        // Each word expands to its matching dictionary terms; the last word matches as a prefix
+        List<Map<String, PostingList>> words = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            Map<String, PostingList> terms = i == tokens.size() - 1
+                    ? postings.subMap(token, true, token + Character.MAX_VALUE, true)
+                    : exact(token);
+            if (terms.isEmpty()) {
+                return Map.of();
+            }
+            words.add(terms);
+        }
+        // Rarest word first keeps the candidate set small
+        words.sort(Comparator.comparingLong(terms -> terms.values().stream().mapToLong(PostingList::size).sum()));
+
+        double averageLength = (double) totalLength / docs.size();
+        Map<Long, double[]> scores = null;
+        for (Map<String, PostingList> terms : words) {
+            Map<Long, double[]> matched = new HashMap<>();
+            Map<Long, double[]> candidates = scores;
+            for (PostingList list : terms.values()) {
+                double idf = Math.log(1 + (docs.size() - list.size() + 0.5) / (list.size() + 0.5));
+                list.forEach((id, tf) -> {
+                    if (candidates != null && !candidates.containsKey(id)) {
+                        return;
+                    }
+                    double norm = K1 * (1 - B + B * docs.get(id).length() / averageLength);
+                    double score = idf * tf * (K1 + 1) / (tf + norm);
+                    matched.computeIfAbsent(id, key -> new double[1])[0] += score;
+                });
+            }
+            if (candidates != null) {
+                matched.forEach((id, score) -> score[0] += candidates.get(id)[0]);
+            }
+            scores = matched;
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    private Map<String, PostingList> exact(String token) {
+        PostingList list = postings.get(token);
+        return list == null ? Map.of() : Map.of(token, list);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Write the dictionary, posting lists and per-book term lists so the index can be loaded
+     * without touching the database. The book count and last update time let the reader tell
+     * whether the table changed since.
+     */
+    public void writeSnapshot(OutputStream output, long bookCount, long lastUpdated) throws IOException {
+        // Exclusive because every posting list is compacted before it is written
+        lock.writeLock().lock();
+        try {
+            DataOutputStream out = new DataOutputStream(output);
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(bookCount);
+            out.writeLong(lastUpdated);
+
+            Map<String, Integer> termIds = new HashMap<>(postings.size() * 2);
+            out.writeInt(postings.size());
+            for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+                termIds.put(entry.getKey(), termIds.size());
+                out.writeUTF(entry.getKey());
+                PostingList list = entry.getValue();
+                list.compact();
+                out.writeInt(list.size());
+                out.writeInt(list.packedLength);
+                out.write(list.packed, 0, list.packedLength);
+            }
+
+            out.writeInt(docs.size());
+            for (Map.Entry<Long, Doc> entry : docs.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue().length());
+                out.writeInt(entry.getValue().terms().length);
+                for (String term : entry.getValue().terms()) {
+                    out.writeInt(termIds.get(term));
+                }
+            }
+            out.flush();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Read a snapshot written by {@link #writeSnapshot}.
+     *
+     * @throws IOException if the stream is not a snapshot of this version
+     */
+    public static Snapshot readSnapshot(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Not a book search index snapshot");
+        }
+        long bookCount = in.readLong();
+        long lastUpdated = in.readLong();
+
+        BookSearchIndex index = new BookSearchIndex();
+        int termCount = in.readInt();
+        String[] terms = new String[termCount];
+        for (int i = 0; i < termCount; i++) {
+            terms[i] = in.readUTF();
+            PostingList list = new PostingList();
+            list.size = in.readInt();
+            list.packedSize = list.size;
+            list.packedLength = in.readInt();
+            list.packed = new byte[list.packedLength];
+            in.readFully(list.packed);
+            index.postings.put(terms[i], list);
+        }
+
+        int docCount = in.readInt();
+        for (int i = 0; i < docCount; i++) {
+            long id = in.readLong();
+            int length = in.readInt();
+            String[] docTerms = new String[in.readInt()];
+            for (int t = 0; t < docTerms.length; t++) {
+                docTerms[t] = terms[in.readInt()];
+            }
+            index.docs.put(id, new Doc(docTerms, length));
+            index.totalLength += length;
+        }
+        return new Snapshot(index, bookCount, lastUpdated);
+    }
+
+    public record Result(List<Long> ids, int totalHits) {
+    }
+
+    public record Snapshot(BookSearchIndex index, long bookCount, long lastUpdated) {
+    }
+
+    private record Doc(String[] terms, int length) {
+    }
+
+    @FunctionalInterface
+    private interface PostingConsumer {
+        void accept(long id, int tf);
+    }
+
+    /**
+     * Sorted (id, tf) pairs. The bulk is delta/varint encoded; recent adds and removes sit in a
+     * small buffer (tf 0 marks a removal) until it is worth re-encoding.
+     */
+    private static final class PostingList {
+
+        private static final byte[] EMPTY = new byte[0];
+
+        private byte[] packed = EMPTY;
+        private int packedLength;
+        private int packedSize;
+        private final TreeMap<Long, Integer> pending = new TreeMap<>();
+        private int size;
+
+        void add(long id, int tf) {
+            pending.put(id, tf);
+            size++;
+            compactIfLarge();
+        }
+
+        void remove(long id) {
+            pending.put(id, 0);
+            size--;
+            compactIfLarge();
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void compactIfLarge() {
+            if (pending.size() > 32 + packedSize / 8) {
+                compact();
+            }
+        }
+
+        void compact() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            byte[] buffer = new byte[Math.max(16, packedLength + pending.size() * 20)];
+            int[] position = {0};
+            long[] previous = {0};
+            forEach((id, tf) -> {
+                position[0] = writeVarLong(buffer, position[0], id - previous[0]);
+                position[0] = writeVarLong(buffer, position[0], tf);
+                previous[0] = id;
+            });
+            packed = Arrays.copyOf(buffer, position[0]);
+            packedLength = position[0];
+            packedSize = size;
+            pending.clear();
+        }
+
+        void forEach(PostingConsumer consumer) {
+            Iterator<Map.Entry<Long, Integer>> changes = pending.entrySet().iterator();
+            Map.Entry<Long, Integer> change = changes.hasNext() ? changes.next() : null;
+
+            int position = 0;
+            long id = 0;
+            long[] decoded = new long[2];
+            while (position < packedLength) {
+                position = readVarLong(packed, position, decoded);
+                id += decoded[0];
+                position = readVarLong(packed, position, decoded);
+                int tf = (int) decoded[0];
+
+                while (change != null && change.getKey() < id) {
+                    if (change.getValue() > 0) {
+                        consumer.accept(change.getKey(), change.getValue());
+                    }
+                    change = changes.hasNext() ? changes.next() : null;
+                }
+                if (change != null && change.getKey() == id) {
+                    // The buffered change replaces the packed entry
+                    if (change.getValue() > 0) {
+                        consumer.accept(id, change.getValue());
+                    }
+                    change = changes.hasNext() ? changes.next() : null;
+                } else {
+                    consumer.accept(id, tf);
+                }
+            }
+            while (change != null) {
+                if (change.getValue() > 0) {
+                    consumer.accept(change.getKey(), change.getValue());
+                }
+                change = changes.hasNext() ? changes.next() : null;
+            }
+        }
+
+        private static int writeVarLong(byte[] buffer, int position, long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+            return position;
+        }
+
+        private static int readVarLong(byte[] buffer, int position, long[] result) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            result[0] = value;
+            return position;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.jennifertellez.library.search;
+
+import com.jennifertellez.library.config.BookSearchProperties;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.projection.IndexWatermark;
+import com.jennifertellez.library.repository.projection.SearchDocument;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Serves searches from an in-memory {@link BookSearchIndex} kept in sync by the book service.
+ *
+ * <p>The index is loaded from its snapshot file at startup when the book table has not changed
+ * since it was written, and rebuilt from the database otherwise. Until it is ready, and for
+ * sorted or advanced searches whose matches are too many to pass as an id list, searches fall
+ * back to the LIKE engine.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "library.book-search.engine", havingValue = "index")
+@Slf4j
+public class InvertedIndexBookSearchEngine implements BookSearchEngine {
+
+    private final BookRepository bookRepository;
+    private final BookSearchProperties.Index properties;
+    private final LikeBookSearchEngine fallback;
+
+    private volatile BookSearchIndex index = new BookSearchIndex();
+    private volatile boolean ready;
+    // Changes committed while a rebuild is reading the table, replayed onto the new index
+    private List<Consumer<BookSearchIndex>> changesDuringRebuild;
+
+    public InvertedIndexBookSearchEngine(BookRepository bookRepository, BookSearchProperties properties) {
+        this.bookRepository = bookRepository;
+        this.properties = properties.getIndex();
+        this.fallback = new LikeBookSearchEngine(bookRepository);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!loadSnapshot()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Re-read every book into a fresh index and swap it in.
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        IndexWatermark watermark = bookRepository.findIndexWatermark();
+
+        BookSearchIndex rebuilt = new BookSearchIndex();
+        long lastId = 0;
+        Pageable batch = Pageable.ofSize(properties.getRebuildBatchSize());
+        List<SearchDocument> documents;
+        do {
+            documents = bookRepository.findSearchDocumentsAfter(lastId, batch);
+            for (SearchDocument document : documents) {
+                rebuilt.index(document.getId(), document.getTitle(), document.getAuthor(), document.getDescription());
+                lastId = document.getId();
+            }
+        } while (documents.size() == properties.getRebuildBatchSize());
+
+        synchronized (this) {
+            changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changesDuringRebuild = null;
+            index = rebuilt;
+            ready = true;
+        }
+        log.info("Built book search index with {} books and {} terms in {}ms",
+                rebuilt.size(), rebuilt.termCount(), System.currentTimeMillis() - start);
+        saveSnapshot(watermark);
+    }
+
+    @Override
+    public Page<Long> search(String term, Pageable pageable) {
+        if (!ready) {
+            return fallback.search(term, pageable);
+        }
+
+        BookSearchIndex current = index;
+        if (pageable.getSort().isSorted()) {
+            List<Long> ids = current.matchingIds(term);
+            if (ids.size() > properties.getMaxIdFilter()) {
+                return fallback.search(term, pageable);
+            }
+            return ids.isEmpty() ? Page.empty(pageable) : bookRepository.findIdsByIdIn(ids, pageable);
+        }
+
+        if (pageable.isUnpaged()) {
+            BookSearchIndex.Result result = current.search(term, 0, Integer.MAX_VALUE);
+            return new PageImpl<>(result.ids());
+        }
+        BookSearchIndex.Result result = current.search(term, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(result.ids(), pageable, result.totalHits());
+    }
+
+    @Override
+    public Specification<Book> matching(String term) {
+        if (!ready) {
+            return fallback.matching(term);
+        }
+        List<Long> ids = index.matchingIds(term);
+        if (ids.size() > properties.getMaxIdFilter()) {
+            return fallback.matching(term);
+        }
+        return (root, query, criteriaBuilder) -> ids.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : root.get("id").in(ids);
+    }
+
+    @Override
+    public void onBookSaved(Book book) {
+        Long id = book.getId();
+        String title = book.getTitle();
+        String author = book.getAuthor();
+        String description = book.getDescription();
+        afterCommit(target -> target.index(id, title, author, description));
+    }
+
+    @Override
+    public void onBookDeleted(Long id) {
+        afterCommit(target -> target.remove(id));
+    }
+
+    // The index must only change once the book row is actually committed
+    private void afterCommit(Consumer<BookSearchIndex> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private synchronized void apply(Consumer<BookSearchIndex> change) {
+        change.accept(index);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ready && properties.isSnapshotEnabled()) {
+            saveSnapshot(bookRepository.findIndexWatermark());
+        }
+    }
+
+    private boolean loadSnapshot() {
+        if (!properties.isSnapshotEnabled()) {
+            return false;
+        }
+        Path file = Path.of(properties.getSnapshotFile());
+        if (!Files.exists(file)) {
+            return false;
+        }
+
+        long start = System.currentTimeMillis();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            BookSearchIndex.Snapshot snapshot = BookSearchIndex.readSnapshot(in);
+            IndexWatermark current = bookRepository.findIndexWatermark();
+            if (snapshot.bookCount() != current.getTotal() || snapshot.lastUpdated() != lastUpdatedOf(current)) {
+                log.info("Book search index snapshot is stale, rebuilding");
+                return false;
+            }
+            synchronized (this) {
+                index = snapshot.index();
+                ready = true;
+            }
+            log.info("Loaded book search index snapshot with {} books in {}ms",
+                    snapshot.index().size(), System.currentTimeMillis() - start);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not load book search index snapshot {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    private void saveSnapshot(IndexWatermark watermark) {
+        if (!properties.isSnapshotEnabled()) {
+            return;
+        }
+        Path file = Path.of(properties.getSnapshotFile());
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            // Write next to the target and rename so a crash never leaves half a snapshot
+            Path temp = Files.createTempFile(parent, "books", ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                index.writeSnapshot(out, watermark.getTotal(), lastUpdatedOf(watermark));
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not save book search index snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static long lastUpdatedOf(IndexWatermark watermark) {
+        return watermark.getLastUpdated() == null
+                ? 0
+                : watermark.getLastUpdated().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,43 @@
+package com.jennifertellez.library.search;
+
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.BookSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * Portable search using LIKE, ranked by where the term was found. Works on any database,
+ * including H2 in tests, but has to scan every row.
+ */
+@Component
+@ConditionalOnProperty(name = "library.book-search.engine", havingValue = "like", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LikeBookSearchEngine implements BookSearchEngine {
+
+    private final BookRepository bookRepository;
+
+    @Override
+    public Page<Long> search(String term, Pageable pageable) {
+        String normalized = term.trim().toLowerCase();
+        String pattern = "%" + normalized + "%";
+
+        if (pageable.getSort().isSorted()) {
+            return bookRepository.searchBookIds(pattern, pageable);
+        }
+        Pageable unsorted = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+                : pageable;
+        return bookRepository.searchBookIdsRanked(normalized, normalized + "%", pattern, unsorted);
+    }
+
+    @Override
+    public Specification<Book> matching(String term) {
+        return BookSpecification.containsTerm(term);
+    }
+}
@@ -0,0 +1,89 @@
+package com.jennifertellez.library.search;
+
+import com.jennifertellez.library.model.Book;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL full-text search over a GIN-indexed tsvector, with pg_trgm indexes catching
+ * partial words the tsvector misses. Results are ranked by ts_rank_cd plus title similarity.
+ *
+ * <p>Needs the functions and indexes from {@code docs/sql/create-book-search-index.sql}.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "library.book-search.engine", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresBookSearchEngine implements BookSearchEngine {
+
+    private static final String MATCH =
+            "book_matches(b.title, b.author, b.description, :term)";
+
+    private static final String RANK =
+            "ts_rank_cd(book_search_vector(b.title, b.author, b.description), " +
+                    "websearch_to_tsquery('simple', :term)) + similarity(lower(b.title), lower(:term))";
+
+    // Sortable properties and their columns; anything else falls back to relevance
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "b.id",
+            "title", "b.title",
+            "author", "b.author",
+            "publishedDate", "b.published_date",
+            "pageCount", "b.page_count",
+            "rating", "b.rating",
+            "status", "b.status",
+            "finishedDate", "b.finished_date",
+            "createdAt", "b.created_at",
+            "updatedAt", "b.updated_at"
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Page<Long> search(String term, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource("term", term.trim());
+
+        StringBuilder sql = new StringBuilder("SELECT b.id FROM books b WHERE ")
+                .append(MATCH)
+                .append(" ORDER BY ")
+                .append(orderBy(pageable.getSort()));
+        if (pageable.isPaged()) {
+            sql.append(" LIMIT :limit OFFSET :offset");
+            params.addValue("limit", pageable.getPageSize());
+            params.addValue("offset", pageable.getOffset());
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(sql.toString(), params, Long.class);
+
+        // The count is skipped when the page shows the total already
+        return PageableExecutionUtils.getPage(ids, pageable, () -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books b WHERE " + MATCH, params, Long.class));
+    }
+
+    private String orderBy(Sort sort) {
+        String columns = sort.stream()
+                .filter(order -> SORT_COLUMNS.containsKey(order.getProperty()))
+                .map(order -> SORT_COLUMNS.get(order.getProperty()) + (order.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", "));
+        return columns.isEmpty() ? RANK + " DESC, b.id" : columns + ", b.id";
+    }
+
+    @Override
+    public Specification<Book> matching(String term) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.isTrue(criteriaBuilder.function(
+                "book_matches", Boolean.class,
+                root.get("title"), root.get("author"), root.get("description"),
+                criteriaBuilder.literal(term.trim())));
+    }
+}
@@ -0,0 +1,27 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.dto.BookChangedEvent;
+
+import java.util.List;
+
+/**
+ * A view derived from books that is kept up to date by BookEventDispatcher. Calls arrive on a
+ * dispatcher thread after the change has committed, never two at once for the same subscriber.
+ */
+public interface BookChangeSubscriber {
+
+    // Shown in the dispatcher metrics
+    String subscriberName();
+
+    /**
+     * Committed changes in commit order, at most one per book: several changes to a book while it
+     * was queued arrive as one event from its first before to its last after.
+     */
+    void onBookChanges(List<BookChangedEvent> changes);
+
+    /**
+     * Called instead of onBookChanges when the subscriber fell so far behind that queued changes
+     * were dropped; it should rebuild whatever it derives from the books table.
+     */
+    void onOverflow();
+}
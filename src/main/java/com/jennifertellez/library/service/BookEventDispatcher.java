@@ -0,0 +1,166 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.config.BookEventProperties;
+import com.jennifertellez.library.dto.BookChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Fans committed book changes out to every BookChangeSubscriber without holding up the write.
+ * Each subscriber has its own bounded queue keyed by book id, so a burst of writes to one book
+ * collapses into a single change that keeps its place in the queue, and is drained in batches on
+ * the shared executor. A subscriber
+ * whose queue fills up loses the queued changes and is asked to resync once it next runs.
+ */
+@Slf4j
+@Component
+public class BookEventDispatcher {
+
+    private final List<Lane> lanes;
+    private final Executor executor;
+    private final BookEventProperties properties;
+
+    public BookEventDispatcher(List<BookChangeSubscriber> subscribers,
+                               @Qualifier("bookEventExecutor") Executor executor,
+                               BookEventProperties properties) {
+        this.lanes = subscribers.stream().map(Lane::new).toList();
+        this.executor = executor;
+        this.properties = properties;
+        log.info("Dispatching book changes to {}", subscribers.stream().map(BookChangeSubscriber::subscriberName).toList());
+    }
+
+    // Runs once the book transaction has committed, or straight away when there was none
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        lanes.forEach(lane -> lane.offer(event));
+    }
+
+    public List<Stats> stats() {
+        return lanes.stream().map(Lane::stats).toList();
+    }
+
+    public record Stats(String subscriber, int queued, long published, long coalesced, long delivered,
+                        long batches, int largestBatch, long overflows, long dropped, long failures,
+                        long oldestQueuedMillis) {
+    }
+
+    private record Queued(BookChangedEvent event, long queuedAt) {
+    }
+
+    private final class Lane {
+
+        private final BookChangeSubscriber subscriber;
+        // In arrival order; replacing a coalesced entry keeps its position and enqueue time
+        private final Map<Long, Queued> queued = new LinkedHashMap<>();
+
+        private boolean scheduled;
+        private boolean overflowed;
+        private long published;
+        private long coalesced;
+        private long delivered;
+        private long batches;
+        private int largestBatch;
+        private long overflows;
+        private long dropped;
+        private long failures;
+
+        Lane(BookChangeSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void offer(BookChangedEvent event) {
+            synchronized (this) {
+                published++;
+                Queued earlier = queued.get(event.bookId());
+                if (earlier != null) {
+                    coalesced++;
+                    // Created and deleted again before delivery: the subscriber never needs to see it
+                    if (earlier.event().before() == null && event.after() == null) {
+                        queued.remove(event.bookId());
+                        return;
+                    }
+                    queued.put(event.bookId(), new Queued(
+                            new BookChangedEvent(event.bookId(), earlier.event().before(), event.after()),
+                            earlier.queuedAt()));
+                    return;
+                }
+                if (queued.size() >= properties.getQueueCapacity()) {
+                    overflows++;
+                    dropped += queued.size() + 1;
+                    queued.clear();
+                    overflowed = true;
+                    log.warn("Book change queue for {} is full, it will resync", subscriber.subscriberName());
+                    schedule();
+                    return;
+                }
+                queued.put(event.bookId(), new Queued(event, System.currentTimeMillis()));
+                schedule();
+            }
+        }
+
+        // One batch per task, so a busy subscriber cannot keep a thread from the others
+        void drain() {
+            boolean resync;
+            List<BookChangedEvent> batch = new ArrayList<>();
+            synchronized (this) {
+                resync = overflowed;
+                overflowed = false;
+                if (!resync) {
+                    Iterator<Queued> pending = queued.values().iterator();
+                    while (pending.hasNext() && batch.size() < properties.getMaxBatchSize()) {
+                        batch.add(pending.next().event());
+                        pending.remove();
+                    }
+                }
+            }
+
+            try {
+                if (resync) {
+                    subscriber.onOverflow();
+                } else if (!batch.isEmpty()) {
+                    subscriber.onBookChanges(batch);
+                }
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    failures++;
+                }
+                log.warn("{} failed on {} book changes: {}", subscriber.subscriberName(), batch.size(), e.getMessage());
+            }
+
+            synchronized (this) {
+                delivered += batch.size();
+                if (!batch.isEmpty()) {
+                    batches++;
+                    largestBatch = Math.max(largestBatch, batch.size());
+                }
+                scheduled = false;
+                if (overflowed || !queued.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void schedule() {
+            if (!scheduled) {
+                scheduled = true;
+                executor.execute(this::drain);
+            }
+        }
+
+        synchronized Stats stats() {
+            long waiting = queued.isEmpty() ? 0
+                    : System.currentTimeMillis() - queued.values().iterator().next().queuedAt();
+            return new Stats(subscriber.subscriberName(), queued.size(), published, coalesced, delivered,
+                    batches, largestBatch, overflows, dropped, failures, waiting);
+        }
+    }
+}
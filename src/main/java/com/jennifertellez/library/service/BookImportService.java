@@ -0,0 +1,395 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.config.BookImportProperties;
+import com.jennifertellez.library.dto.BookStatsSnapshot;
+import com.jennifertellez.library.dto.ImportItemResult;
+import com.jennifertellez.library.dto.ImportJobResponse;
+import com.jennifertellez.library.exception.RateLimitExceededException;
+import com.jennifertellez.library.exception.ResourceNotFoundException;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.search.BookSearchEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Imports many ISBNs as a background job.
+ *
+ * <p>ISBNs already in the library are found with one query. The rest are resolved against
+ * OpenLibrary a chunk at a time, then looked up a few at a time on a dedicated pool (the
+ * per-source rate limiters still apply), and found books are written with JDBC batch inserts
+ * while later lookups are still running.</p>
+ */
+@Service
+@Slf4j
+public class BookImportService {
+
+    private final BookRepository bookRepository;
+    private final BookLookupService bookLookupService;
+    private final ReadingStatsEngine readingStatsEngine;
+    private final BookSearchEngine bookSearchEngine;
+    private final ReadingActivityRollup readingActivityRollup;
+    private final ChangeOutbox changeOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor jobExecutor;
+    private final Executor lookupExecutor;
+    private final BookImportProperties properties;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public BookImportService(BookRepository bookRepository,
+                             BookLookupService bookLookupService,
+                             ReadingStatsEngine readingStatsEngine,
+                             BookSearchEngine bookSearchEngine,
+                             ReadingActivityRollup readingActivityRollup,
+                             ChangeOutbox changeOutbox,
+                             TransactionTemplate transactionTemplate,
+                             @Qualifier("bookImportExecutor") Executor jobExecutor,
+                             @Qualifier("importLookupExecutor") Executor lookupExecutor,
+                             BookImportProperties properties) {
+        this.bookRepository = bookRepository;
+        this.bookLookupService = bookLookupService;
+        this.readingStatsEngine = readingStatsEngine;
+        this.bookSearchEngine = bookSearchEngine;
+        this.readingActivityRollup = readingActivityRollup;
+        this.changeOutbox = changeOutbox;
+        this.transactionTemplate = transactionTemplate;
+        this.jobExecutor = jobExecutor;
+        this.lookupExecutor = lookupExecutor;
+        this.properties = properties;
+    }
+
+    /**
+     * Queue an import and return straight away; poll {@link #getJob(String)} for progress.
+     */
+    public ImportJobResponse startImport(List<String> isbns) {
+        if (isbns == null || isbns.isEmpty()) {
+            throw new IllegalArgumentException("No ISBNs to import");
+        }
+        if (isbns.size() > properties.getMaxIsbns()) {
+            throw new IllegalArgumentException(
+                    "Too many ISBNs: " + isbns.size() + " (at most " + properties.getMaxIsbns() + " per import)");
+        }
+        evictExpiredJobs();
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), isbns.size());
+        jobs.put(job.id, job);
+        try {
+            jobExecutor.execute(() -> run(job, List.copyOf(isbns)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new RateLimitExceededException("book imports");
+        }
+
+        log.info("Queued import {} with {} ISBNs", job.id, isbns.size());
+        return job.toResponse();
+    }
+
+    /**
+     * Queue an import from a CSV body. Uses the ISBN13 or ISBN column when there is a header row,
+     * otherwise the first column. Reading stops as soon as the body holds more ISBNs than one import allows.
+     */
+    public ImportJobResponse startImport(InputStream csv) throws IOException {
+        return startImport(readIsbnColumn(csv, properties.getMaxIsbns()));
+    }
+
+    public ImportJobResponse getJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job not found with id: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    private void run(ImportJob job, List<String> isbns) {
+        job.start();
+        long start = System.currentTimeMillis();
+        try {
+            // Step 1: Clean, validate and drop repeats within the request
+            Set<String> candidates = new LinkedHashSet<>();
+            for (String raw : isbns) {
+                String cleanIsbn = BookLookupService.cleanIsbn(raw);
+                if (!BookLookupService.isValidIsbn(cleanIsbn)) {
+                    job.record(result(raw, ImportItemResult.Status.INVALID, "ISBN must be 10 or 13 digits"));
+                } else if (!candidates.add(cleanIsbn)) {
+                    job.record(result(cleanIsbn, ImportItemResult.Status.DUPLICATE, "Listed more than once"));
+                }
+            }
+
+            // Step 2: Skip ISBNs the library already has, in one query
+            if (!candidates.isEmpty()) {
+                for (String existing : bookRepository.findExistingIsbns(candidates)) {
+                    candidates.remove(existing);
+                    job.record(result(existing, ImportItemResult.Status.DUPLICATE, "Already in the library"));
+                }
+            }
+
+            // Step 3: Look up the rest and write them as they arrive
+            lookupAndInsert(job, candidates);
+
+            job.finish(ImportJobResponse.Status.COMPLETED);
+            log.info("Import {} finished in {}ms", job.id, System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(ImportJobResponse.Status.FAILED);
+        } catch (RuntimeException e) {
+            log.error("Import {} failed: {}", job.id, e.getMessage(), e);
+            job.finish(ImportJobResponse.Status.FAILED);
+        }
+    }
+
+    private void lookupAndInsert(ImportJob job, Collection<String> isbns) throws InterruptedException {
+        List<String> pending = List.copyOf(isbns);
+        BlockingQueue<Lookup> completed = new LinkedBlockingQueue<>();
+        int next = 0;
+        int prefetched = 0;
+
+        // Keep a fixed number of lookups in flight so one import cannot take the whole pool
+        int inFlight = 0;
+        while (inFlight < properties.getLookupConcurrency() && next < pending.size()) {
+            prefetched = prefetchAhead(pending, next, prefetched);
+            submitLookup(pending.get(next++), completed);
+            inFlight++;
+        }
+
+        List<Book> batch = new ArrayList<>(properties.getBatchSize());
+        while (inFlight > 0) {
+            Lookup lookup = completed.take();
+            inFlight--;
+            if (next < pending.size()) {
+                prefetched = prefetchAhead(pending, next, prefetched);
+                submitLookup(pending.get(next++), completed);
+                inFlight++;
+            }
+
+            if (lookup.error() != null) {
+                job.record(result(lookup.isbn(), ImportItemResult.Status.FAILED, lookup.error().getMessage()));
+            } else if (lookup.book().isEmpty() || !StringUtils.hasText(lookup.book().get().getTitle())) {
+                job.record(result(lookup.isbn(), ImportItemResult.Status.NOT_FOUND, "No source knows this ISBN"));
+            } else {
+                batch.add(lookup.book().get());
+                if (batch.size() >= properties.getBatchSize()) {
+                    insert(job, batch);
+                    batch = new ArrayList<>(properties.getBatchSize());
+                }
+            }
+        }
+        insert(job, batch);
+    }
+
+    // Resolve the next chunk in one multi-ISBN request so the per-ISBN lookups mostly hit the cache
+    private int prefetchAhead(List<String> pending, int next, int prefetched) {
+        if (next < prefetched) {
+            return prefetched;
+        }
+        int end = Math.min(prefetched + properties.getPrefetchSize(), pending.size());
+        bookLookupService.prefetchIsbns(pending.subList(prefetched, end));
+        return end;
+    }
+
+    private void submitLookup(String isbn, BlockingQueue<Lookup> completed) {
+        CompletableFuture.supplyAsync(() -> bookLookupService.lookupIsbn(isbn), lookupExecutor)
+                .whenComplete((book, error) -> completed.add(new Lookup(isbn, book, error)));
+    }
+
+    private void insert(ImportJob job, List<Book> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                bookRepository.insertAll(batch);
+                readingActivityRollup.onBooksInserted(batch);
+                changeOutbox.onBooksInserted(batch);
+                batch.forEach(this::publishCreated);
+            });
+            batch.forEach(book -> job.record(imported(book)));
+        } catch (DataAccessException e) {
+            // A single bad row fails the whole batch, so retry one at a time to find it
+            log.warn("Batch insert of {} books failed, retrying individually: {}", batch.size(), e.getMessage());
+            batch.forEach(book -> insertOne(job, book));
+        }
+    }
+
+    private void insertOne(ImportJob job, Book book) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                bookRepository.insertAll(List.of(book));
+                readingActivityRollup.onBooksInserted(List.of(book));
+                changeOutbox.onBooksInserted(List.of(book));
+                publishCreated(book);
+            });
+            job.record(imported(book));
+        } catch (DuplicateKeyException e) {
+            // Added by another request since the duplicate check
+            job.record(result(book.getIsbn(), ImportItemResult.Status.DUPLICATE, "Already in the library"));
+        } catch (DataAccessException e) {
+            job.record(result(book.getIsbn(), ImportItemResult.Status.FAILED, e.getMostSpecificCause().getMessage()));
+        }
+    }
+
+    private void publishCreated(Book book) {
+        readingStatsEngine.onBookCreated(BookStatsSnapshot.of(book));
+        bookSearchEngine.onBookSaved(book);
+    }
+
+    private void evictExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getJobRetention());
+        jobs.values().removeIf(job -> job.finishedBefore(cutoff));
+    }
+
+    private static ImportItemResult imported(Book book) {
+        return new ImportItemResult(book.getIsbn(), ImportItemResult.Status.IMPORTED, book.getId(), book.getTitle(), null);
+    }
+
+    private static ImportItemResult result(String isbn, ImportItemResult.Status status, String message) {
+        return new ImportItemResult(isbn, status, null, null, message);
+    }
+
+    static List<String> readIsbnColumn(InputStream csv, int maxIsbns) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        List<String> isbns = new ArrayList<>();
+        int column = 0;
+        boolean firstRow = true;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> cells = splitCsvLine(line);
+            if (firstRow) {
+                firstRow = false;
+                int header = isbnHeaderIndex(cells);
+                if (header >= 0) {
+                    column = header;
+                    continue;
+                }
+            }
+            if (column < cells.size()) {
+                // Spreadsheet exports write ISBNs as ="0439023483" to keep leading zeros
+                String value = cells.get(column).trim().replaceAll("^=?\"?|\"$", "");
+                if (!value.isEmpty()) {
+                    if (isbns.size() == maxIsbns) {
+                        throw new IllegalArgumentException(
+                                "Too many ISBNs: more than " + maxIsbns + " per import");
+                    }
+                    isbns.add(value);
+                }
+            }
+        }
+        return isbns;
+    }
+
+    private static int isbnHeaderIndex(List<String> cells) {
+        int isbn = -1;
+        for (int i = 0; i < cells.size(); i++) {
+            String name = cells.get(i).trim().toLowerCase(Locale.ROOT);
+            if (name.equals("isbn13") || name.equals("isbn_13")) {
+                return i;
+            }
+            if (name.equals("isbn")) {
+                isbn = i;
+            }
+        }
+        return isbn;
+    }
+
+    // Split on commas outside double quotes; "" inside quotes is a literal quote
+    private static List<String> splitCsvLine(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private record Lookup(String isbn, Optional<Book> book, Throwable error) {
+    }
+
+    private static class ImportJob {
+
+        private final String id;
+        private final int total;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final List<ImportItemResult> results = new ArrayList<>();
+        private final Map<ImportItemResult.Status, Integer> counts = new EnumMap<>(ImportItemResult.Status.class);
+        private ImportJobResponse.Status status = ImportJobResponse.Status.QUEUED;
+        private LocalDateTime finishedAt;
+
+        ImportJob(String id, int total) {
+            this.id = id;
+            this.total = total;
+        }
+
+        synchronized void start() {
+            status = ImportJobResponse.Status.RUNNING;
+        }
+
+        synchronized void record(ImportItemResult result) {
+            results.add(result);
+            counts.merge(result.getStatus(), 1, Integer::sum);
+        }
+
+        synchronized void finish(ImportJobResponse.Status finalStatus) {
+            status = finalStatus;
+            finishedAt = LocalDateTime.now();
+        }
+
+        synchronized boolean finishedBefore(LocalDateTime cutoff) {
+            return finishedAt != null && finishedAt.isBefore(cutoff);
+        }
+
+        synchronized ImportJobResponse toResponse() {
+            return ImportJobResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .total(total)
+                    .processed(results.size())
+                    .imported(counts.getOrDefault(ImportItemResult.Status.IMPORTED, 0))
+                    .duplicates(counts.getOrDefault(ImportItemResult.Status.DUPLICATE, 0))
+                    .invalid(counts.getOrDefault(ImportItemResult.Status.INVALID, 0))
+                    .notFound(counts.getOrDefault(ImportItemResult.Status.NOT_FOUND, 0))
+                    .failed(counts.getOrDefault(ImportItemResult.Status.FAILED, 0))
+                    .createdAt(createdAt)
+                    .finishedAt(finishedAt)
+                    .results(List.copyOf(results))
+                    .build();
+        }
+    }
+}
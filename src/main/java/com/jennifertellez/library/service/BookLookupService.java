@@ -0,0 +1,429 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.client.CircuitBreakerRegistry;
+import com.jennifertellez.library.client.LookupKeys;
+import com.jennifertellez.library.client.SingleFlight;
+import com.jennifertellez.library.config.ExternalSearchProperties;
+import com.jennifertellez.library.dto.BookResponse;
+import com.jennifertellez.library.dto.GoogleBooksResponse;
+import com.jennifertellez.library.dto.jikan.JikanMangaResponse;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Looks books up in the external sources and converts the answers to unsaved entities.
+ * Shared by the single-ISBN endpoint and the batch importer.
+ */
+@Service
+@Slf4j
+public class BookLookupService {
+
+    private final GoogleBooksService googleBooksService;
+    private final JikanService jikanService;
+    private final OpenLibraryService openLibraryService;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final Executor hedgeExecutor;
+    private final ExternalSearchProperties properties;
+
+    // Concurrent lookups of the same ISBN or title share one trip through the sources
+    private final SingleFlight<Optional<Book>> isbnFlights = new SingleFlight<>("isbn", LookupKeys::isbn);
+    private final SingleFlight<Optional<BookResponse>> titleFlights = new SingleFlight<>("title", LookupKeys::title);
+
+    public BookLookupService(GoogleBooksService googleBooksService,
+                             JikanService jikanService,
+                             OpenLibraryService openLibraryService,
+                             CircuitBreakerRegistry circuitBreakerRegistry,
+                             @Qualifier("hedgeLookupExecutor") Executor hedgeExecutor,
+                             ExternalSearchProperties properties) {
+        this.googleBooksService = googleBooksService;
+        this.jikanService = jikanService;
+        this.openLibraryService = openLibraryService;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.hedgeExecutor = hedgeExecutor;
+        this.properties = properties;
+    }
+
+    /**
+     * Strip spaces and hyphens from a user supplied ISBN
+     */
+    public static String cleanIsbn(String isbn) {
+        return isbn == null ? "" : isbn.replaceAll("[\\s\\-]", "");
+    }
+
+    public static boolean isValidIsbn(String cleanIsbn) {
+        return cleanIsbn.matches("^\\d{10}(\\d{3})?$");
+    }
+
+    /**
+     * OpenLibrary first, then Google Books with a Jikan upgrade for manga.
+     * Returns an unsaved book, or empty when no source knows the ISBN.
+     */
+    public Optional<Book> lookupIsbn(String cleanIsbn) {
+        // Every caller gets its own copy, since the book is saved and changed afterwards
+        return isbnFlights.run(cleanIsbn, () -> fetchIsbn(cleanIsbn))
+                .map(BookLookupService::copyOf);
+    }
+
+    private Optional<Book> fetchIsbn(String cleanIsbn) {
+        if (properties.isHedgeIsbnLookups()) {
+            return fetchIsbnHedged(cleanIsbn);
+        }
+        Optional<Book> book = fromOpenLibrary(cleanIsbn);
+        return book.isPresent() ? book : fromGoogle(cleanIsbn);
+    }
+
+    /**
+     * Ask OpenLibrary and, if it has not answered within its usual p95 latency, ask Google Books
+     * as well. The first source with a book wins; empty only when both come back empty.
+     */
+    private Optional<Book> fetchIsbnHedged(String cleanIsbn) {
+        CompletableFuture<Optional<Book>> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(() -> fromOpenLibrary(cleanIsbn), hedgeExecutor);
+        } catch (RejectedExecutionException e) {
+            // Pool is saturated, so fall back to asking one source after the other
+            Optional<Book> book = fromOpenLibrary(cleanIsbn);
+            return book.isPresent() ? book : fromGoogle(cleanIsbn);
+        }
+
+        Duration delay = hedgeDelay();
+        try {
+            Optional<Book> book = primary.get(delay.toNanos(), TimeUnit.NANOSECONDS);
+            return book.isPresent() ? book : fromGoogle(cleanIsbn);
+        } catch (TimeoutException e) {
+            log.info("OpenLibrary slower than {} for ISBN {}, hedging with Google Books", delay, cleanIsbn);
+        } catch (ExecutionException e) {
+            return fromGoogle(cleanIsbn);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+
+        CompletableFuture<Optional<Book>> hedge;
+        try {
+            hedge = CompletableFuture.supplyAsync(() -> fromGoogle(cleanIsbn), hedgeExecutor);
+        } catch (RejectedExecutionException e) {
+            Optional<Book> book = primary.exceptionally(ex -> Optional.empty()).join();
+            return book.isPresent() ? book : fromGoogle(cleanIsbn);
+        }
+        return firstPresent(List.of(primary, hedge)).join();
+    }
+
+    private Duration hedgeDelay() {
+        Duration p95 = circuitBreakerRegistry.get(OpenLibraryService.SOURCE).latencyPercentile(0.95);
+        if (p95 == null) {
+            return properties.getHedgeDefaultDelay();
+        }
+        return p95.compareTo(properties.getHedgeMinDelay()) < 0 ? properties.getHedgeMinDelay() : p95;
+    }
+
+    private static CompletableFuture<Optional<Book>> firstPresent(List<CompletableFuture<Optional<Book>>> futures) {
+        CompletableFuture<Optional<Book>> winner = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(futures.size());
+        futures.forEach(future -> future.whenComplete((book, error) -> {
+            if (error == null && book.isPresent()) {
+                winner.complete(book);
+            } else if (remaining.decrementAndGet() == 0) {
+                winner.complete(Optional.empty());
+            }
+        }));
+        return winner;
+    }
+
+    private Optional<Book> fromOpenLibrary(String cleanIsbn) {
+        Optional<Map<String, Object>> openLibraryBook = openLibraryService.searchByIsbn(cleanIsbn);
+
+        if (openLibraryBook.isPresent()) {
+            log.info("Found book in OpenLibrary");
+            return Optional.of(convertOpenLibraryToEntity(openLibraryBook.get(), cleanIsbn));
+        }
+        return Optional.empty();
+    }
+
+    // Google Books (might be rate limited), upgraded with Jikan data for manga
+    private Optional<Book> fromGoogle(String cleanIsbn) {
+        try {
+            Optional<GoogleBooksResponse.BookItem> googleBook = googleBooksService.searchByIsbn(cleanIsbn);
+
+            if (googleBook.isPresent()) {
+                GoogleBooksResponse.VolumeInfo volumeInfo = googleBook.get().getVolumeInfo();
+
+                // Check if it's manga
+                if (isManga(volumeInfo)) {
+                    log.info("Detected manga from Google Books: {}", volumeInfo.getTitle());
+
+                    Optional<JikanMangaResponse.JikanMangaData> jikanManga =
+                            jikanService.searchMangaByTitle(volumeInfo.getTitle());
+
+                    if (jikanManga.isPresent()) {
+                        log.info("Found better manga data in Jikan API");
+                        BookResponse mangaResponse = convertJikanToBookResponse(jikanManga.get());
+                        mangaResponse.setIsbn(cleanIsbn);
+                        return Optional.of(convertResponseToEntity(mangaResponse));
+                    }
+                }
+
+                Book book = convertGoogleBookToEntity(volumeInfo);
+                book.setIsbn(cleanIsbn);
+                return Optional.of(book);
+            }
+        } catch (Exception e) {
+            log.warn("Google Books API failed (possibly rate limited): {}", e.getMessage());
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Resolve many ISBNs against OpenLibrary in as few requests as possible. The answers land in
+     * the lookup cache, so following {@link #lookupIsbn(String)} calls skip the network.
+     */
+    public void prefetchIsbns(Collection<String> cleanIsbns) {
+        openLibraryService.searchByIsbns(cleanIsbns);
+    }
+
+    /**
+     * Google Books first, upgraded with Jikan data for manga, then Jikan alone
+     */
+    public Optional<BookResponse> lookupTitle(String title) {
+        return titleFlights.run(title, () -> fetchTitle(title));
+    }
+
+    public List<SingleFlight.Stats> singleFlightStats() {
+        return List.of(isbnFlights.stats(), titleFlights.stats());
+    }
+
+    private Optional<BookResponse> fetchTitle(String title) {
+        // First try Google Books
+        Optional<GoogleBooksResponse.BookItem> googleBook = googleBooksService.searchByTitle(title);
+
+        if (googleBook.isPresent()) {
+            GoogleBooksResponse.VolumeInfo volumeInfo = googleBook.get().getVolumeInfo();
+
+            // Check if it's manga
+            if (isManga(volumeInfo)) {
+                log.info("Detected manga from Google Books, attempting Jikan lookup");
+
+                Optional<JikanMangaResponse.JikanMangaData> jikanManga =
+                        jikanService.searchMangaByTitle(volumeInfo.getTitle());
+
+                if (jikanManga.isPresent()) {
+                    return Optional.of(convertJikanToBookResponse(jikanManga.get()));
+                }
+            }
+
+            return Optional.of(convertGoogleBookToResponse(volumeInfo));
+        }
+
+        // Try Jikan if Google Books failed
+        log.info("Google Books returned no results, trying Jikan API for: {}", title);
+        return jikanService.searchMangaByTitle(title)
+                .map(this::convertJikanToBookResponse);
+    }
+
+    private static Book copyOf(Book source) {
+        Book book = new Book();
+        book.setIsbn(source.getIsbn());
+        book.setTitle(source.getTitle());
+        book.setAuthor(source.getAuthor());
+        book.setDescription(source.getDescription());
+        book.setPublishedDate(source.getPublishedDate());
+        book.setPageCount(source.getPageCount());
+        book.setThumbnail(source.getThumbnail());
+        book.setStatus(source.getStatus());
+        book.setMalId(source.getMalId());
+        return book;
+    }
+
+    /**
+     * Check if the book is likely manga based on the title patterns
+     */
+    private boolean isManga(GoogleBooksResponse.VolumeInfo volumeInfo) {
+        String title = volumeInfo.getTitle().toLowerCase();
+
+        return title.contains("manga") ||
+                title.contains("vol.") ||
+                title.contains("vol ") ||
+                title.contains("volume") ||
+                title.matches(".*,\\s*vol\\.?\\s*\\d+.*") ||
+                title.matches(".*\\d+$");
+    }
+
+    /**
+     * Convert Jikan manga data to BookResponse
+     */
+
+    private BookResponse convertJikanToBookResponse(JikanMangaResponse.JikanMangaData manga) {
+        BookResponse response = new BookResponse();
+
+        //Use English title if available, otherwise use main title
+        response.setTitle(manga.getTitleEnglish() != null ? manga.getTitleEnglish() : manga.getTitle());
+
+        //Get first author
+        if (manga.getAuthors() != null && !manga.getAuthors().isEmpty()) {
+            response.setAuthor(manga.getAuthors().get(0).getName());
+        }
+
+        response.setDescription(manga.getSynopsis());
+
+        // Use published data
+        if (manga.getPublished() != null && manga.getPublished().getFrom() != null) {
+            response.setPublishedDate(manga.getPublished().getFrom().substring(0, 10));
+        }
+
+        // Use chapters as page count (approximate)
+        if (manga.getImages() != null && manga.getImages().getJpg() != null) {
+            response.setThumbnailUrl(manga.getImages().getJpg().getLargeImageUrl() != null
+            ? manga.getImages().getJpg().getLargeImageUrl()
+                    : manga.getImages().getJpg().getImageUrl());
+        }
+
+        response.setIsbn("MAL-" + manga.getMalId());
+
+        //Default status
+        response.setStatus(ReadingStatus.TO_READ);
+
+        return response;
+
+    }
+
+    /**
+     * Convert OpenLibrary data to Book entity
+     */
+    private Book convertOpenLibraryToEntity(Map<String, Object> data, String isbn) {
+        Book book = new Book();
+
+        // Title
+        if (data.containsKey("title")) {
+            book.setTitle((String) data.get("title"));
+        }
+
+        // Authors
+        if (data.containsKey("authors")) {
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> authors = (List<Map<String, Object>>) data.get("authors");
+            if (authors != null && !authors.isEmpty()) {
+                String authorNames = authors.stream()
+                        .map(author -> (String) author.get("name"))
+                        .collect(Collectors.joining(", "));
+                book.setAuthor(authorNames);
+            }
+        }
+
+        // Description
+        if (data.containsKey("notes")) {
+            book.setDescription((String) data.get("notes"));
+        } else if (data.containsKey("excerpts")) {
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> excerpts = (List<Map<String, Object>>) data.get("excerpts");
+            if (excerpts != null && !excerpts.isEmpty()) {
+                book.setDescription((String) excerpts.get(0).get("text"));
+            }
+        }
+
+        // Published date
+        if (data.containsKey("publish_date")) {
+            book.setPublishedDate((String) data.get("publish_date"));
+        }
+
+        // Page count
+        if (data.containsKey("number_of_pages")) {
+            book.setPageCount((Integer) data.get("number_of_pages"));
+        }
+
+        // Cover image
+        if (data.containsKey("cover")) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> cover = (Map<String, String>) data.get("cover");
+            if (cover != null && cover.containsKey("medium")) {
+                book.setThumbnail(cover.get("medium"));
+            }
+        }
+
+        book.setIsbn(isbn);
+        book.setStatus(ReadingStatus.TO_READ);
+
+        return book;
+    }
+
+    /**
+     * Convert BookResponse to Entity
+     */
+    private Book convertResponseToEntity(BookResponse response) {
+        Book book = new Book();
+        book.setTitle(response.getTitle());
+        book.setAuthor(response.getAuthor());
+        book.setIsbn(response.getIsbn());
+        book.setDescription(response.getDescription());
+        book.setPublishedDate(response.getPublishedDate());
+        book.setPageCount(response.getPageCount());
+        book.setThumbnail(response.getThumbnailUrl());
+        book.setStatus(response.getStatus());
+        return book;
+    }
+
+    /**
+     * Convert Google Books VolumeInfo to BookResponse
+     */
+    private BookResponse convertGoogleBookToResponse(GoogleBooksResponse.VolumeInfo volumeInfo) {
+        BookResponse response = new BookResponse();
+        response.setTitle(volumeInfo.getTitle());
+
+        if (volumeInfo.getAuthors() != null && !volumeInfo.getAuthors().isEmpty()) {
+            response.setAuthor(String.join(", ", volumeInfo.getAuthors()));
+        }
+
+        response.setDescription(volumeInfo.getDescription());
+        response.setPublishedDate(volumeInfo.getPublishedDate());
+        response.setPageCount(volumeInfo.getPageCount());
+
+        if (volumeInfo.getImageLinks() != null) {
+            response.setThumbnailUrl(volumeInfo.getImageLinks().getThumbnail());
+        }
+
+        response.setStatus(ReadingStatus.TO_READ);
+
+        return response;
+    }
+
+    /**
+     * Convert Google Books VolumeInfo to Entity
+     */
+    private Book convertGoogleBookToEntity(GoogleBooksResponse.VolumeInfo volumeInfo) {
+        Book book = new Book();
+        book.setTitle(volumeInfo.getTitle());
+
+        if (volumeInfo.getAuthors() != null && !volumeInfo.getAuthors().isEmpty()) {
+            book.setAuthor(String.join(", ", volumeInfo.getAuthors()));
+        }
+
+        book.setDescription(volumeInfo.getDescription());
+        book.setPublishedDate(volumeInfo.getPublishedDate());
+        book.setPageCount(volumeInfo.getPageCount());
+
+        if (volumeInfo.getImageLinks() != null) {
+            book.setThumbnail(volumeInfo.getImageLinks().getThumbnail());
+        }
+
+        book.setStatus(ReadingStatus.TO_READ);
+
+        return book;
+    }
+}
@@ -4,13 +4,19 @@ import com.jennifertellez.library.dto.*;
 import com.jennifertellez.library.model.BookSearchCriteria;
 import com.jennifertellez.library.model.ReadingStatus;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
 public interface BookService {
 
+    //Upper bound on the page and scroll sizes a client can ask for
+    int MAX_PAGE_SIZE = 100;
+
     BookResponse createBook(CreateBookRequest request);
 
+    List<BookResponse> createBooks(List<CreateBookRequest> requests);
+
     BookResponse getBookById(Long id);
 
     List<BookResponse> getAllBooks();
@@ -35,8 +41,14 @@ public interface BookService {
 
     PageResponse<BookResponse> advanceSearch(BookSearchCriteria criteria, Pageable pageable);
 
+    //Keyset pagination: seeks past the cursor instead of using OFFSET, and only counts on request
+    CursorPageResponse<BookResponse> scrollBooks(BookSearchCriteria criteria, Sort sort, int size,
+                                                 String cursor, boolean includeTotal);
+
     ReadingStatsResponse getReadingStatistics();
 
+    void rebuildReadingStatistics();
+
     BookResponse createBookFromIsbn(String isbn);
 
     BookResponse searchBookByTitle(String title);
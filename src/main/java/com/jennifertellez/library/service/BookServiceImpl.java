@@ -1,5 +1,6 @@
 package com.jennifertellez.library.service;
 
+import com.jennifertellez.library.client.SourceFanOut;
 import com.jennifertellez.library.dto.*;
 import com.jennifertellez.library.dto.jikan.JikanMangaResponse;
 import com.jennifertellez.library.dto.jikan.JikanSingleMangaResponse;
@@ -14,18 +15,28 @@ import com.jennifertellez.library.repository.BookRepository;
 import com.jennifertellez.library.repository.BookShelfRepository;
 import com.jennifertellez.library.repository.BookSpecification;
 import com.jennifertellez.library.repository.ShelfRepository;
+import com.jennifertellez.library.repository.projection.BookSummary;
+import com.jennifertellez.library.search.BookSearchEngine;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
-import java.time.LocalDate;
-import java.time.Year;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,6 +50,23 @@ public class BookServiceImpl implements BookService {
     private final JikanService jikanService;
     private final OpenLibraryService openLibraryService;
     private final BookShelfRepository bookShelfRepository;
+    private final ReadingStatsEngine readingStatsEngine;
+    private final ReadingStatsAggregator readingStatsAggregator;
+    private final ReadingActivityRollup readingActivityRollup;
+    private final SourceFanOut sourceFanOut;
+    private final BookSearchEngine bookSearchEngine;
+    private final BookLookupService bookLookupService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // "incremental" serves the in-memory counters, "sql" aggregates in the database on every call
+    @Value("${library.stats.source:incremental}")
+    private String statsSource;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     public BookResponse createBook(CreateBookRequest request) {
@@ -51,6 +79,61 @@ public class BookServiceImpl implements BookService {
             }
         }
 
+        Book savedBook = bookRepository.saveAndFlush(toEntity(request));
+        readingStatsEngine.onBookCreated(BookStatsSnapshot.of(savedBook));
+        eventPublisher.publishEvent(new BookChangedEvent(savedBook.getId(), null, BookStatsSnapshot.of(savedBook)));
+        bookSearchEngine.onBookSaved(savedBook);
+        log.info("Book created successfully with ID: {}", savedBook.getId());
+
+        return mapToResponse(savedBook);
+    }
+
+    @Override
+    public List<BookResponse> createBooks(List<CreateBookRequest> requests) {
+        log.info("Creating {} books in bulk", requests.size());
+
+        // All or nothing: reject the whole request if any ISBN is repeated or already in the library
+        Set<String> isbns = new HashSet<>();
+        for (CreateBookRequest request : requests) {
+            if (StringUtils.hasText(request.getIsbn()) && !isbns.add(request.getIsbn())) {
+                throw new DuplicateBookException(request.getIsbn());
+            }
+        }
+        List<String> isbnList = new ArrayList<>(isbns);
+        for (int from = 0; from < isbnList.size(); from += batchSize) {
+            List<String> existing = bookRepository.findExistingIsbns(
+                    isbnList.subList(from, Math.min(from + batchSize, isbnList.size())));
+            if (!existing.isEmpty()) {
+                throw new DuplicateBookException(existing.get(0));
+            }
+        }
+
+        // Flush one JDBC batch at a time and detach it, so the persistence context stays small. Snapshots and
+        // responses are taken after the flush, once Hibernate has filled in createdAt and updatedAt
+        List<BookResponse> responses = new ArrayList<>(requests.size());
+        List<Book> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < requests.size(); i++) {
+            Book book = toEntity(requests.get(i));
+            entityManager.persist(book);
+            batch.add(book);
+            if (batch.size() == batchSize || i == requests.size() - 1) {
+                entityManager.flush();
+                for (Book created : batch) {
+                    readingStatsEngine.onBookCreated(BookStatsSnapshot.of(created));
+                    eventPublisher.publishEvent(new BookChangedEvent(created.getId(), null, BookStatsSnapshot.of(created)));
+                    bookSearchEngine.onBookSaved(created);
+                    responses.add(mapToResponse(created));
+                }
+                batch.forEach(entityManager::detach);
+                batch.clear();
+            }
+        }
+
+        log.info("Created {} books in bulk", responses.size());
+        return responses;
+    }
+
+    private Book toEntity(CreateBookRequest request) {
         Book book = new Book();
         book.setTitle(request.getTitle());
         book.setAuthor(request.getAuthor());
@@ -64,11 +147,7 @@ public class BookServiceImpl implements BookService {
         book.setDateStarted(request.getDateStarted());
         book.setFinishedDate(request.getFinishedDate());
         book.setRating(request.getRating());
-
-        Book savedBook = bookRepository.save(book);
-        log.info("Book created successfully with ID: {}", savedBook.getId());
-
-        return mapToResponse(savedBook);
+        return book;
     }
 
     @Override
@@ -104,6 +183,7 @@ public class BookServiceImpl implements BookService {
 
         Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new BookNotFoundException(id));
+        BookStatsSnapshot before = BookStatsSnapshot.of(book);
 
         //Update only non-null fields
         if (request.getTitle() != null) {
@@ -132,6 +212,10 @@ public class BookServiceImpl implements BookService {
         }
 
         Book updatedBook = bookRepository.save(book);
+        BookStatsSnapshot after = BookStatsSnapshot.of(updatedBook);
+        readingStatsEngine.onBookUpdated(before, after);
+        eventPublisher.publishEvent(new BookChangedEvent(id, before, after));
+        bookSearchEngine.onBookSaved(updatedBook);
         log.info("Book updated successfully with ID: {}", updatedBook.getId());
 
         return mapToResponse(updatedBook);
@@ -148,7 +232,12 @@ public class BookServiceImpl implements BookService {
             throw new BookDeleteConflictException(id);
         }
 
+        bookRepository.findStatsSnapshotById(id).ifPresent(deleted -> {
+            readingStatsEngine.onBookDeleted(deleted);
+            eventPublisher.publishEvent(new BookChangedEvent(id, deleted, null));
+        });
         bookRepository.deleteById(id);
+        bookSearchEngine.onBookDeleted(id);
         log.info("Book deleted successfully with ID: {}", id);
     }
 
@@ -161,8 +250,13 @@ public class BookServiceImpl implements BookService {
             throw new BookNotFoundException(id);
         }
 
+        bookRepository.findStatsSnapshotById(id).ifPresent(deleted -> {
+            readingStatsEngine.onBookDeleted(deleted);
+            eventPublisher.publishEvent(new BookChangedEvent(id, deleted, null));
+        });
         bookShelfRepository.deleteByBookId(id);
         bookRepository.deleteById(id);
+        bookSearchEngine.onBookDeleted(id);
 
         log.info("Book and shelf references deleted successfully with ID: {}", id);
     }
@@ -171,7 +265,8 @@ public class BookServiceImpl implements BookService {
     @Transactional(readOnly = true)
     public List<BookResponse> searchBooks(String searchTerm) {
         log.info("Searching books with term: {}", searchTerm);
-        return bookRepository.searchBooks(searchTerm).stream()
+        List<Long> ids = bookSearchEngine.search(searchTerm, Pageable.unpaged()).getContent();
+        return findAllInOrder(ids).stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
@@ -182,8 +277,8 @@ public class BookServiceImpl implements BookService {
         log.info("Fetching books with pagination - page: {}, size: {}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Book> bookPage = bookRepository.findAll(pageable);
-        Page<BookResponse> responsePage = bookPage.map(this::mapToResponse);
+        Page<BookResponse> responsePage = bookRepository.findSummaries(null, pageable)
+                .map(this::mapSummaryToResponse);
 
         return new PageResponse<>(responsePage);
     }
@@ -194,8 +289,9 @@ public class BookServiceImpl implements BookService {
         log.info("Searching books with term: '{}', page: {}, size: {}",
                 searchTerm,pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Book> bookPage = bookRepository.searchBooks(searchTerm, pageable);
-        Page<BookResponse> responsePage = bookPage.map(this::mapToResponse);
+        Page<Long> idPage = bookSearchEngine.search(searchTerm, pageable);
+        Page<BookResponse> responsePage = new PageImpl<>(findSummariesInOrder(idPage.getContent()), pageable,
+                idPage.getTotalElements()).map(this::mapSummaryToResponse);
 
         return new PageResponse<>(responsePage);
     }
@@ -205,8 +301,9 @@ public class BookServiceImpl implements BookService {
     public PageResponse<BookResponse> getBooksByStatus(ReadingStatus status, Pageable pageable) {
         log.info("Fetching books with status: {}, page: {}", status, pageable.getPageNumber());
 
-        Page<Book> bookPage = bookRepository.findByStatus(status, pageable);
-        Page<BookResponse> responsePage = bookPage.map(this::mapToResponse);
+        Specification<Book> spec = BookSpecification.withCriteria(BookSearchCriteria.builder().status(status).build());
+        Page<BookResponse> responsePage = bookRepository.findSummaries(spec, pageable)
+                .map(this::mapSummaryToResponse);
 
         return new PageResponse<>(responsePage);
     }
@@ -216,8 +313,9 @@ public class BookServiceImpl implements BookService {
     public PageResponse<BookResponse> getBooksByAuthor(String author, Pageable pageable) {
         log.info("Fetching books by author: {}, page: {}", author, pageable.getPageNumber());
 
-        Page<Book> bookPage = bookRepository.findByAuthorContainingIgnoreCase(author, pageable);
-        Page<BookResponse> responsePage = bookPage.map(this::mapToResponse);
+        Specification<Book> spec = BookSpecification.withCriteria(BookSearchCriteria.builder().author(author).build());
+        Page<BookResponse> responsePage = bookRepository.findSummaries(spec, pageable)
+                .map(this::mapSummaryToResponse);
 
         return new PageResponse<>(responsePage);
     }
@@ -228,12 +326,83 @@ public class BookServiceImpl implements BookService {
         log.info("Advance search with criteria: {}", criteria);
 
         Specification<Book> spec = BookSpecification.withCriteria(criteria);
-        Page<Book> bookPage = bookRepository.findAll(spec, pageable);
-        Page<BookResponse> responsePage = bookPage.map(this::mapToResponse);
+        if (StringUtils.hasText(criteria.getSearchTerm())) {
+            spec = spec.and(bookSearchEngine.matching(criteria.getSearchTerm()));
+        }
+        Page<BookResponse> responsePage = bookRepository.findSummaries(spec, pageable)
+                .map(this::mapSummaryToResponse);
 
         return  new PageResponse<>(responsePage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<BookResponse> scrollBooks(BookSearchCriteria criteria, Sort sort, int size,
+                                                        String cursor, boolean includeTotal) {
+        log.info("Scrolling books with criteria: {}, sort: {}, size: {}", criteria, sort, size);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        int limit = Math.min(size, MAX_PAGE_SIZE);
+        Sort keysetSort = ScrollCursor.keysetSort(sort);
+        KeysetScrollPosition position = ScrollCursor.decode(cursor, keysetSort);
+
+        Specification<Book> spec = BookSpecification.withCriteria(criteria);
+        if (StringUtils.hasText(criteria.getSearchTerm())) {
+            spec = spec.and(bookSearchEngine.matching(criteria.getSearchTerm()));
+        }
+
+        Window<BookSummary> window = bookRepository.scrollSummaries(spec, keysetSort, position, limit);
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? ScrollCursor.encode(window.positionAt(window.size() - 1), keysetSort)
+                : null;
+        Long total = includeTotal ? bookRepository.count(spec) : null;
+
+        List<BookResponse> content = window.getContent().stream()
+                .map(this::mapSummaryToResponse)
+                .collect(Collectors.toList());
+        return new CursorPageResponse<>(content, content.size(), nextCursor != null, nextCursor, total);
+    }
+
+    //Load books by id, keeping the order the search engine ranked them in
+    private List<Book> findAllInOrder(List<Long> ids) {
+        Map<Long, Book> byId = bookRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Book::getId, book -> book));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<BookSummary> findSummariesInOrder(List<Long> ids) {
+        Map<Long, BookSummary> byId = bookRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(BookSummary::id, summary -> summary));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    //List views get everything except the description and notes; GET /api/books/{id} has those
+    private BookResponse mapSummaryToResponse(BookSummary summary) {
+        BookResponse response = new BookResponse();
+        response.setId(summary.id());
+        response.setIsbn(summary.isbn());
+        response.setTitle(summary.title());
+        response.setAuthor(summary.author());
+        response.setPublishedDate(summary.publishedDate());
+        response.setPageCount(summary.pageCount());
+        response.setThumbnailUrl(summary.thumbnail());
+        response.setStatus(summary.status());
+        response.setFinishedDate(summary.finishedDate());
+        response.setRating(summary.rating());
+        response.setCreatedAt(summary.createdAt());
+        response.setUpdatedAt(summary.updatedAt());
+        return response;
+    }
+
     //Helper method to map Entity to DTO
     private BookResponse mapToResponse(Book book) {
         BookResponse response = new BookResponse();
@@ -257,161 +426,18 @@ public class BookServiceImpl implements BookService {
     @Override
     @Transactional(readOnly = true)
     public ReadingStatsResponse getReadingStatistics() {
-        log.info("Calculating reading statistics");
-
-        List<Book> allBooks = bookRepository.findAll();
-        int currentYear = Year.now().getValue();
-
-        long totalBooks = allBooks.size();
-        long booksRead = allBooks.stream()
-                .filter(b -> b.getStatus() == ReadingStatus.FINISHED)
-                .count();
-        long booksToRead = allBooks.stream()
-                .filter(b -> b.getStatus() == ReadingStatus.TO_READ)
-                .count();
-        long currentlyReading = allBooks.stream()
-                .filter(b -> b.getStatus() == ReadingStatus.CURRENTLY_READING)
-                .count();
-        long booksDidNotFinish = allBooks.stream()
-                .filter(b -> b.getStatus() == ReadingStatus.DNF)
-                .count();
-
-        //Current year statistics
-        long booksReadThisYear = allBooks.stream()
-                .filter(b -> b.getFinishedDate() != null &&
-                        b.getFinishedDate().getYear() == currentYear)
-                .count();
-
-        long booksAddedThisYear = allBooks.stream()
-                .filter(b -> b.getCreatedAt() != null &&
-                        b.getCreatedAt().getYear() == currentYear)
-                .count();
-
-        //Rating statistics
-        List<Book> ratedBooks = allBooks.stream()
-                .filter(b -> b.getRating() != null)
-                .collect(Collectors.toList());
-
-        Double averageRating = ratedBooks.isEmpty() ? 0.0 :
-                ratedBooks.stream()
-                        .mapToInt(Book::getRating)
-                        .average()
-                        .orElse(0.0);
-
-        Map<Integer, Long> ratingDistribution = ratedBooks.stream()
-                .collect(Collectors.groupingBy(Book::getRating, Collectors.counting()));
-
-        // Author statistics
-        long uniqueAuthors = allBooks.stream()
-                .map(Book::getAuthor)
-                .filter(author -> author != null && !author.isEmpty())
-                .distinct()
-                .count();
-
-        Map<String, Long> topAuthors = allBooks.stream()
-                .filter(b -> b.getAuthor() != null && !b.getAuthor().isEmpty())
-                .collect(Collectors.groupingBy(Book::getAuthor, Collectors.counting()))
-                .entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(5)
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (e1, e2) -> e1,
-                        LinkedHashMap::new
-                ));
-
-        // Reading pace (books per month this year)
-        int monthsElapsed = LocalDate.now().getMonthValue();
-        double booksPerMonth = monthsElapsed > 0 ?
-                (double) booksReadThisYear / monthsElapsed : 0.0;
-
-        // Average pages per book
-        double averagePagesPerBook = allBooks.stream()
-                .filter(b -> b.getPageCount() != null && b.getPageCount() > 0)
-                .mapToInt(Book::getPageCount)
-                .average()
-                .orElse(0.0);
-
-        // Books read by year
-        Map<Integer, Long> booksReadByYear = allBooks.stream()
-                .filter(b -> b.getFinishedDate() != null)
-                .collect(Collectors.groupingBy(
-                        b -> b.getFinishedDate().getYear(),
-                        Collectors.counting()
-                ));
-
-        // Build response
-        return ReadingStatsResponse.builder()
-                .totalBooks(totalBooks)
-                .booksRead(booksRead)
-                .booksToRead(booksToRead)
-                .currentlyReading(currentlyReading)
-                .booksDidNotFinish(booksDidNotFinish)
-                .currentYear(currentYear)
-                .booksReadThisYear(booksReadThisYear)
-                .booksAddedThisYear(booksAddedThisYear)
-                .averageRating(Math.round(averageRating * 10.0) / 10.0) // Round to 1 decimal
-                .ratedBooks((long) ratedBooks.size())
-                .ratingDistribution(ratingDistribution)
-                .uniqueAuthors(uniqueAuthors)
-                .topAuthors(topAuthors)
-                .booksPerMonth(Math.round(booksPerMonth * 10.0) / 10.0)
-                .averagePagesPerBook((double) Math.round(averagePagesPerBook))
-                .booksReadByYear(booksReadByYear)
-                .build();
-    }
-
-    /**
-     * Check if the book is likely manga based on the title patterns
-     */
-    private boolean isManga(GoogleBooksResponse.VolumeInfo volumeInfo) {
-        String title = volumeInfo.getTitle().toLowerCase();
-
-        return title.contains("manga") ||
-                title.contains("vol.") ||
-                title.contains("vol ") ||
-                title.contains("volume") ||
-                title.matches(".*,\\s*vol\\.?\\s*\\d+.*") ||
-                title.matches(".*\\d+$");
-    }
-
-    /**
-     * Convert Jikan manga data to BookResponse
-     */
-
-    private BookResponse convertJikanToBookResponse(JikanMangaResponse.JikanMangaData manga) {
-        BookResponse response = new BookResponse();
-
-        //Use English title if available, otherwise use main title
-        response.setTitle(manga.getTitleEnglish() != null ? manga.getTitleEnglish() : manga.getTitle());
-
-        //Get first author
-        if (manga.getAuthors() != null && !manga.getAuthors().isEmpty()) {
-            response.setAuthor(manga.getAuthors().get(0).getName());
+        log.info("Fetching reading statistics from source: {}", statsSource);
+        if ("sql".equalsIgnoreCase(statsSource)) {
+            return readingStatsAggregator.computeStatistics();
         }
+        return readingStatsEngine.getStatistics();
+    }
 
-        response.setDescription(manga.getSynopsis());
-
-        // Use published data
-        if (manga.getPublished() != null && manga.getPublished().getFrom() != null) {
-            response.setPublishedDate(manga.getPublished().getFrom().substring(0, 10));
-        }
-
-        // Use chapters as page count (approximate)
-        if (manga.getImages() != null && manga.getImages().getJpg() != null) {
-            response.setThumbnailUrl(manga.getImages().getJpg().getLargeImageUrl() != null
-            ? manga.getImages().getJpg().getLargeImageUrl()
-                    : manga.getImages().getJpg().getImageUrl());
-        }
-
-        response.setIsbn("MAL-" + manga.getMalId());
-
-        //Default status
-        response.setStatus(ReadingStatus.TO_READ);
-
-        return response;
-
+    @Override
+    public void rebuildReadingStatistics() {
+        log.info("Rebuilding reading statistics");
+        readingActivityRollup.reconcile();
+        readingStatsEngine.rebuild();
     }
 
     /**
@@ -422,120 +448,24 @@ public class BookServiceImpl implements BookService {
         log.info("Looking up book/manga with ISBN: {}", isbn);
 
         // Clean the ISBN
-        String cleanIsbn = isbn.replaceAll("[\\s\\-]", "");
+        String cleanIsbn = BookLookupService.cleanIsbn(isbn);
 
         // Validate ISBN format
-        if (!cleanIsbn.matches("^\\d{10}(\\d{3})?$")) {
+        if (!BookLookupService.isValidIsbn(cleanIsbn)) {
             throw new RuntimeException("Invalid ISBN format. ISBN must be 10 or 13 digits.");
         }
 
-        // Step 1: Try OpenLibrary first (no rate limits!)
-        Optional<Map<String, Object>> openLibraryBook = openLibraryService.searchByIsbn(cleanIsbn);
-
-        if (openLibraryBook.isPresent()) {
-            log.info("Found book in OpenLibrary");
-            Book book = convertOpenLibraryToEntity(openLibraryBook.get(), cleanIsbn);
-            Book saved = bookRepository.save(book);
-            return mapToResponse(saved);
-        }
-
-        // Step 2: Try Google Books (might be rate limited)
-        try {
-            Optional<GoogleBooksResponse.BookItem> googleBook = googleBooksService.searchByIsbn(cleanIsbn);
-
-            if (googleBook.isPresent()) {
-                GoogleBooksResponse.VolumeInfo volumeInfo = googleBook.get().getVolumeInfo();
-
-                // Check if it's manga
-                if (isManga(volumeInfo)) {
-                    log.info("Detected manga from Google Books: {}", volumeInfo.getTitle());
-
-                    Optional<JikanMangaResponse.JikanMangaData> jikanManga =
-                            jikanService.searchMangaByTitle(volumeInfo.getTitle());
-
-                    if (jikanManga.isPresent()) {
-                        log.info("Found better manga data in Jikan API");
-                        BookResponse mangaResponse = convertJikanToBookResponse(jikanManga.get());
-                        mangaResponse.setIsbn(cleanIsbn);
-                        Book book = convertResponseToEntity(mangaResponse);
-                        Book saved = bookRepository.save(book);
-                        return mapToResponse(saved);
-                    }
-                }
-
-                Book book = convertGoogleBookToEntity(volumeInfo);
-                book.setIsbn(cleanIsbn);
-                Book saved = bookRepository.save(book);
-                return mapToResponse(saved);
-            }
-        } catch (Exception e) {
-            log.warn("Google Books API failed (possibly rate limited): {}", e.getMessage());
-        }
-
-        // Step 3: All APIs failed
-        throw new RuntimeException(
-                "Book not found with ISBN: " + cleanIsbn +
-                        ". Please try adding it manually or search by title if it's a manga."
-        );
-    }
-
-    /**
-     * Convert OpenLibrary data to Book entity
-     */
-    private Book convertOpenLibraryToEntity(Map<String, Object> data, String isbn) {
-        Book book = new Book();
-
-        // Title
-        if (data.containsKey("title")) {
-            book.setTitle((String) data.get("title"));
-        }
-
-        // Authors
-        if (data.containsKey("authors")) {
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> authors = (List<Map<String, Object>>) data.get("authors");
-            if (authors != null && !authors.isEmpty()) {
-                String authorNames = authors.stream()
-                        .map(author -> (String) author.get("name"))
-                        .collect(Collectors.joining(", "));
-                book.setAuthor(authorNames);
-            }
-        }
-
-        // Description
-        if (data.containsKey("notes")) {
-            book.setDescription((String) data.get("notes"));
-        } else if (data.containsKey("excerpts")) {
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> excerpts = (List<Map<String, Object>>) data.get("excerpts");
-            if (excerpts != null && !excerpts.isEmpty()) {
-                book.setDescription((String) excerpts.get(0).get("text"));
-            }
-        }
-
-        // Published date
-        if (data.containsKey("publish_date")) {
-            book.setPublishedDate((String) data.get("publish_date"));
-        }
-
-        // Page count
-        if (data.containsKey("number_of_pages")) {
-            book.setPageCount((Integer) data.get("number_of_pages"));
-        }
-
-        // Cover image
-        if (data.containsKey("cover")) {
-            @SuppressWarnings("unchecked")
-            Map<String, String> cover = (Map<String, String>) data.get("cover");
-            if (cover != null && cover.containsKey("medium")) {
-                book.setThumbnail(cover.get("medium"));
-            }
-        }
-
-        book.setIsbn(isbn);
-        book.setStatus(ReadingStatus.TO_READ);
+        Book book = bookLookupService.lookupIsbn(cleanIsbn)
+                .orElseThrow(() -> new RuntimeException(
+                        "Book not found with ISBN: " + cleanIsbn +
+                                ". Please try adding it manually or search by title if it's a manga."
+                ));
 
-        return book;
+        Book saved = bookRepository.saveAndFlush(book);
+        readingStatsEngine.onBookCreated(BookStatsSnapshot.of(saved));
+        eventPublisher.publishEvent(new BookChangedEvent(saved.getId(), null, BookStatsSnapshot.of(saved)));
+        bookSearchEngine.onBookSaved(saved);
+        return mapToResponse(saved);
     }
 
     /**
@@ -545,107 +475,16 @@ public class BookServiceImpl implements BookService {
     public BookResponse searchBookByTitle(String title) {
         log.info("Searching for book/manga with title: {}", title);
 
-        // First try Google Books
-        Optional<GoogleBooksResponse.BookItem> googleBook = googleBooksService.searchByTitle(title);
-
-        if (googleBook.isPresent()) {
-            GoogleBooksResponse.VolumeInfo volumeInfo = googleBook.get().getVolumeInfo();
-
-            // Check if it's manga
-            if (isManga(volumeInfo)) {
-                log.info("Detected manga from Google Books, attempting Jikan lookup");
-
-                Optional<JikanMangaResponse.JikanMangaData> jikanManga =
-                        jikanService.searchMangaByTitle(volumeInfo.getTitle());
-
-                if (jikanManga.isPresent()) {
-                    return convertJikanToBookResponse(jikanManga.get());
-                }
-            }
-
-            return convertGoogleBookToResponse(volumeInfo);
-        }
-
-        // Try Jikan if Google Books failed
-        log.info("Google Books returned no results, trying Jikan API for: {}", title);
-        Optional<JikanMangaResponse.JikanMangaData> jikanManga = jikanService.searchMangaByTitle(title);
-
-        if (jikanManga.isPresent()) {
-            return convertJikanToBookResponse(jikanManga.get());
-        }
-
-        throw new RuntimeException("Book not found in Google Books or Jikan API with title: " + title);
-    }
-
-    /**
-     * Convert BookResponse to Entity
-     */
-    private Book convertResponseToEntity(BookResponse response) {
-        Book book = new Book();
-        book.setTitle(response.getTitle());
-        book.setAuthor(response.getAuthor());
-        book.setIsbn(response.getIsbn());
-        book.setDescription(response.getDescription());
-        book.setPublishedDate(response.getPublishedDate());
-        book.setPageCount(response.getPageCount());
-        book.setThumbnail(response.getThumbnailUrl());
-        book.setStatus(response.getStatus());
-        return book;
-    }
-
-    /**
-     * Convert Google Books VolumeInfo to BookResponse
-     */
-    private BookResponse convertGoogleBookToResponse(GoogleBooksResponse.VolumeInfo volumeInfo) {
-        BookResponse response = new BookResponse();
-        response.setTitle(volumeInfo.getTitle());
-
-        if (volumeInfo.getAuthors() != null && !volumeInfo.getAuthors().isEmpty()) {
-            response.setAuthor(String.join(", ", volumeInfo.getAuthors()));
-        }
-
-        response.setDescription(volumeInfo.getDescription());
-        response.setPublishedDate(volumeInfo.getPublishedDate());
-        response.setPageCount(volumeInfo.getPageCount());
-
-        if (volumeInfo.getImageLinks() != null) {
-            response.setThumbnailUrl(volumeInfo.getImageLinks().getThumbnail());
-        }
-
-        response.setStatus(ReadingStatus.TO_READ);
-
-        return response;
-    }
-
-    /**
-     * Convert Google Books VolumeInfo to Entity
-     */
-    private Book convertGoogleBookToEntity(GoogleBooksResponse.VolumeInfo volumeInfo) {
-        Book book = new Book();
-        book.setTitle(volumeInfo.getTitle());
-
-        if (volumeInfo.getAuthors() != null && !volumeInfo.getAuthors().isEmpty()) {
-            book.setAuthor(String.join(", ", volumeInfo.getAuthors()));
-        }
-
-        book.setDescription(volumeInfo.getDescription());
-        book.setPublishedDate(volumeInfo.getPublishedDate());
-        book.setPageCount(volumeInfo.getPageCount());
-
-        if (volumeInfo.getImageLinks() != null) {
-            book.setThumbnail(volumeInfo.getImageLinks().getThumbnail());
-        }
-
-        book.setStatus(ReadingStatus.TO_READ);
-
-        return book;
+        return bookLookupService.lookupTitle(title)
+                .orElseThrow(() -> new RuntimeException(
+                        "Book not found in Google Books or Jikan API with title: " + title));
     }
 
     @Override
     public MultiSourceSearchResponse searchAllSources(String query) {
         log.info("Searching all sources for query: {}", query);
 
-        List<BookSearchResult> allResults = new ArrayList<>();
+        Map<String, Supplier<Optional<BookSearchResult>>> lookups = new LinkedHashMap<>();
 
         // Determine if query is ISBN or title
         boolean isIsbn = query.replaceAll("[\\s\\-]", "").matches("^\\d{10}(\\d{3})?$");
@@ -653,41 +492,27 @@ public class BookServiceImpl implements BookService {
         if (isIsbn) {
             String cleanIsbn = query.replaceAll("[\\s\\-]", "");
 
-            //Search OpenLibrary
-            openLibraryService.searchByIsbn(cleanIsbn).ifPresent(data -> {
-                allResults.add(convertOpenLibraryToSearchResult(data, cleanIsbn));
-            });
-
-            //Search Google Books
-            try {
-                googleBooksService.searchByIsbn(cleanIsbn).ifPresent(item -> {
-                    allResults.add(convertGoogleBookToSearchResult(item.getVolumeInfo(), cleanIsbn));
-                });
-            } catch (Exception e) {
-                log.warn("Google Books search failed: {}", e.getMessage());
-            }
+            lookups.put("openLibrary", () -> openLibraryService.searchByIsbn(cleanIsbn)
+                    .map(data -> convertOpenLibraryToSearchResult(data, cleanIsbn)));
+            lookups.put("google", () -> googleBooksService.searchByIsbn(cleanIsbn)
+                    .map(item -> convertGoogleBookToSearchResult(item.getVolumeInfo(), cleanIsbn)));
         } else {
-            //Search by title
-
-            //Search Google Books
-            try {
-                googleBooksService.searchByTitle(query).ifPresent(item -> {
-                    allResults.add(convertGoogleBookToSearchResult(item.getVolumeInfo(), null));
-                });
-            } catch (Exception e) {
-                log.warn("Google Books search failed: {}", e.getMessage());
-            }
-
-            //Search Jikan for manga
-            jikanService.searchMangaByTitle(query).ifPresent(manga -> {
-                allResults.add(convertJikanToSearchResult(manga));
-            });
+            //Search by title, Jikan covers manga
+            lookups.put("google", () -> googleBooksService.searchByTitle(query)
+                    .map(item -> convertGoogleBookToSearchResult(item.getVolumeInfo(), null)));
+            lookups.put("jikan", () -> jikanService.searchMangaByTitle(query)
+                    .map(this::convertJikanToSearchResult));
         }
 
+        //All sources are queried at once, each bounded by its own deadline
+        SourceFanOut.Result<BookSearchResult> fanOut = sourceFanOut.searchAll(lookups);
+
         return MultiSourceSearchResponse.builder()
                 .query(query)
-                .results(allResults)
-                .totalResults(allResults.size())
+                .results(fanOut.results())
+                .totalResults(fanOut.results().size())
+                .timedOutSources(fanOut.timedOutSources())
+                .failedSources(fanOut.failedSources())
                 .build();
     }
 
@@ -0,0 +1,182 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.config.ChangeFeedProperties;
+import com.jennifertellez.library.dto.ChangeFeedResponse;
+import com.jennifertellez.library.exception.RateLimitExceededException;
+import com.jennifertellez.library.model.ChangeOutboxEntry;
+import com.jennifertellez.library.repository.ChangeOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes change_outbox rows and serves them to readers in seq order. Publishing gives committed rows
+ * the next seq numbers from a single thread, so seq follows commit order and a reader holding position N
+ * can never miss a change that commits later with a smaller number. This assumes one application
+ * instance, like the rest of the in-process state. Readers either poll or wait for the next publish.
+ */
+@Slf4j
+@Component
+public class ChangeFeed {
+
+    private static final String ASSIGN_SEQ_SQL = "UPDATE change_outbox SET seq = ? WHERE id = ?";
+
+    private final ChangeOutboxRepository changeOutboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate publishTransaction;
+    private final Executor executor;
+    private final ChangeFeedProperties properties;
+
+    private final AtomicBoolean publishRequested = new AtomicBoolean();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicLong published = new AtomicLong();
+
+    public ChangeFeed(ChangeOutboxRepository changeOutboxRepository,
+                      JdbcTemplate jdbcTemplate,
+                      PlatformTransactionManager transactionManager,
+                      @Qualifier("changeFeedExecutor") Executor executor,
+                      ChangeFeedProperties properties) {
+        this.changeOutboxRepository = changeOutboxRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.publishTransaction = new TransactionTemplate(transactionManager);
+        this.publishTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    // Called after a commit that wrote outbox rows; requests arriving while one is queued are folded into it
+    public void requestPublish() {
+        if (publishRequested.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                publishRequested.set(false);
+                publish();
+            });
+        }
+    }
+
+    /**
+     * Give every committed, unpublished row a seq and wake the readers waiting for it. Also runs on a
+     * timer, which picks up rows whose commit notification was lost.
+     */
+    @Scheduled(fixedDelayString = "${library.changes.publish-interval:5s}")
+    public synchronized void publish() {
+        int total = 0;
+        int assigned;
+        do {
+            assigned = publishTransaction.execute(status -> assignSeqs());
+            total += assigned;
+        } while (assigned == properties.getPublishBatchSize());
+
+        if (total > 0) {
+            published.addAndGet(total);
+            log.debug("Published {} changes", total);
+            waiters.forEach(this::completeIfReady);
+        }
+    }
+
+    private int assignSeqs() {
+        List<Long> ids = changeOutboxRepository.findUnpublishedIds(Limit.of(properties.getPublishBatchSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        long seq = changeOutboxRepository.findLastSeq();
+        List<Object[]> updates = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            updates.add(new Object[]{++seq, id});
+        }
+        jdbcTemplate.batchUpdate(ASSIGN_SEQ_SQL, updates);
+        return ids.size();
+    }
+
+    @Scheduled(cron = "${library.changes.prune-cron:0 45 3 * * *}")
+    public void prune() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        Integer removed = publishTransaction.execute(status -> changeOutboxRepository.deletePublishedBefore(cutoff));
+        log.info("Pruned {} published changes older than {}", removed, cutoff);
+    }
+
+    public ChangeFeedResponse read(long since, int limit) {
+        List<ChangeOutboxEntry> entries = changeOutboxRepository.findBySeqGreaterThanOrderBySeq(since, Limit.of(limit));
+        // seq has no gaps, so anything between since and the oldest kept row was pruned
+        Long first = changeOutboxRepository.findFirstSeq();
+        boolean resyncRequired = first != null && since < first - 1;
+        long nextSince = entries.isEmpty() ? since : entries.get(entries.size() - 1).getSeq();
+        return new ChangeFeedResponse(entries.stream().map(ChangeFeedResponse.Change::of).toList(),
+                nextSince, resyncRequired);
+    }
+
+    /**
+     * Changes after since, straight away if there are any, otherwise as soon as some are published
+     * or once wait has passed, whichever comes first.
+     */
+    public DeferredResult<ChangeFeedResponse> poll(long since, int limit, Duration wait) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        if (limit < 1 || limit > properties.getMaxLimit()) {
+            throw new IllegalArgumentException("limit must be between 1 and " + properties.getMaxLimit());
+        }
+
+        ChangeFeedResponse current = read(since, limit);
+        if (!current.getChanges().isEmpty() || current.isResyncRequired() || wait.isZero() || wait.isNegative()) {
+            DeferredResult<ChangeFeedResponse> result = new DeferredResult<>();
+            result.setResult(current);
+            return result;
+        }
+        if (waiters.size() >= properties.getMaxWaiters()) {
+            throw new RateLimitExceededException("change feed");
+        }
+
+        Duration timeout = wait.compareTo(properties.getMaxWait()) > 0 ? properties.getMaxWait() : wait;
+        DeferredResult<ChangeFeedResponse> result = new DeferredResult<>(timeout.toMillis(), current);
+        Waiter waiter = new Waiter(since, limit, result);
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+        // A publish that finished between the read and registering would not wake this reader
+        completeIfReady(waiter);
+        return result;
+    }
+
+    public Stats stats() {
+        return new Stats(published.get(), waiters.size(), changeOutboxRepository.findLastSeq());
+    }
+
+    public record Stats(long published, int waiting, long lastSeq) {
+    }
+
+    private void completeIfReady(Waiter waiter) {
+        if (waiter.result().isSetOrExpired()) {
+            return;
+        }
+        try {
+            ChangeFeedResponse response = read(waiter.since(), waiter.limit());
+            if (!response.getChanges().isEmpty()) {
+                waiters.remove(waiter);
+                waiter.result().setResult(response);
+            }
+        } catch (RuntimeException e) {
+            waiters.remove(waiter);
+            waiter.result().setErrorResult(e);
+        }
+    }
+
+    private record Waiter(long since, int limit, DeferredResult<ChangeFeedResponse> result) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ChangeOutboxEntry.EntityType;
+import com.jennifertellez.library.model.ChangeOutboxEntry.Operation;
+import com.jennifertellez.library.model.ReadingGoal;
+import com.jennifertellez.library.model.Shelf;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a change_outbox row for every insert, update and delete of a Book, Shelf or ReadingGoal, in the
+ * same transaction, as part of the Hibernate flush; a rolled-back change leaves no row behind. Changes made
+ * with plain JDBC or native SQL are reported through {@link #onBooksInserted} and {@link #onShelfBooksChanged}.
+ * Rows are collected per transaction and written in one JDBC batch just before it commits. Once the
+ * transaction commits, ChangeFeed is asked to publish the new rows.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeOutbox implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionUpdateEventListener {
+
+    private static final String INSERT_SQL = "INSERT INTO change_outbox (entity_type, entity_id, operation, changed_at) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeFeed changeFeed;
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getSession(), event.getEntity(), event.getId(), Operation.CREATED);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        record(event.getSession(), event.getEntity(), event.getId(), Operation.UPDATED);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        record(event.getSession(), event.getEntity(), event.getId(), Operation.DELETED);
+    }
+
+    // Books added to or removed from a shelf through Shelf.books, which leaves the shelf row itself untouched
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        if (event.getAffectedOwnerOrNull() instanceof Shelf) {
+            record(event.getSession(), event.getAffectedOwnerOrNull(), event.getAffectedOwnerIdOrNull(), Operation.UPDATED);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * For books inserted with plain JDBC, which Hibernate never sees. Call inside the inserting transaction.
+     */
+    public void onBooksInserted(List<Book> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        write(books.stream()
+                .map(book -> new Object[]{EntityType.BOOK.name(), book.getId(), Operation.CREATED.name(), now})
+                .toList());
+    }
+
+    /**
+     * For shelf membership changed with native SQL. Call inside the same transaction.
+     */
+    public void onShelfBooksChanged(Long shelfId) {
+        write(List.<Object[]>of(row(EntityType.SHELF, shelfId, Operation.UPDATED)));
+    }
+
+    private void record(EventSource session, Object entity, Object id, Operation operation) {
+        EntityType type = typeOf(entity);
+        if (type == null || !(id instanceof Long entityId)) {
+            return;
+        }
+        PendingChanges pending = write(List.<Object[]>of(row(type, entityId, operation)));
+        // Hibernate's last flush runs after Spring's beforeCommit, so rows from it are written by the session
+        if (pending != null && !pending.hibernateWrites) {
+            pending.hibernateWrites = true;
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) flushed -> pending.writeRows());
+        }
+    }
+
+    private static Object[] row(EntityType type, Long entityId, Operation operation) {
+        return new Object[]{type.name(), entityId, operation.name(), Timestamp.valueOf(LocalDateTime.now())};
+    }
+
+    // Buffered in the transaction's PendingChanges; written straight away when there is no transaction
+    private PendingChanges write(List<Object[]> rows) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            changeFeed.requestPublish();
+            return null;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(rows);
+        return pending;
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final List<Object[]> rows = new ArrayList<>();
+        private boolean hibernateWrites;
+        private boolean written;
+
+        void add(List<Object[]> more) {
+            if (written) {
+                // Reported after the batch went out, but still inside the transaction
+                jdbcTemplate.batchUpdate(INSERT_SQL, more);
+            } else {
+                rows.addAll(more);
+            }
+        }
+
+        void writeRows() {
+            written = true;
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                rows.clear();
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (!hibernateWrites) {
+                writeRows();
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            changeFeed.requestPublish();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeOutbox.this);
+        }
+    }
+
+    private static EntityType typeOf(Object entity) {
+        if (entity instanceof Book) {
+            return EntityType.BOOK;
+        }
+        if (entity instanceof Shelf) {
+            return EntityType.SHELF;
+        }
+        if (entity instanceof ReadingGoal) {
+            return EntityType.READING_GOAL;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,156 @@
+package com.jennifertellez.library.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jennifertellez.library.config.GoalStreamProperties;
+import com.jennifertellez.library.dto.BookChangedEvent;
+import com.jennifertellez.library.exception.RateLimitExceededException;
+import com.jennifertellez.library.exception.ResourceNotFoundException;
+import com.jennifertellez.library.repository.ReadingGoalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes goal progress to SSE subscribers whenever a committed book change can move it.
+ * Progress is computed and serialized once per goal per batch of book changes, and the same
+ * payload is sent to every subscriber.
+ */
+@Slf4j
+@Component
+public class GoalProgressStream implements BookChangeSubscriber {
+
+    private final ReadingGoalService readingGoalService;
+    private final ReadingGoalRepository readingGoalRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final GoalStreamProperties properties;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong computations = new AtomicLong();
+
+    public GoalProgressStream(ReadingGoalService readingGoalService,
+                              ReadingGoalRepository readingGoalRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              GoalStreamProperties properties) {
+        this.readingGoalService = readingGoalService;
+        this.readingGoalRepository = readingGoalRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+    }
+
+    public SseEmitter subscribe(Long goalId) {
+        // Fails with 404 before anything is registered
+        String snapshot = render(goalId);
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        subscribers.compute(goalId, (id, emitters) -> {
+            Set<SseEmitter> current = emitters != null ? emitters : new CopyOnWriteArraySet<>();
+            if (current.size() >= properties.getMaxSubscribersPerGoal()) {
+                throw new RateLimitExceededException("goal " + goalId + " progress stream");
+            }
+            current.add(emitter);
+            return current;
+        });
+        emitter.onCompletion(() -> unsubscribe(goalId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(goalId, emitter));
+
+        log.info("Progress stream opened for goal {}", goalId);
+        send(goalId, emitter, snapshot);
+        return emitter;
+    }
+
+    @Override
+    public String subscriberName() {
+        return "goal-progress-stream";
+    }
+
+    @Override
+    public void onBookChanges(List<BookChangedEvent> changes) {
+        for (Long goalId : subscribers.keySet()) {
+            // A goal deleted meanwhile is broadcast too, which closes its streams
+            boolean affected = readingGoalRepository.findById(goalId)
+                    .map(goal -> changes.stream().anyMatch(change ->
+                            change.affectsGoalWindow(goal.getStartDate(), goal.getEndDate())))
+                    .orElse(true);
+            if (affected) {
+                broadcast(goalId);
+            }
+        }
+    }
+
+    @Override
+    public void onOverflow() {
+        subscribers.keySet().forEach(this::broadcast);
+    }
+
+    public Stats stats() {
+        int open = subscribers.values().stream().mapToInt(Set::size).sum();
+        return new Stats(subscribers.size(), open, computations.get());
+    }
+
+    public record Stats(int goals, int subscribers, long computations) {
+    }
+
+    private void broadcast(Long goalId) {
+        Set<SseEmitter> emitters = subscribers.get(goalId);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        String snapshot;
+        try {
+            snapshot = render(goalId);
+        } catch (ResourceNotFoundException e) {
+            log.info("Goal {} was deleted, closing its progress streams", goalId);
+            emitters.forEach(SseEmitter::complete);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Could not recompute progress for goal {}: {}", goalId, e.getMessage());
+            return;
+        }
+        emitters.forEach(emitter -> send(goalId, emitter, snapshot));
+    }
+
+    // One read-only transaction for the goal lookup and both progress queries
+    private String render(Long goalId) {
+        return readOnlyTransaction.execute(status -> {
+            computations.incrementAndGet();
+            try {
+                return objectMapper.writeValueAsString(readingGoalService.getGoalProgress(goalId));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize progress for goal " + goalId, e);
+            }
+        });
+    }
+
+    private void send(Long goalId, SseEmitter emitter, String snapshot) {
+        try {
+            emitter.send(SseEmitter.event().name("progress").data(snapshot, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping progress subscriber for goal {}: {}", goalId, e.getMessage());
+            unsubscribe(goalId, emitter);
+        }
+    }
+
+    private void unsubscribe(Long goalId, SseEmitter emitter) {
+        subscribers.computeIfPresent(goalId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -1,10 +1,15 @@
 package com.jennifertellez.library.service;
 
-import com.jennifertellez.library.dto.BookResponse;
-import com.jennifertellez.library.dto.CreateBookRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.jennifertellez.library.client.CircuitBreaker;
+import com.jennifertellez.library.client.CircuitBreakerRegistry;
+import com.jennifertellez.library.client.LookupCache;
+import com.jennifertellez.library.client.LookupCacheManager;
+import com.jennifertellez.library.client.LookupKeys;
+import com.jennifertellez.library.client.RateLimiterRegistry;
 import com.jennifertellez.library.dto.GoogleBooksResponse;
-import com.jennifertellez.library.model.ReadingStatus;
-import lombok.RequiredArgsConstructor;
+import com.jennifertellez.library.exception.CircuitBreakerOpenException;
+import com.jennifertellez.library.exception.RateLimitExceededException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
@@ -15,13 +20,31 @@ import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class GoogleBooksService {
 
     private static final String GOOGLE_BOOKS_API_BASE = "https://www.googleapis.com/books/v1/volumes";
     private static final String GOOGLE_BOOKS_API = GOOGLE_BOOKS_API_BASE + "?q=isbn:";
+    static final String SOURCE = "google";
+    private static final TypeReference<GoogleBooksResponse.BookItem> CACHED_TYPE = new TypeReference<>() {
+    };
+
     private final RestTemplate restTemplate;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final LookupCache<GoogleBooksResponse.BookItem> isbnCache;
+    private final LookupCache<GoogleBooksResponse.BookItem> titleCache;
+
+    public GoogleBooksService(RestTemplate restTemplate,
+                              RateLimiterRegistry rateLimiterRegistry,
+                              CircuitBreakerRegistry circuitBreakerRegistry,
+                              LookupCacheManager lookupCacheManager) {
+        this.restTemplate = restTemplate;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.isbnCache = lookupCacheManager.create(SOURCE + "-isbn", LookupKeys::isbn, CACHED_TYPE);
+        this.titleCache = lookupCacheManager.create(SOURCE + "-title", LookupKeys::title, CACHED_TYPE);
+    }
 
     /**
      * Search Google Books by ISBN (returns Optional for integration with manga detection)
@@ -30,29 +53,43 @@ public class GoogleBooksService {
         log.info("Searching Google Books API for ISBN: {}", isbn);
 
         try {
-            String url = GOOGLE_BOOKS_API + isbn;
-            log.info("Full URL: {}", url);
+            return isbnCache.get(isbn, () -> fetchByIsbn(isbn));
+        } catch (RestClientException e) {
+            log.error("Error calling Google Books API for ISBN {}: {}", isbn, e.getMessage());
+            log.error("Stack trace: ", e);
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Thread interrupted while waiting for rate limit", e);
+            return Optional.empty();
+        } catch (RateLimitExceededException | CircuitBreakerOpenException e) {
+            log.warn("Skipping Google Books search for ISBN {}: {}", isbn, e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-            GoogleBooksResponse response = restTemplate.getForObject(url, GoogleBooksResponse.class);
+    private Optional<GoogleBooksResponse.BookItem> fetchByIsbn(String isbn) throws InterruptedException {
+        CircuitBreaker breaker = circuitBreakerRegistry.get(SOURCE);
+        breaker.acquirePermission();
+        rateLimiterRegistry.get(SOURCE).acquirePermission();
 
-            log.info("Response received: {}", response != null ? "yes" : "null");
-            if (response != null) {
-                log.info("Items in response: {}", response.getItems() != null ? response.getItems().size() : "null");
-            }
+        String url = GOOGLE_BOOKS_API + isbn;
+        log.info("Full URL: {}", url);
 
-            if (response != null && response.getItems() != null && !response.getItems().isEmpty()) {
-                log.info("Book found: {}", response.getItems().get(0).getVolumeInfo().getTitle());
-                return Optional.of(response.getItems().get(0));
-            }
+        GoogleBooksResponse response = breaker.record(() -> restTemplate.getForObject(url, GoogleBooksResponse.class));
 
-            log.warn("No book found in Google Books for ISBN: {}", isbn);
-            return Optional.empty();
+        log.info("Response received: {}", response != null ? "yes" : "null");
+        if (response != null) {
+            log.info("Items in response: {}", response.getItems() != null ? response.getItems().size() : "null");
+        }
 
-        } catch (RestClientException e) {
-            log.error("Error calling Google Books API for ISBN {}: {}", isbn, e.getMessage());
-            log.error("Stack trace: ", e);
-            return Optional.empty();
+        if (response != null && response.getItems() != null && !response.getItems().isEmpty()) {
+            log.info("Book found: {}", response.getItems().get(0).getVolumeInfo().getTitle());
+            return Optional.of(response.getItems().get(0));
         }
+
+        log.warn("No book found in Google Books for ISBN: {}", isbn);
+        return Optional.empty();
     }
 
     /**
@@ -62,21 +99,35 @@ public class GoogleBooksService {
         log.info("Searching Google Books API for title: {}", title);
 
         try {
-            String encodedTitle = URLEncoder.encode(title, StandardCharsets.UTF_8);
-            String url = GOOGLE_BOOKS_API_BASE + "?q=" + encodedTitle;
+            return titleCache.get(title, () -> fetchByTitle(title));
+        } catch (RestClientException e) {
+            log.error("Error calling Google Books API for title {}: {}", title, e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Thread interrupted while waiting for rate limit", e);
+            return Optional.empty();
+        } catch (RateLimitExceededException | CircuitBreakerOpenException e) {
+            log.warn("Skipping Google Books search for title {}: {}", title, e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-            GoogleBooksResponse response = restTemplate.getForObject(url, GoogleBooksResponse.class);
+    private Optional<GoogleBooksResponse.BookItem> fetchByTitle(String title) throws InterruptedException {
+        CircuitBreaker breaker = circuitBreakerRegistry.get(SOURCE);
+        breaker.acquirePermission();
+        rateLimiterRegistry.get(SOURCE).acquirePermission();
 
-            if (response != null && response.getItems() != null && !response.getItems().isEmpty()) {
-                return Optional.of(response.getItems().get(0));
-            }
+        String encodedTitle = URLEncoder.encode(title, StandardCharsets.UTF_8);
+        String url = GOOGLE_BOOKS_API_BASE + "?q=" + encodedTitle;
 
-            log.info("No book found in Google Books for title: {}", title);
-            return Optional.empty();
+        GoogleBooksResponse response = breaker.record(() -> restTemplate.getForObject(url, GoogleBooksResponse.class));
 
-        } catch (RestClientException e) {
-            log.error("Error calling Google Books API for title {}: {}", title, e.getMessage());
-            return Optional.empty();
+        if (response != null && response.getItems() != null && !response.getItems().isEmpty()) {
+            return Optional.of(response.getItems().get(0));
         }
+
+        log.info("No book found in Google Books for title: {}", title);
+        return Optional.empty();
     }
 }
@@ -1,9 +1,17 @@
 package com.jennifertellez.library.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.jennifertellez.library.client.CircuitBreaker;
+import com.jennifertellez.library.client.CircuitBreakerRegistry;
+import com.jennifertellez.library.client.LookupCache;
+import com.jennifertellez.library.client.LookupCacheManager;
+import com.jennifertellez.library.client.LookupKeys;
+import com.jennifertellez.library.client.RateLimiterRegistry;
 import com.jennifertellez.library.dto.jikan.JikanMangaResponse;
 import com.jennifertellez.library.dto.jikan.JikanMangaResponse.JikanMangaData;
 import com.jennifertellez.library.dto.jikan.JikanSingleMangaResponse;
-import lombok.RequiredArgsConstructor;
+import com.jennifertellez.library.exception.CircuitBreakerOpenException;
+import com.jennifertellez.library.exception.RateLimitExceededException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -12,74 +20,109 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class JikanService {
 
+    static final String SOURCE = "jikan";
+    private static final TypeReference<JikanMangaData> CACHED_TYPE = new TypeReference<>() {
+    };
+
     private final RestTemplate restTemplate;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final LookupCache<JikanMangaData> titleCache;
+    private final LookupCache<JikanMangaData> idCache;
     private static final String JIKAN_BASE_URL = "https://api.jikan.moe/v4";
 
+    public JikanService(RestTemplate restTemplate,
+                        RateLimiterRegistry rateLimiterRegistry,
+                        CircuitBreakerRegistry circuitBreakerRegistry,
+                        LookupCacheManager lookupCacheManager) {
+        this.restTemplate = restTemplate;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.titleCache = lookupCacheManager.create(SOURCE + "-title", LookupKeys::title, CACHED_TYPE);
+        this.idCache = lookupCacheManager.create(SOURCE + "-id", LookupKeys::id, CACHED_TYPE);
+    }
+
     /**
      * Search for manga by title
      */
     public Optional<JikanMangaData> searchMangaByTitle(String title) {
         try {
-            Thread.sleep(350); // rate limit safety
-
-            String url = UriComponentsBuilder
-                    .fromUriString(JIKAN_BASE_URL + "/manga")
-                    .queryParam("q", title)
-                    .queryParam("limit", 1)
-                    .queryParam("order_by", "popularity")
-                    .build()
-                    .toUriString();
-
-            log.info("Searching Jikan API for manga: {}", title);
-
-            JikanMangaResponse response =
-                    restTemplate.getForObject(url, JikanMangaResponse.class);
-
-            if (response != null && response.getData() != null && !response.getData().isEmpty()) {
-                return Optional.of(response.getData().get(0));
-            }
-
-            return Optional.empty();
-
+            return titleCache.get(title, () -> fetchMangaByTitle(title));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("Thread interrupted while waiting for rate limit", e);
             return Optional.empty();
+        } catch (RateLimitExceededException | CircuitBreakerOpenException e) {
+            log.warn("Skipping Jikan search for title {}: {}", title, e.getMessage());
+            return Optional.empty();
         } catch (Exception e) {
             log.error("Error searching Jikan API for title: {}", title, e);
             return Optional.empty();
         }
     }
 
-    /**
-     * Get manga by MAL ID
-     */
-    public Optional<JikanMangaData> getMangaById(Long malId) {
-        try {
-            Thread.sleep(350);
+    private Optional<JikanMangaData> fetchMangaByTitle(String title) throws InterruptedException {
+        CircuitBreaker breaker = circuitBreakerRegistry.get(SOURCE);
+        breaker.acquirePermission();
+        // Jikan allows 3 requests/second across all callers
+        rateLimiterRegistry.get(SOURCE).acquirePermission();
 
-            String url = JIKAN_BASE_URL + "/manga/" + malId;
+        String url = UriComponentsBuilder
+                .fromUriString(JIKAN_BASE_URL + "/manga")
+                .queryParam("q", title)
+                .queryParam("limit", 1)
+                .queryParam("order_by", "popularity")
+                .build()
+                .toUriString();
 
-            log.info("Fetching manga from Jikan API with MAL ID: {}", malId);
+        log.info("Searching Jikan API for manga: {}", title);
 
-            JikanSingleMangaResponse response =
-                    restTemplate.getForObject(url, JikanSingleMangaResponse.class);
+        JikanMangaResponse response =
+                breaker.record(() -> restTemplate.getForObject(url, JikanMangaResponse.class));
 
-            return response != null && response.getData() != null
-                    ? Optional.of(response.getData())
-                    : Optional.empty();
+        if (response != null && response.getData() != null && !response.getData().isEmpty()) {
+            return Optional.of(response.getData().get(0));
+        }
+
+        return Optional.empty();
+    }
 
+    /**
+     * Get manga by MAL ID
+     */
+    public Optional<JikanMangaData> getMangaById(Long malId) {
+        try {
+            return idCache.get(String.valueOf(malId), () -> fetchMangaById(malId));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("Thread interrupted while waiting for rate limit", e);
             return Optional.empty();
+        } catch (RateLimitExceededException | CircuitBreakerOpenException e) {
+            log.warn("Skipping Jikan lookup for MAL ID {}: {}", malId, e.getMessage());
+            return Optional.empty();
         } catch (Exception e) {
             log.error("Error fetching manga from Jikan API with ID: {}", malId, e);
             return Optional.empty();
         }
     }
+
+    private Optional<JikanMangaData> fetchMangaById(Long malId) throws InterruptedException {
+        CircuitBreaker breaker = circuitBreakerRegistry.get(SOURCE);
+        breaker.acquirePermission();
+        rateLimiterRegistry.get(SOURCE).acquirePermission();
+
+        String url = JIKAN_BASE_URL + "/manga/" + malId;
+
+        log.info("Fetching manga from Jikan API with MAL ID: {}", malId);
+
+        JikanSingleMangaResponse response =
+                breaker.record(() -> restTemplate.getForObject(url, JikanSingleMangaResponse.class));
+
+        return response != null && response.getData() != null
+                ? Optional.of(response.getData())
+                : Optional.empty();
+    }
 }
@@ -1,48 +1,144 @@
 package com.jennifertellez.library.service;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.jennifertellez.library.client.CircuitBreaker;
+import com.jennifertellez.library.client.CircuitBreakerRegistry;
+import com.jennifertellez.library.client.LookupCache;
+import com.jennifertellez.library.client.LookupCacheManager;
+import com.jennifertellez.library.client.LookupKeys;
+import com.jennifertellez.library.client.MicroBatcher;
+import com.jennifertellez.library.client.RateLimiterRegistry;
+import com.jennifertellez.library.config.ExternalSearchProperties;
+import com.jennifertellez.library.exception.CircuitBreakerOpenException;
+import com.jennifertellez.library.exception.RateLimitExceededException;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OpenLibraryService {
 
-    private static final String OPEN_LIBRARY_API = "https://openlibrary.org/api/books?bibkeys=ISBN:";
+    private static final String OPEN_LIBRARY_API = "https://openlibrary.org/api/books?bibkeys=";
+    static final String SOURCE = "openLibrary";
+    private static final TypeReference<Map<String, Object>> CACHED_TYPE = new TypeReference<>() {
+    };
+
     private final RestTemplate restTemplate;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final LookupCache<Map<String, Object>> isbnCache;
+    private final MicroBatcher<String, Map<String, Object>> isbnBatcher;
+    private final int maxBibkeys;
+
+    public OpenLibraryService(RestTemplate restTemplate,
+                              RateLimiterRegistry rateLimiterRegistry,
+                              CircuitBreakerRegistry circuitBreakerRegistry,
+                              LookupCacheManager lookupCacheManager,
+                              ExternalSearchProperties properties) {
+        this.restTemplate = restTemplate;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.isbnCache = lookupCacheManager.create(SOURCE + "-isbn", LookupKeys::isbn, CACHED_TYPE);
+        this.maxBibkeys = properties.getIsbnBatchMaxSize();
+        this.isbnBatcher = new MicroBatcher<>(SOURCE + "-isbn", this::fetchFound,
+                properties.getIsbnBatchWindow(), maxBibkeys, properties.getIsbnBatchThreads());
+    }
 
     /**
-     * Search OpenLibrary by ISBN
+     * Search OpenLibrary by ISBN. Concurrent cache misses are coalesced into one request.
      */
     public Optional<Map<String, Object>> searchByIsbn(String isbn) {
         log.info("Searching OpenLibrary API for ISBN: {}", isbn);
 
         try {
-            String url = OPEN_LIBRARY_API + isbn + "&format=json&jscmd=data";
-
-            @SuppressWarnings("unchecked")
-                    Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-
-            if (response != null && !response.isEmpty()) {
-                String kay = "ISBN:" + isbn;
-                if (response.containsKey(kay)) {
-                    @SuppressWarnings("unchecked")
-                            Map<String, Object> bookData = (Map<String, Object>) response.get(kay);
-                    return Optional.of(bookData);
-                }
-            }
-            log.info("No book found in OpenLibrary for ISBN: {}", isbn);
-            return Optional.empty();
-
+            return isbnCache.get(isbn, () -> Optional.ofNullable(isbnBatcher.get(LookupKeys.isbn(isbn))));
         } catch (RestClientException e) {
             log.error("Error calling OpenLibrary API for ISBN {}: {}", isbn, e.getMessage());
             return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Thread interrupted while waiting for rate limit", e);
+            return Optional.empty();
+        } catch (RateLimitExceededException | CircuitBreakerOpenException e) {
+            log.warn("Skipping OpenLibrary search for ISBN {}: {}", isbn, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Search OpenLibrary for many ISBNs, asking for up to the batch size per request.
+     * Returns the books found, keyed by the ISBN as given.
+     */
+    public Map<String, Map<String, Object>> searchByIsbns(Collection<String> isbns) {
+        log.info("Searching OpenLibrary API for {} ISBNs", isbns.size());
+
+        Map<String, Map<String, Object>> found = new LinkedHashMap<>();
+        try {
+            isbnCache.getAll(isbns, this::fetchByIsbns)
+                    .forEach((isbn, book) -> book.ifPresent(data -> found.put(isbn, data)));
+        } catch (RestClientException e) {
+            log.error("Error calling OpenLibrary API for {} ISBNs: {}", isbns.size(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Thread interrupted while waiting for rate limit", e);
+        } catch (RateLimitExceededException | CircuitBreakerOpenException e) {
+            log.warn("Skipping OpenLibrary search for {} ISBNs: {}", isbns.size(), e.getMessage());
+        }
+        return found;
+    }
+
+    public MicroBatcher.Stats batchStats() {
+        return isbnBatcher.stats();
+    }
+
+    private Map<String, Optional<Map<String, Object>>> fetchByIsbns(List<String> isbns) throws InterruptedException {
+        Map<String, Optional<Map<String, Object>>> results = new HashMap<>();
+        for (int from = 0; from < isbns.size(); from += maxBibkeys) {
+            List<String> chunk = isbns.subList(from, Math.min(from + maxBibkeys, isbns.size()));
+            Map<String, Map<String, Object>> found = fetchFound(chunk);
+            chunk.forEach(isbn -> results.put(isbn, Optional.ofNullable(found.get(isbn))));
         }
+        return results;
+    }
+
+    // One bibkeys request for the whole list; ISBNs OpenLibrary doesn't know are simply absent
+    private Map<String, Map<String, Object>> fetchFound(List<String> isbns) throws InterruptedException {
+        CircuitBreaker breaker = circuitBreakerRegistry.get(SOURCE);
+        breaker.acquirePermission();
+        rateLimiterRegistry.get(SOURCE).acquirePermission();
+
+        String bibkeys = String.join(",", isbns.stream().map(isbn -> "ISBN:" + isbn).toList());
+        String url = OPEN_LIBRARY_API + bibkeys + "&format=json&jscmd=data";
+
+        @SuppressWarnings("unchecked")
+                Map<String, Object> response = breaker.record(() -> restTemplate.getForObject(url, Map.class));
+
+        Map<String, Map<String, Object>> found = new HashMap<>();
+        for (String isbn : isbns) {
+            String kay = "ISBN:" + isbn;
+            if (response != null && response.containsKey(kay)) {
+                @SuppressWarnings("unchecked")
+                        Map<String, Object> bookData = (Map<String, Object>) response.get(kay);
+                found.put(isbn, bookData);
+            } else {
+                log.info("No book found in OpenLibrary for ISBN: {}", isbn);
+            }
+        }
+        return found;
+    }
+
+    @PreDestroy
+    public void close() {
+        isbnBatcher.close();
     }
 }
@@ -0,0 +1,282 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingActivityDaily;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.ReadingActivityRepository;
+import com.jennifertellez.library.repository.projection.DailyActivity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps reading_activity_daily in step with the books table. Every insert, update and delete of a Book
+ * that goes through Hibernate adjusts the affected days in the same transaction, as part of the flush.
+ * Rows written with plain JDBC are reported through {@link #onBooksInserted}. Anything else, such as
+ * manual SQL, is repaired by {@link #reconcile()} at startup and every night.
+ */
+@Component
+@Slf4j
+public class ReadingActivityRollup implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    private static final String UPDATE_SQL = "UPDATE reading_activity_daily SET " +
+            "finished_count = finished_count + ?, pages_read = pages_read + ?, started_count = started_count + ? " +
+            "WHERE activity_date = ?";
+    private static final String SET_SQL = "UPDATE reading_activity_daily SET " +
+            "finished_count = ?, pages_read = ?, started_count = ? WHERE activity_date = ?";
+    // Blocks every insert, update and delete of rollup rows until the repair commits; plain reads go on
+    private static final String POSTGRES_LOCK_SQL = "LOCK TABLE reading_activity_daily IN SHARE ROW EXCLUSIVE MODE";
+    // ON CONFLICT lets two transactions create the same day at once; other databases fall back to NOT EXISTS
+    private static final String POSTGRES_INSERT_SQL = "INSERT INTO reading_activity_daily " +
+            "(activity_date, finished_count, pages_read, started_count) VALUES (?, 0, 0, 0) " +
+            "ON CONFLICT (activity_date) DO NOTHING";
+    private static final String PORTABLE_INSERT_SQL = "INSERT INTO reading_activity_daily " +
+            "(activity_date, finished_count, pages_read, started_count) SELECT ?, 0, 0, 0 " +
+            "WHERE NOT EXISTS (SELECT 1 FROM reading_activity_daily WHERE activity_date = ?)";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final BookRepository bookRepository;
+    private final ReadingActivityRepository readingActivityRepository;
+    private final TransactionTemplate repairTransaction;
+    private final boolean postgres;
+
+    public ReadingActivityRollup(EntityManagerFactory entityManagerFactory,
+                                 JdbcTemplate jdbcTemplate,
+                                 BookRepository bookRepository,
+                                 ReadingActivityRepository readingActivityRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookRepository = bookRepository;
+        this.readingActivityRepository = readingActivityRepository;
+        // Always its own transaction, even when called from a read-only one
+        this.repairTransaction = new TransactionTemplate(transactionManager);
+        this.repairTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.postgres = "PostgreSQL".equals(databaseProductName(jdbcTemplate));
+    }
+
+    private static String databaseProductName(JdbcTemplate jdbcTemplate) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            return "unknown";
+        }
+    }
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Book book) {
+            apply(null, Activity.of(book));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Book book) {
+            if (event.getOldState() == null) {
+                // Only happens for detached updates; the next reconcile picks the change up
+                log.warn("No previous state for book {}, activity rollup left for the reconciler", book.getId());
+                return;
+            }
+            apply(Activity.of(event.getOldState(), event.getPersister()), Activity.of(book));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Book) {
+            apply(Activity.of(event.getDeletedState(), event.getPersister()), null);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * For books inserted with plain JDBC, which Hibernate never sees. Call inside the inserting transaction.
+     */
+    public void onBooksInserted(List<Book> books) {
+        books.forEach(book -> apply(null, Activity.of(book)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void warmUp() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${library.activity.reconcile-cron:0 30 3 * * *}")
+    public void reconcileNightly() {
+        reconcile();
+    }
+
+    /**
+     * Recompute every day from GROUP BY queries over books and fix the rows that differ.
+     * Returns the number of days that had drifted.
+     */
+    public int reconcile() {
+        int repaired = repairTransaction.execute(status -> repair());
+        if (repaired > 0) {
+            log.warn("Reading activity rollup repaired {} days", repaired);
+        } else {
+            log.info("Reading activity rollup is consistent with books");
+        }
+        return repaired;
+    }
+
+    private int repair() {
+        // Lock the rollup before reading books. On PostgreSQL the table lock also holds back writers creating
+        // a new day; elsewhere only the existing rows are locked, and new days go through insertDay like apply
+        if (postgres) {
+            jdbcTemplate.execute(POSTGRES_LOCK_SQL);
+        }
+        Map<LocalDate, ReadingActivityDaily> actual = readingActivityRepository.findAllForUpdate().stream()
+                .collect(Collectors.toMap(ReadingActivityDaily::getActivityDate, Function.identity()));
+
+        Map<LocalDate, ReadingActivityDaily> expected = new HashMap<>();
+        for (DailyActivity row : bookRepository.countByStatusAndFinishedDay(ReadingStatus.FINISHED)) {
+            ReadingActivityDaily day = expected.computeIfAbsent(row.day(), ReadingActivityRollup::emptyDay);
+            day.setFinishedCount(row.books());
+            day.setPagesRead(row.pages());
+        }
+        for (DailyActivity row : bookRepository.countStartedByDay()) {
+            expected.computeIfAbsent(row.day(), ReadingActivityRollup::emptyDay).setStartedCount(row.books());
+        }
+
+        int repaired = 0;
+        for (ReadingActivityDaily want : expected.values()) {
+            ReadingActivityDaily have = actual.remove(want.getActivityDate());
+            if (have == null) {
+                insertDay(want.getActivityDate());
+                jdbcTemplate.update(SET_SQL, want.getFinishedCount(), want.getPagesRead(), want.getStartedCount(),
+                        want.getActivityDate());
+                repaired++;
+            } else if (!have.equals(want)) {
+                have.setFinishedCount(want.getFinishedCount());
+                have.setPagesRead(want.getPagesRead());
+                have.setStartedCount(want.getStartedCount());
+                repaired++;
+            }
+        }
+
+        // Days left over have no activity any more; only non-zero ones had drifted
+        for (ReadingActivityDaily stale : actual.values()) {
+            if (stale.getFinishedCount() != 0 || stale.getPagesRead() != 0 || stale.getStartedCount() != 0) {
+                repaired++;
+            }
+        }
+        readingActivityRepository.deleteAll(actual.values());
+        return repaired;
+    }
+
+    private static ReadingActivityDaily emptyDay(LocalDate day) {
+        return new ReadingActivityDaily(day, 0, 0, 0);
+    }
+
+    // Days are updated in date order, so two transactions touching the same days lock them in the same
+    // order and cannot deadlock; one still waits for the other to commit
+    private void apply(Activity removed, Activity added) {
+        Map<LocalDate, long[]> deltas = new TreeMap<>();
+        if (removed != null) {
+            removed.addTo(deltas, -1);
+        }
+        if (added != null) {
+            added.addTo(deltas, 1);
+        }
+        deltas.forEach((day, delta) -> {
+            if (delta[0] == 0 && delta[1] == 0 && delta[2] == 0) {
+                return;
+            }
+            if (jdbcTemplate.update(UPDATE_SQL, delta[0], delta[1], delta[2], day) == 0) {
+                insertDay(day);
+                jdbcTemplate.update(UPDATE_SQL, delta[0], delta[1], delta[2], day);
+            }
+        });
+    }
+
+    private void insertDay(LocalDate day) {
+        if (postgres) {
+            jdbcTemplate.update(POSTGRES_INSERT_SQL, day);
+        } else {
+            jdbcTemplate.update(PORTABLE_INSERT_SQL, day, day);
+        }
+    }
+
+    private record Activity(ReadingStatus status, LocalDate finishedDate, Integer pageCount, LocalDate dateStarted) {
+
+        static Activity of(Book book) {
+            return new Activity(book.getStatus(), book.getFinishedDate(), book.getPageCount(), book.getDateStarted());
+        }
+
+        static Activity of(Object[] state, EntityPersister persister) {
+            return new Activity(
+                    (ReadingStatus) value(state, persister, "status"),
+                    (LocalDate) value(state, persister, "finishedDate"),
+                    (Integer) value(state, persister, "pageCount"),
+                    (LocalDate) value(state, persister, "dateStarted"));
+        }
+
+        private static Object value(Object[] state, EntityPersister persister, String property) {
+            return state[persister.getEntityMetamodel().getPropertyIndex(property)];
+        }
+
+        // delta[0] finished books, delta[1] pages read, delta[2] started books
+        void addTo(Map<LocalDate, long[]> deltas, int sign) {
+            if (status == ReadingStatus.FINISHED && finishedDate != null) {
+                long[] delta = deltas.computeIfAbsent(finishedDate, day -> new long[3]);
+                delta[0] += sign;
+                delta[1] += (long) sign * (pageCount == null ? 0 : pageCount);
+            }
+            if (dateStarted != null) {
+                deltas.computeIfAbsent(dateStarted, day -> new long[3])[2] += sign;
+            }
+        }
+    }
+}
@@ -2,18 +2,24 @@ package com.jennifertellez.library.service;
 
 import com.jennifertellez.library.dto.*;
 import com.jennifertellez.library.exception.ResourceNotFoundException;
-import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingActivityDaily;
 import com.jennifertellez.library.model.ReadingGoal;
 import com.jennifertellez.library.model.ReadingStatus;
 import com.jennifertellez.library.repository.BookRepository;
 import com.jennifertellez.library.repository.ReadingGoalRepository;
+import com.jennifertellez.library.repository.ReadingActivityRepository;
+import com.jennifertellez.library.repository.projection.MonthlyActivity;
+import com.jennifertellez.library.repository.projection.RecentlyFinishedBook;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +32,9 @@ public class ReadingGoalService {
 
     private final ReadingGoalRepository readingGoalRepository;
     private final BookRepository bookRepository;
+    private final ReadingActivityRepository readingActivityRepository;
+
+    private static final int RECENTLY_FINISHED_LIMIT = 5;
 
     @Transactional
     public ReadingGoal createGoal(CreateReadingGoalRequest createReadingGoalRequest) {
@@ -39,7 +48,7 @@ public class ReadingGoalService {
         goal.setDescription(createReadingGoalRequest.getDescription());
         goal.setIsActive(createReadingGoalRequest.getEndDate().isAfter(LocalDate.now()));
 
-        ReadingGoal saved = readingGoalRepository.save(goal);
+        ReadingGoal saved = readingGoalRepository.saveAndFlush(goal);
         log.info("Created reading goal with ID: {}", saved.getId());
 
         return saved;
@@ -105,13 +114,61 @@ public class ReadingGoalService {
     public GoalProgressDTO getGoalProgress(Long goalId) {
         ReadingGoal goal = getGoalById(goalId);
 
-        List<Book> finishedBooks = bookRepository.findByStatusAndFinishedDateBetween(
+        // A range scan over the daily rollup, at most one row per day of the goal
+        Map<String, Integer> finishedPerMonth = readingActivityRepository.sumFinishedByMonth(
+                        goal.getStartDate(),
+                        goal.getEndDate()
+                ).stream()
+                .collect(Collectors.toMap(MonthlyActivity::key, month -> month.getFinished().intValue()));
+
+        return buildProgress(goal, finishedPerMonth, findRecentlyFinished(goal));
+    }
+
+    /**
+     * Progress for every goal, or for the goals of one year, from a single pass over the rollup.
+     * The finished days covering all the goal windows are read once in date order; each goal then
+     * takes its monthly counts from shared running totals, so overlapping windows reuse the same rows.
+     */
+    @Transactional(readOnly = true)
+    public List<GoalProgressDTO> getAllGoalProgress(Integer year) {
+        List<ReadingGoal> goals = year != null
+                ? readingGoalRepository.findByYearOrderByStartDateDesc(year)
+                : readingGoalRepository.findAllByOrderByCreatedAtDesc();
+        if (goals.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate from = goals.stream().map(ReadingGoal::getStartDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = goals.stream().map(ReadingGoal::getEndDate).max(LocalDate::compareTo).orElseThrow();
+        FinishedTimeline timeline = new FinishedTimeline(readingActivityRepository.findFinishedDays(from, to));
+
+        // Goals sharing a window share the recently finished lookup too
+        Map<List<LocalDate>, List<RecentlyFinishedBook>> recentByWindow = new HashMap<>();
+
+        List<GoalProgressDTO> progress = new ArrayList<>(goals.size());
+        for (ReadingGoal goal : goals) {
+            List<RecentlyFinishedBook> recentlyFinished = recentByWindow.computeIfAbsent(
+                    List.of(goal.getStartDate(), goal.getEndDate()),
+                    window -> findRecentlyFinished(goal));
+            progress.add(buildProgress(goal, timeline.finishedPerMonth(goal.getStartDate(), goal.getEndDate()),
+                    recentlyFinished));
+        }
+        log.debug("Computed progress for {} goals from {} rollup days", goals.size(), timeline.size());
+        return progress;
+    }
+
+    private List<RecentlyFinishedBook> findRecentlyFinished(ReadingGoal goal) {
+        return bookRepository.findRecentlyFinished(
                 ReadingStatus.FINISHED,
                 goal.getStartDate(),
-                goal.getEndDate()
+                goal.getEndDate(),
+                Limit.of(RECENTLY_FINISHED_LIMIT)
         );
+    }
 
-        int booksRead = finishedBooks.size();
+    private GoalProgressDTO buildProgress(ReadingGoal goal, Map<String, Integer> finishedPerMonth,
+                                          List<RecentlyFinishedBook> recentlyFinished) {
+        int booksRead = finishedPerMonth.values().stream().mapToInt(Integer::intValue).sum();
         int booksRemaining = Math.max(0, goal.getTargetBooks() - booksRead);
         double percentageComplete = goal.getTargetBooks() > 0
                 ? (booksRead * 100.0) / goal.getTargetBooks() : 0.0;
@@ -150,30 +207,13 @@ public class ReadingGoalService {
 
         while (current.isBefore(end) || current.equals(end)) {
             String monthKey = current.getYear() + "-" + String.format("%02d", current.getMonthValue());
-
-            LocalDate monthStart = current.withDayOfMonth(1);
-            LocalDate monthEnd = current.withDayOfMonth(current.lengthOfMonth());
-
-            // Count books finished in this month
-            long booksInMonth = finishedBooks.stream()
-                    .filter(book -> {
-                        LocalDate finished = book.getFinishedDate();
-                        return !finished.isBefore(monthStart) && !finished.isAfter(monthEnd);
-                    })
-                    .count();
-            monthlyBreakdown.put(monthKey, (int) booksInMonth);
+            monthlyBreakdown.put(monthKey, finishedPerMonth.getOrDefault(monthKey, 0));
 
             // Move to next month
             current = current.plusMonths(1);
 
         }
 
-
-        List<Book> recentlyFinished = finishedBooks.stream()
-                .sorted((b1, b2) -> b2.getFinishedDate().compareTo(b1.getFinishedDate()))
-                .limit(5)
-                .toList();
-
         GoalProgressDTO progress = GoalProgressDTO.fromGoal(goal);
         progress.setBooksRead(booksRead);
         progress.setBooksRemaining(booksRemaining);
@@ -187,4 +227,60 @@ public class ReadingGoalService {
 
         return progress;
     }
+
+    /**
+     * Finished-book counts per day, sorted once, with running totals so any date range
+     * is two binary searches instead of another scan.
+     */
+    private static final class FinishedTimeline {
+
+        private final LocalDate[] days;
+        private final long[] runningTotal;
+
+        FinishedTimeline(List<ReadingActivityDaily> finishedDays) {
+            days = new LocalDate[finishedDays.size()];
+            runningTotal = new long[finishedDays.size() + 1];
+            for (int i = 0; i < finishedDays.size(); i++) {
+                days[i] = finishedDays.get(i).getActivityDate();
+                runningTotal[i + 1] = runningTotal[i] + finishedDays.get(i).getFinishedCount();
+            }
+        }
+
+        int size() {
+            return days.length;
+        }
+
+        // Same yyyy-MM keys as the grouped month query, clipped to the goal window
+        Map<String, Integer> finishedPerMonth(LocalDate start, LocalDate end) {
+            Map<String, Integer> perMonth = new HashMap<>();
+            for (YearMonth month = YearMonth.from(start); !month.isAfter(YearMonth.from(end)); month = month.plusMonths(1)) {
+                LocalDate first = month.atDay(1).isBefore(start) ? start : month.atDay(1);
+                LocalDate last = month.atEndOfMonth().isAfter(end) ? end : month.atEndOfMonth();
+                long finished = count(first, last);
+                if (finished > 0) {
+                    perMonth.put(month.toString(), (int) finished);
+                }
+            }
+            return perMonth;
+        }
+
+        private long count(LocalDate first, LocalDate last) {
+            return runningTotal[indexAfter(last)] - runningTotal[indexAfter(first.minusDays(1))];
+        }
+
+        // Number of days on or before the given date
+        private int indexAfter(LocalDate date) {
+            int low = 0;
+            int high = days.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (days[mid].isAfter(date)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.dto.ReadingStatsResponse;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.ReadingActivityRepository;
+import com.jennifertellez.library.repository.projection.AuthorCount;
+import com.jennifertellez.library.repository.projection.PageTotals;
+import com.jennifertellez.library.repository.projection.RatingCount;
+import com.jennifertellez.library.repository.projection.StatusCount;
+import com.jennifertellez.library.repository.projection.YearCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds reading statistics straight from GROUP BY queries, so memory use stays constant
+ * however large the library gets. Books read per year come from the daily activity rollup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadingStatsAggregator {
+
+    static final int TOP_AUTHORS_LIMIT = 5;
+
+    private final BookRepository bookRepository;
+    private final ReadingActivityRepository readingActivityRepository;
+
+    @Transactional(readOnly = true)
+    public ReadingStatsResponse computeStatistics() {
+        log.info("Aggregating reading statistics in the database");
+
+        LocalDate today = LocalDate.now();
+        int currentYear = today.getYear();
+
+        Map<ReadingStatus, Long> statusCounts = new EnumMap<>(ReadingStatus.class);
+        long totalBooks = 0;
+        for (StatusCount row : bookRepository.countByStatus()) {
+            statusCounts.put(row.getStatus(), row.getTotal());
+            totalBooks += row.getTotal();
+        }
+
+        Map<Integer, Long> ratingDistribution = new HashMap<>();
+        long ratedBooks = 0;
+        long ratingSum = 0;
+        for (RatingCount row : bookRepository.countByRating()) {
+            ratingDistribution.put(row.getRating(), row.getTotal());
+            ratedBooks += row.getTotal();
+            ratingSum += row.getRating() * row.getTotal();
+        }
+        double averageRating = ratedBooks > 0 ? (double) ratingSum / ratedBooks : 0.0;
+
+        Map<Integer, Long> booksReadByYear = new HashMap<>();
+        for (YearCount row : readingActivityRepository.sumFinishedByYear()) {
+            booksReadByYear.put(row.getPeriod(), row.getTotal());
+        }
+        long booksReadThisYear = booksReadByYear.getOrDefault(currentYear, 0L);
+
+        long booksAddedThisYear = bookRepository.countCreatedByYear().stream()
+                .filter(row -> row.getPeriod() == currentYear)
+                .mapToLong(YearCount::getTotal)
+                .sum();
+
+        Map<String, Long> topAuthors = new LinkedHashMap<>();
+        for (AuthorCount row : bookRepository.countByAuthor(PageRequest.of(0, TOP_AUTHORS_LIMIT))) {
+            topAuthors.put(row.getAuthor(), row.getTotal());
+        }
+
+        PageTotals pages = bookRepository.sumPageCounts();
+        double averagePagesPerBook = pages.getBooksWithPages() > 0
+                ? (double) pages.getPageSum() / pages.getBooksWithPages() : 0.0;
+
+        // Reading pace (books per month this year)
+        double booksPerMonth = (double) booksReadThisYear / today.getMonthValue();
+
+        return ReadingStatsResponse.builder()
+                .totalBooks(totalBooks)
+                .booksRead(statusCounts.getOrDefault(ReadingStatus.FINISHED, 0L))
+                .booksToRead(statusCounts.getOrDefault(ReadingStatus.TO_READ, 0L))
+                .currentlyReading(statusCounts.getOrDefault(ReadingStatus.CURRENTLY_READING, 0L))
+                .booksDidNotFinish(statusCounts.getOrDefault(ReadingStatus.DNF, 0L))
+                .currentYear(currentYear)
+                .booksReadThisYear(booksReadThisYear)
+                .booksAddedThisYear(booksAddedThisYear)
+                .averageRating(Math.round(averageRating * 10.0) / 10.0) // Round to 1 decimal
+                .ratedBooks(ratedBooks)
+                .ratingDistribution(ratingDistribution)
+                .uniqueAuthors(bookRepository.countDistinctAuthors())
+                .topAuthors(topAuthors)
+                .booksPerMonth(Math.round(booksPerMonth * 10.0) / 10.0)
+                .averagePagesPerBook((double) Math.round(averagePagesPerBook))
+                .booksReadByYear(booksReadByYear)
+                .build();
+    }
+}
@@ -0,0 +1,287 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.dto.BookStatsSnapshot;
+import com.jennifertellez.library.dto.ReadingStatsResponse;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.projection.PageTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps pre-aggregated reading statistics up to date as books are created, updated and deleted,
+ * so the stats endpoint never has to load book rows.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadingStatsEngine {
+
+    private final BookRepository bookRepository;
+
+    private volatile Counters counters;
+    private volatile CachedStats cachedStats;
+    // Bumped after every change to the counters; a cached response is only valid for the version it was built from
+    private final AtomicLong version = new AtomicLong();
+    // Guards counters and duringRebuild; held briefly, never while the rebuild queries run
+    private final Object countersLock = new Object();
+    // Changes committed while a rebuild is reading, replayed onto its counters before the swap
+    private List<BookStatsSnapshot[]> duringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Recompute every counter from GROUP BY queries and swap them in. Memory use depends on the
+     * number of distinct authors, ratings and years, not on the number of books.
+     * <p>
+     * Changes that commit while the queries run are buffered and replayed onto the new counters, so none
+     * is lost. One that commits in the short gap before the queries start can be counted twice, until the
+     * next rebuild.
+     */
+    public synchronized void rebuild() {
+        log.info("Rebuilding reading statistics counters");
+        synchronized (countersLock) {
+            duringRebuild = new ArrayList<>();
+        }
+
+        Counters rebuilt;
+        try {
+            rebuilt = load();
+        } catch (RuntimeException e) {
+            // Keep the old counters and hand them what came in meanwhile
+            swapIn(counters);
+            throw e;
+        }
+        swapIn(rebuilt);
+        log.info("Reading statistics rebuilt for {} books", rebuilt.totalBooks.get());
+    }
+
+    private Counters load() {
+        Counters rebuilt = new Counters();
+        bookRepository.countByStatus().forEach(row -> {
+            rebuilt.statusCounts.get(row.getStatus()).set(row.getTotal());
+            rebuilt.totalBooks.addAndGet(row.getTotal());
+        });
+        bookRepository.countByRating().forEach(row -> {
+            rebuilt.ratingCounts.put(row.getRating(), row.getTotal());
+            rebuilt.ratingSum.addAndGet(row.getRating() * row.getTotal());
+            rebuilt.ratedBooks.addAndGet(row.getTotal());
+        });
+        bookRepository.countByAuthor(Pageable.unpaged())
+                .forEach(row -> rebuilt.authorCounts.put(row.getAuthor(), row.getTotal()));
+        bookRepository.countFinishedByYear()
+                .forEach(row -> rebuilt.finishedByYear.put(row.getPeriod(), row.getTotal()));
+        bookRepository.countCreatedByYear()
+                .forEach(row -> rebuilt.addedByYear.put(row.getPeriod(), row.getTotal()));
+
+        PageTotals pages = bookRepository.sumPageCounts();
+        rebuilt.pagesSum.set(pages.getPageSum());
+        rebuilt.booksWithPages.set(pages.getBooksWithPages());
+        return rebuilt;
+    }
+
+    private void swapIn(Counters next) {
+        synchronized (countersLock) {
+            if (next != null) {
+                duringRebuild.forEach(change -> applyTo(next, change[0], change[1]));
+            }
+            duringRebuild = null;
+            counters = next;
+            version.incrementAndGet();
+            cachedStats = null;
+        }
+    }
+
+    public void onBookCreated(BookStatsSnapshot created) {
+        afterCommit(() -> apply(null, created));
+    }
+
+    public void onBookUpdated(BookStatsSnapshot before, BookStatsSnapshot after) {
+        afterCommit(() -> apply(before, after));
+    }
+
+    public void onBookDeleted(BookStatsSnapshot deleted) {
+        afterCommit(() -> apply(deleted, null));
+    }
+
+    public ReadingStatsResponse getStatistics() {
+        if (counters == null) {
+            rebuild();
+        }
+
+        LocalDate today = LocalDate.now();
+        long built = version.get();
+        CachedStats cached = cachedStats;
+        if (cached != null && cached.version() == built && cached.month().equals(today.withDayOfMonth(1))) {
+            return cached.response();
+        }
+
+        ReadingStatsResponse response = counters.toResponse(today);
+        // A change applied while the response was built would otherwise be hidden until the next write
+        if (version.get() == built) {
+            cachedStats = new CachedStats(built, today.withDayOfMonth(1), response);
+        }
+        return response;
+    }
+
+    private void apply(BookStatsSnapshot removed, BookStatsSnapshot added) {
+        synchronized (countersLock) {
+            if (duringRebuild != null) {
+                duringRebuild.add(new BookStatsSnapshot[]{removed, added});
+                return;
+            }
+            if (counters == null) {
+                // Not built yet, and no rebuild is reading: the first one will see this committed change
+                return;
+            }
+            applyTo(counters, removed, added);
+            version.incrementAndGet();
+            cachedStats = null;
+        }
+    }
+
+    private static void applyTo(Counters target, BookStatsSnapshot removed, BookStatsSnapshot added) {
+        if (removed != null) {
+            target.apply(removed, -1);
+        }
+        if (added != null) {
+            target.apply(added, 1);
+        }
+    }
+
+    // Counters must only move once the book row is actually committed
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record CachedStats(long version, LocalDate month, ReadingStatsResponse response) {
+    }
+
+    private static class Counters {
+
+        private final AtomicLong totalBooks = new AtomicLong();
+        private final Map<ReadingStatus, AtomicLong> statusCounts = new EnumMap<>(ReadingStatus.class);
+        private final Map<Integer, Long> ratingCounts = new ConcurrentHashMap<>();
+        private final AtomicLong ratingSum = new AtomicLong();
+        private final AtomicLong ratedBooks = new AtomicLong();
+        private final Map<String, Long> authorCounts = new ConcurrentHashMap<>();
+        private final AtomicLong pagesSum = new AtomicLong();
+        private final AtomicLong booksWithPages = new AtomicLong();
+        private final Map<Integer, Long> finishedByYear = new ConcurrentHashMap<>();
+        private final Map<Integer, Long> addedByYear = new ConcurrentHashMap<>();
+
+        Counters() {
+            for (ReadingStatus status : ReadingStatus.values()) {
+                statusCounts.put(status, new AtomicLong());
+            }
+        }
+
+        void apply(BookStatsSnapshot book, int delta) {
+            totalBooks.addAndGet(delta);
+
+            if (book.getStatus() != null) {
+                statusCounts.get(book.getStatus()).addAndGet(delta);
+            }
+            if (book.getRating() != null) {
+                increment(ratingCounts, book.getRating(), delta);
+                ratingSum.addAndGet((long) book.getRating() * delta);
+                ratedBooks.addAndGet(delta);
+            }
+            if (book.getAuthor() != null && !book.getAuthor().isEmpty()) {
+                increment(authorCounts, book.getAuthor(), delta);
+            }
+            if (book.getPageCount() != null && book.getPageCount() > 0) {
+                pagesSum.addAndGet((long) book.getPageCount() * delta);
+                booksWithPages.addAndGet(delta);
+            }
+            if (book.getStatus() == ReadingStatus.FINISHED && book.getFinishedDate() != null) {
+                increment(finishedByYear, book.getFinishedDate().getYear(), delta);
+            }
+            if (book.getCreatedAt() != null) {
+                increment(addedByYear, book.getCreatedAt().getYear(), delta);
+            }
+        }
+
+        ReadingStatsResponse toResponse(LocalDate today) {
+            int currentYear = today.getYear();
+            long booksReadThisYear = finishedByYear.getOrDefault(currentYear, 0L);
+
+            long rated = ratedBooks.get();
+            double averageRating = rated > 0 ? (double) ratingSum.get() / rated : 0.0;
+
+            long withPages = booksWithPages.get();
+            double averagePagesPerBook = withPages > 0 ? (double) pagesSum.get() / withPages : 0.0;
+
+            // Reading pace (books per month this year)
+            int monthsElapsed = today.getMonthValue();
+            double booksPerMonth = (double) booksReadThisYear / monthsElapsed;
+
+            Map<String, Long> topAuthors = authorCounts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(ReadingStatsAggregator.TOP_AUTHORS_LIMIT)
+                    .collect(Collectors.toMap(
+                            Map.Entry::getKey,
+                            Map.Entry::getValue,
+                            (e1, e2) -> e1,
+                            LinkedHashMap::new
+                    ));
+
+            return ReadingStatsResponse.builder()
+                    .totalBooks(totalBooks.get())
+                    .booksRead(statusCounts.get(ReadingStatus.FINISHED).get())
+                    .booksToRead(statusCounts.get(ReadingStatus.TO_READ).get())
+                    .currentlyReading(statusCounts.get(ReadingStatus.CURRENTLY_READING).get())
+                    .booksDidNotFinish(statusCounts.get(ReadingStatus.DNF).get())
+                    .currentYear(currentYear)
+                    .booksReadThisYear(booksReadThisYear)
+                    .booksAddedThisYear(addedByYear.getOrDefault(currentYear, 0L))
+                    .averageRating(Math.round(averageRating * 10.0) / 10.0) // Round to 1 decimal
+                    .ratedBooks(rated)
+                    .ratingDistribution(new HashMap<>(ratingCounts))
+                    .uniqueAuthors((long) authorCounts.size())
+                    .topAuthors(topAuthors)
+                    .booksPerMonth(Math.round(booksPerMonth * 10.0) / 10.0)
+                    .averagePagesPerBook((double) Math.round(averagePagesPerBook))
+                    .booksReadByYear(new HashMap<>(finishedByYear))
+                    .build();
+        }
+
+        // Zero counts are dropped so unique authors and the distributions stay exact
+        private static <K> void increment(Map<K, Long> counts, K key, int delta) {
+            counts.compute(key, (k, count) -> {
+                long updated = (count == null ? 0 : count) + delta;
+                return updated == 0 ? null : updated;
+            });
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.jennifertellez.library.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Opaque continuation token for keyset pagination over books. It carries the sort it was
+ * issued for and the last row's sort key and id, base64 encoded.
+ */
+public final class ScrollCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SORT_KEY = "sort";
+
+    // Non-null columns only, a null sort key would make the seek predicate skip rows
+    private static final Map<String, Function<String, Object>> SORTABLE = Map.of(
+            "id", Long::valueOf,
+            "title", value -> value,
+            "createdAt", LocalDateTime::parse
+    );
+
+    private ScrollCursor() {
+    }
+
+    /**
+     * Check the sort can be used for keyset pagination and add the id as the tie-breaker.
+     */
+    public static Sort keysetSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.containsKey(order.getProperty())) {
+                throw new IllegalArgumentException("Cursor pagination can only sort by " +
+                        String.join(", ", SORTABLE.keySet().stream().sorted().toList()));
+            }
+        }
+        return sort.getOrderFor("id") != null ? sort : sort.and(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    public static String encode(ScrollPosition position, Sort sort) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset positions can be encoded");
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put(SORT_KEY, signature(sort));
+        keyset.getKeys().forEach((key, value) -> values.put(key, String.valueOf(value)));
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MAPPER.writeValueAsBytes(values));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    /**
+     * Decode a cursor, or start from the beginning when there is none.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort
+     */
+    public static KeysetScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            Map<String, String> values = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor),
+                    new TypeReference<LinkedHashMap<String, String>>() {
+                    });
+            if (!signature(sort).equals(values.remove(SORT_KEY))) {
+                throw new IllegalArgumentException("Cursor was issued for a different sort order");
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (Sort.Order order : sort) {
+                String value = values.get(order.getProperty());
+                if (value == null) {
+                    throw new IllegalArgumentException("Cursor is missing " + order.getProperty());
+                }
+                keys.put(order.getProperty(), SORTABLE.get(order.getProperty()).apply(value));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IOException | DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String signature(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+    }
+}
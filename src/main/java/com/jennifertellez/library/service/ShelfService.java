@@ -1,9 +1,14 @@
 package com.jennifertellez.library.service;
 
+import com.jennifertellez.library.dto.BookResponse;
 import com.jennifertellez.library.dto.CreateShelfRequest;
+import com.jennifertellez.library.dto.PageResponse;
+import com.jennifertellez.library.dto.ShelfBooksUpdateResponse;
 import com.jennifertellez.library.dto.ShelfResponse;
 import com.jennifertellez.library.dto.UpdateShelfRequest;
 
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public interface ShelfService {
@@ -14,6 +19,10 @@ public interface ShelfService {
 
     List<ShelfResponse> getAllShelves();
 
+    List<ShelfResponse> getShelfSummaries();
+
+    PageResponse<BookResponse> getShelfBooks(Long shelfId, Pageable pageable);
+
     ShelfResponse updateShelf(Long id, UpdateShelfRequest request);
 
     void deleteShelf(Long id);
@@ -21,4 +30,8 @@ public interface ShelfService {
     ShelfResponse addBookToShelf(Long shelfId, Long bookId);
 
     ShelfResponse removeBookFromShelf(Long shelfId, Long bookId);
+
+    ShelfBooksUpdateResponse addBooksToShelf(Long shelfId, List<Long> bookIds);
+
+    ShelfBooksUpdateResponse removeBooksFromShelf(Long shelfId, List<Long> bookIds);
 }
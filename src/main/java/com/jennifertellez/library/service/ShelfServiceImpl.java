@@ -2,21 +2,29 @@ package com.jennifertellez.library.service;
 
 import com.jennifertellez.library.dto.BookResponse;
 import com.jennifertellez.library.dto.CreateShelfRequest;
+import com.jennifertellez.library.dto.PageResponse;
+import com.jennifertellez.library.dto.ShelfBooksUpdateResponse;
 import com.jennifertellez.library.dto.ShelfResponse;
 import com.jennifertellez.library.dto.UpdateShelfRequest;
 import com.jennifertellez.library.exception.BookNotFoundException;
+import com.jennifertellez.library.exception.ResourceNotFoundException;
 import com.jennifertellez.library.model.Book;
 import com.jennifertellez.library.model.Shelf;
 import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.BookShelfRepository;
 import com.jennifertellez.library.repository.ShelfRepository;
+import com.jennifertellez.library.repository.projection.ShelfSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +35,8 @@ public class ShelfServiceImpl implements ShelfService {
 
     private final ShelfRepository shelfRepository;
     private final BookRepository bookRepository;
+    private final BookShelfRepository bookShelfRepository;
+    private final ChangeOutbox changeOutbox;
 
     @Override
     public ShelfResponse createShelf(CreateShelfRequest request) {
@@ -40,7 +50,7 @@ public class ShelfServiceImpl implements ShelfService {
         shelf.setName(request.getName());
         shelf.setDescription(request.getDescription());
 
-        Shelf savedShelf = shelfRepository.save(shelf);
+        Shelf savedShelf = shelfRepository.saveAndFlush(shelf);
         log.info("Shelf created with ID: {}", savedShelf.getId());
 
         return mapToResponse(savedShelf);
@@ -59,11 +69,33 @@ public class ShelfServiceImpl implements ShelfService {
     @Transactional(readOnly = true)
     public List<ShelfResponse> getAllShelves() {
         log.info("Fetching all shelves");
-        return shelfRepository.findAll().stream()
+        return shelfRepository.findAllWithBooks().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ShelfResponse> getShelfSummaries() {
+        log.info("Fetching shelf summaries");
+        return shelfRepository.findSummaries().stream()
+                .map(this::mapSummaryToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<BookResponse> getShelfBooks(Long shelfId, Pageable pageable) {
+        log.info("Fetching books on shelf {} - page: {}", shelfId, pageable.getPageNumber());
+
+        if (!shelfRepository.existsById(shelfId)) {
+            throw new ResourceNotFoundException("Shelf not found with ID: " + shelfId);
+        }
+
+        return new PageResponse<>(bookRepository.findByShelfId(shelfId, pageable)
+                .map(this::mapBookToResponse));
+    }
+
     @Override
     public ShelfResponse updateShelf(Long id, UpdateShelfRequest request) {
         log.info("Updating shelf with ID: {}", id);
@@ -130,6 +162,60 @@ public class ShelfServiceImpl implements ShelfService {
         return mapToResponse(shelf);
     }
 
+    @Override
+    public ShelfBooksUpdateResponse addBooksToShelf(Long shelfId, List<Long> bookIds) {
+        log.info("Adding {} books to shelf {}", bookIds.size(), shelfId);
+        Set<Long> ids = requireShelfAndIds(shelfId, bookIds);
+
+        // Books already on the shelf and unknown ids are skipped by the insert itself
+        int added = bookShelfRepository.addBooksToShelf(shelfId, ids);
+        if (added > 0) {
+            changeOutbox.onShelfBooksChanged(shelfId);
+        }
+        List<Long> notFound = new ArrayList<>(ids);
+        notFound.removeAll(bookRepository.findExistingIds(ids));
+
+        log.info("Added {} books to shelf {}, {} not found", added, shelfId, notFound.size());
+        return buildUpdateResponse(shelfId, ids, added, notFound);
+    }
+
+    @Override
+    public ShelfBooksUpdateResponse removeBooksFromShelf(Long shelfId, List<Long> bookIds) {
+        log.info("Removing {} books from shelf {}", bookIds.size(), shelfId);
+        Set<Long> ids = requireShelfAndIds(shelfId, bookIds);
+
+        int removed = bookShelfRepository.removeBooksFromShelf(shelfId, ids);
+        if (removed > 0) {
+            changeOutbox.onShelfBooksChanged(shelfId);
+        }
+
+        log.info("Removed {} books from shelf {}", removed, shelfId);
+        return buildUpdateResponse(shelfId, ids, removed, List.of());
+    }
+
+    private Set<Long> requireShelfAndIds(Long shelfId, List<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one book ID is required");
+        }
+        if (!shelfRepository.existsById(shelfId)) {
+            throw new ResourceNotFoundException("Shelf not found with ID: " + shelfId);
+        }
+        Set<Long> ids = new LinkedHashSet<>(bookIds);
+        ids.remove(null);
+        return ids;
+    }
+
+    private ShelfBooksUpdateResponse buildUpdateResponse(Long shelfId, Set<Long> ids, int changed,
+                                                         List<Long> notFound) {
+        return ShelfBooksUpdateResponse.builder()
+                .shelfId(shelfId)
+                .requested(ids.size())
+                .changed(changed)
+                .notFoundBookIds(notFound)
+                .bookCount(bookShelfRepository.countByShelfId(shelfId))
+                .build();
+    }
+
     private ShelfResponse mapToResponse(Shelf shelf) {
         ShelfResponse response = new ShelfResponse();
         response.setId(shelf.getId());
@@ -139,18 +225,31 @@ public class ShelfServiceImpl implements ShelfService {
         response.setCreatedAt(shelf.getCreatedAt());
 
         List<BookResponse> bookResponses = shelf.getBooks().stream()
-                .map(book -> {
-                    BookResponse bookResponse = new BookResponse();
-                    bookResponse.setId(book.getId());
-                    bookResponse.setTitle(book.getTitle());
-                    bookResponse.setAuthor(book.getAuthor());
-                    bookResponse.setIsbn(book.getIsbn());
-                    bookResponse.setStatus(book.getStatus());
-                    return bookResponse;
-                })
+                .map(this::mapBookToResponse)
                 .collect(Collectors.toList());
 
         response.setBooks(bookResponses);
         return response;
     }
+
+    //Summaries carry the count only; the books are paged through getShelfBooks
+    private ShelfResponse mapSummaryToResponse(ShelfSummary summary) {
+        ShelfResponse response = new ShelfResponse();
+        response.setId(summary.getId());
+        response.setName(summary.getName());
+        response.setDescription(summary.getDescription());
+        response.setBookCount(summary.getBookCount().intValue());
+        response.setCreatedAt(summary.getCreatedAt());
+        return response;
+    }
+
+    private BookResponse mapBookToResponse(Book book) {
+        BookResponse bookResponse = new BookResponse();
+        bookResponse.setId(book.getId());
+        bookResponse.setTitle(book.getTitle());
+        bookResponse.setAuthor(book.getAuthor());
+        bookResponse.setIsbn(book.getIsbn());
+        bookResponse.setStatus(book.getStatus());
+        return bookResponse;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.jennifertellez.library.benchmark;
+
+import com.jennifertellez.library.dto.CreateBookRequest;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.service.BookService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Inserts per second for 100k books: one JPA insert statement per row, executed as soon as the book
+ * is persisted (what IDENTITY ids forced), against the batched bulk write path.
+ * mvn test -Dtest=BookInsertBenchmarkTest -Dbenchmark=true
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class BookInsertBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void compareRowByRowAndBatchedInserts() {
+        List<CreateBookRequest> requests = IntStream.range(0, ROWS)
+                .mapToObj(BookInsertBenchmarkTest::request)
+                .toList();
+
+        // Warm up both paths before timing
+        insertRowByRow(requests.subList(0, 1_000));
+        bookService.createBooks(requests.subList(0, 1_000));
+        jdbcTemplate.update("DELETE FROM books");
+
+        long start = System.nanoTime();
+        insertRowByRow(requests);
+        long rowByRowMillis = (System.nanoTime() - start) / 1_000_000;
+        jdbcTemplate.update("DELETE FROM books");
+
+        start = System.nanoTime();
+        bookService.createBooks(requests);
+        long batchedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("rows=%,d row-by-row=%dms (%,.0f/s) batched=%dms (%,.0f/s)%n",
+                ROWS, rowByRowMillis, ROWS * 1000.0 / rowByRowMillis,
+                batchedMillis, ROWS * 1000.0 / batchedMillis);
+    }
+
+    private void insertRowByRow(List<CreateBookRequest> requests) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+            for (int i = 0; i < requests.size(); i++) {
+                CreateBookRequest request = requests.get(i);
+                Book book = new Book();
+                book.setTitle(request.getTitle());
+                book.setAuthor(request.getAuthor());
+                book.setStatus(request.getStatus());
+                entityManager.persist(book);
+                entityManager.flush();
+                if ((i + 1) % 50 == 0) {
+                    entityManager.clear();
+                }
+            }
+        });
+    }
+
+    private static CreateBookRequest request(int i) {
+        CreateBookRequest request = new CreateBookRequest();
+        request.setTitle("Book " + i);
+        request.setAuthor("Author " + (i % 5_000));
+        request.setStatus(ReadingStatus.TO_READ);
+        return request;
+    }
+}
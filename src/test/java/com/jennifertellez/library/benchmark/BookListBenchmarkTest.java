@@ -0,0 +1,128 @@
+package com.jennifertellez.library.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jennifertellez.library.dto.BookResponse;
+import com.jennifertellez.library.dto.PageResponse;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.service.BookService;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Compares list pages built from full entities against pages built from the BookSummary projection:
+ * query time and serialized payload size.
+ * mvn test -Dtest=BookListBenchmarkTest -Dbenchmark=true
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class BookListBenchmarkTest {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int ROUNDS = 50;
+    private static final String LONG_TEXT = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(34);
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @ParameterizedTest
+    @ValueSource(ints = {20, 100})
+    void compareEntityAndSummaryPages(int pageSize) throws Exception {
+        seed(50_000);
+        Pageable pageable = PageRequest.of(10, pageSize, Sort.by("title"));
+
+        // Before: what the list endpoints did until now
+        Supplier<PageResponse<BookResponse>> entityPage = () -> {
+            Page<Book> page = bookRepository.findAll(pageable);
+            return new PageResponse<>(page.map(BookListBenchmarkTest::fullResponse));
+        };
+        Supplier<PageResponse<BookResponse>> summaryPage = () -> bookService.getAllBooks(pageable);
+
+        // Warm up both paths before timing
+        for (int i = 0; i < 10; i++) {
+            entityPage.get();
+            summaryPage.get();
+        }
+
+        long entityMicros = timeMicros(entityPage);
+        long summaryMicros = timeMicros(summaryPage);
+        int entityBytes = objectMapper.writeValueAsBytes(entityPage.get()).length;
+        int summaryBytes = objectMapper.writeValueAsBytes(summaryPage.get()).length;
+
+        System.out.printf("pageSize=%d entity=%.2fms/%,dB summary=%.2fms/%,dB%n",
+                pageSize, entityMicros / 1000.0, entityBytes, summaryMicros / 1000.0, summaryBytes);
+    }
+
+    private void seed(int rows) {
+        jdbcTemplate.update("DELETE FROM books");
+        String sql = "INSERT INTO books (id, title, author, description, notes, status, created_at, updated_at) " +
+                "VALUES (nextval('book_seq'), ?, ?, ?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // Description and notes near their 2000 character limit, as imported books tend to have
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{"Book " + i, "Author " + (i % 5_000), LONG_TEXT, LONG_TEXT, "TO_READ", now, now});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private static BookResponse fullResponse(Book book) {
+        BookResponse response = new BookResponse();
+        response.setId(book.getId());
+        response.setIsbn(book.getIsbn());
+        response.setTitle(book.getTitle());
+        response.setAuthor(book.getAuthor());
+        response.setDescription(book.getDescription());
+        response.setPublishedDate(book.getPublishedDate());
+        response.setPageCount(book.getPageCount());
+        response.setThumbnailUrl(book.getThumbnail());
+        response.setStatus(book.getStatus());
+        response.setFinishedDate(book.getFinishedDate());
+        response.setRating(book.getRating());
+        response.setNotes(book.getNotes());
+        response.setCreatedAt(book.getCreatedAt());
+        response.setUpdatedAt(book.getUpdatedAt());
+        return response;
+    }
+
+    // Average over several rounds
+    private long timeMicros(Supplier<?> work) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            work.get();
+        }
+        return (System.nanoTime() - start) / 1_000 / ROUNDS;
+    }
+}
@@ -0,0 +1,120 @@
+package com.jennifertellez.library.benchmark;
+
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.projection.SearchDocument;
+import com.jennifertellez.library.search.BookSearchIndex;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Compares the ranked LIKE query against the in-memory inverted index.
+ * mvn test -Dtest=BookSearchBenchmarkTest -Dbenchmark=true -DargLine=-Xmx4g
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class BookSearchBenchmarkTest {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int ROUNDS = 20;
+    private static final String[] WORDS = {"dragon", "empire", "garden", "winter", "ocean", "machine",
+            "shadow", "river", "crown", "silence", "engine", "harvest", "mirror", "storm", "orchard"};
+    private static final List<String> QUERIES = List.of("dragon", "winter storm", "mirr", "harvest crown");
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void compareLikeAndIndex(int rows) {
+        seed(rows);
+
+        BookSearchIndex index = new BookSearchIndex();
+        long buildMillis = time(() -> {
+            long lastId = 0;
+            List<SearchDocument> documents;
+            do {
+                documents = bookRepository.findSearchDocumentsAfter(lastId, Pageable.ofSize(BATCH_SIZE));
+                for (SearchDocument document : documents) {
+                    index.index(document.getId(), document.getTitle(), document.getAuthor(), document.getDescription());
+                    lastId = document.getId();
+                }
+            } while (documents.size() == BATCH_SIZE);
+            return null;
+        });
+
+        for (String query : QUERIES) {
+            String term = query.toLowerCase();
+            // Warm up both paths before timing
+            bookRepository.searchBookIdsRanked(term, term + "%", "%" + term + "%", PageRequest.of(0, 20));
+            index.search(query, 0, 20);
+
+            long likeMicros = timeMicros(() ->
+                    bookRepository.searchBookIdsRanked(term, term + "%", "%" + term + "%", PageRequest.of(0, 20)));
+            long indexMicros = timeMicros(() -> index.search(query, 0, 20));
+
+            System.out.printf("rows=%,d query='%s' like=%.2fms index=%.2fms%n",
+                    rows, query, likeMicros / 1000.0, indexMicros / 1000.0);
+        }
+        System.out.printf("rows=%,d index build=%dms terms=%,d%n", rows, buildMillis, index.termCount());
+    }
+
+    private void seed(int rows) {
+        jdbcTemplate.update("DELETE FROM books");
+
+        String sql = "INSERT INTO books (id, title, author, description, status, created_at, updated_at) " +
+                "VALUES (nextval('book_seq'), ?, ?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{
+                    "The " + WORDS[i % WORDS.length] + " of " + WORDS[(i / 7) % WORDS.length] + " " + i,
+                    "Author " + (i % 5_000),
+                    "A tale of " + WORDS[(i / 3) % WORDS.length] + " and " + WORDS[(i / 11) % WORDS.length]
+                            + " told across many chapters.",
+                    "TO_READ",
+                    now,
+                    now
+            });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private long time(Supplier<?> work) {
+        long start = System.nanoTime();
+        work.get();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    // Average over several rounds
+    private long timeMicros(Supplier<?> work) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            work.get();
+        }
+        return (System.nanoTime() - start) / 1_000 / ROUNDS;
+    }
+}
@@ -0,0 +1,120 @@
+package com.jennifertellez.library.benchmark;
+
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.service.ReadingActivityRollup;
+import com.jennifertellez.library.service.ReadingStatsAggregator;
+import com.jennifertellez.library.service.ReadingStatsEngine;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Compares loading every book entity against SQL aggregation and the incremental counters.
+ * H2 keeps the seeded rows in memory, so give the fork enough heap for the 1M run:
+ * mvn test -Dtest=ReadingStatsBenchmarkTest -Dbenchmark=true -DargLine=-Xmx4g
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ReadingStatsBenchmarkTest {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ReadingStatsAggregator readingStatsAggregator;
+
+    @Autowired
+    private ReadingStatsEngine readingStatsEngine;
+
+    @Autowired
+    private ReadingActivityRollup readingActivityRollup;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void compareStatisticsPaths(int rows) {
+        seed(rows);
+
+        long entityMillis = time(() -> transactionTemplate.execute(status -> loadAllAndCount()));
+        long sqlMillis = time(() -> readingStatsAggregator.computeStatistics());
+        long rebuildMillis = time(() -> {
+            readingStatsEngine.rebuild();
+            return null;
+        });
+        long incrementalMillis = time(() -> readingStatsEngine.getStatistics());
+
+        System.out.printf("rows=%,d findAll+streams=%dms sql=%dms rebuild=%dms incremental=%dms%n",
+                rows, entityMillis, sqlMillis, rebuildMillis, incrementalMillis);
+    }
+
+    // The pre-aggregation implementation: hydrate every entity and group in memory
+    private Map<ReadingStatus, Long> loadAllAndCount() {
+        List<Book> books = bookRepository.findAll();
+        return books.stream().collect(Collectors.groupingBy(Book::getStatus, Collectors.counting()));
+    }
+
+    private void seed(int rows) {
+        jdbcTemplate.update("DELETE FROM books");
+
+        String sql = "INSERT INTO books (id, title, author, description, status, page_count, rating, " +
+                "finished_date, created_at, updated_at) VALUES (nextval('book_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        ReadingStatus[] statuses = ReadingStatus.values();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            ReadingStatus status = statuses[i % statuses.length];
+            batch.add(new Object[]{
+                    "Book " + i,
+                    "Author " + (i % 5_000),
+                    "A description long enough to make the row realistic. ".repeat(4),
+                    status.name(),
+                    100 + i % 900,
+                    i % 6 == 0 ? null : 1 + i % 5,
+                    status == ReadingStatus.FINISHED ? Date.valueOf(LocalDate.now().minusDays(i % 2_000)) : null,
+                    now,
+                    now
+            });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        // Seeded behind Hibernate's back, so bring the daily rollup in line
+        readingActivityRollup.reconcile();
+    }
+
+    private long time(Supplier<?> work) {
+        long start = System.nanoTime();
+        work.get();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
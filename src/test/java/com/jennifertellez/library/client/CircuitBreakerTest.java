@@ -0,0 +1,133 @@
+package com.jennifertellez.library.client;
+
+import com.jennifertellez.library.config.CircuitBreakerProperties;
+import com.jennifertellez.library.exception.CircuitBreakerOpenException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Circuit Breaker Tests")
+class CircuitBreakerTest {
+
+    private static CircuitBreakerProperties.Settings settings(Duration openDuration) {
+        CircuitBreakerProperties.Settings settings = new CircuitBreakerProperties.Settings();
+        settings.setWindowSize(4);
+        settings.setMinimumCalls(4);
+        settings.setFailureRateThreshold(50);
+        settings.setSlowCallRateThreshold(75);
+        settings.setSlowCallDuration(Duration.ofMillis(20));
+        settings.setOpenDuration(openDuration);
+        settings.setHalfOpenCalls(2);
+        return settings;
+    }
+
+    private static void fail(CircuitBreaker breaker) {
+        assertThrows(ResourceAccessException.class, () -> breaker.record(() -> {
+            throw new ResourceAccessException("connection refused");
+        }));
+    }
+
+    private static void succeed(CircuitBreaker breaker) {
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.record(() -> "ok");
+    }
+
+    @Test
+    void opensOnceFailureRateCrossesThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker("test", settings(Duration.ofMinutes(1)));
+
+        succeed(breaker);
+        fail(breaker);
+        succeed(breaker);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        fail(breaker);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquirePermission);
+        assertEquals(1, breaker.stats().notPermittedCalls());
+    }
+
+    @Test
+    void clientErrorsOtherThanTooManyRequestsAreNotFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", settings(Duration.ofMinutes(1)));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpClientErrorException.class, () -> breaker.record(() -> {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            }));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(HttpClientErrorException.class, () -> breaker.record(() -> {
+                throw new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS);
+            }));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void slowCallsOpenTheBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("test", settings(Duration.ofMinutes(1)));
+
+        for (int i = 0; i < 4; i++) {
+            breaker.record(() -> {
+                sleep(25);
+                return "slow";
+            });
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.latencyPercentile(0.95).toMillis() >= 20);
+    }
+
+    @Test
+    void halfOpenTrialsCloseOrReopenTheBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("test", settings(Duration.ofMillis(30)));
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        assertFalse(breaker.tryAcquirePermission());
+
+        sleep(40);
+        assertTrue(breaker.tryAcquirePermission());
+        fail(breaker);
+        assertTrue(breaker.tryAcquirePermission());
+        breaker.record(() -> "ok");
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        sleep(40);
+        succeed(breaker);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        succeed(breaker);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.stats().bufferedCalls());
+    }
+
+    @Test
+    void resetClosesAnOpenBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("test", settings(Duration.ofMinutes(1)));
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+
+        breaker.reset();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertNull(breaker.latencyPercentile(0.95));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
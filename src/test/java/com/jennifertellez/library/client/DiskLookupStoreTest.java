@@ -0,0 +1,132 @@
+package com.jennifertellez.library.client;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jennifertellez.library.dto.GoogleBooksResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Disk Lookup Store Tests")
+class DiskLookupStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JavaType valueType = objectMapper.constructType(GoogleBooksResponse.VolumeInfo.class);
+
+    @TempDir
+    Path directory;
+
+    private DiskLookupStore<GoogleBooksResponse.VolumeInfo> open(long segmentBytes) throws IOException {
+        return DiskLookupStore.open("google-isbn", directory, objectMapper, valueType, segmentBytes, 0.5);
+    }
+
+    private GoogleBooksResponse.VolumeInfo volume(String title) {
+        GoogleBooksResponse.VolumeInfo info = new GoogleBooksResponse.VolumeInfo();
+        info.setTitle(title);
+        info.setPageCount(300);
+        return info;
+    }
+
+    @Test
+    void get_servesEntriesWrittenBeforeRestart() throws Exception {
+        try (DiskLookupStore<GoogleBooksResponse.VolumeInfo> store = open(1024 * 1024)) {
+            store.put("9780134685991", Optional.of(volume("Effective Java")), Duration.ofHours(1));
+            store.put("0000000000", Optional.empty(), Duration.ofHours(1));
+        }
+
+        try (DiskLookupStore<GoogleBooksResponse.VolumeInfo> reopened = open(1024 * 1024)) {
+            Optional<DiskLookupStore.Entry<GoogleBooksResponse.VolumeInfo>> found = reopened.get("9780134685991");
+            Optional<DiskLookupStore.Entry<GoogleBooksResponse.VolumeInfo>> notFound = reopened.get("0000000000");
+
+            assertTrue(found.isPresent());
+            assertEquals("Effective Java", found.get().value().orElseThrow().getTitle());
+            assertEquals(300, found.get().value().orElseThrow().getPageCount());
+            assertTrue(notFound.isPresent());
+            assertTrue(notFound.get().value().isEmpty());
+            assertTrue(reopened.get("unknown").isEmpty());
+        }
+    }
+
+    @Test
+    void get_ignoresExpiredEntries() throws Exception {
+        try (DiskLookupStore<GoogleBooksResponse.VolumeInfo> store = open(1024 * 1024)) {
+            store.put("9780134685991", Optional.of(volume("Effective Java")), Duration.ofMillis(-1));
+
+            assertTrue(store.get("9780134685991").isEmpty());
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    void remove_survivesRestart() throws Exception {
+        try (DiskLookupStore<GoogleBooksResponse.VolumeInfo> store = open(1024 * 1024)) {
+            store.put("9780134685991", Optional.of(volume("Effective Java")), Duration.ofHours(1));
+            store.remove("9780134685991");
+        }
+
+        try (DiskLookupStore<GoogleBooksResponse.VolumeInfo> reopened = open(1024 * 1024)) {
+            assertTrue(reopened.get("9780134685991").isEmpty());
+        }
+    }
+
+    @Test
+    void compact_dropsOverwrittenRecordsAndKeepsLatest() throws Exception {
+        try (DiskLookupStore<GoogleBooksResponse.VolumeInfo> store = open(256)) {
+            for (int i = 0; i < 50; i++) {
+                store.put("9780134685991", Optional.of(volume("Edition " + i)), Duration.ofHours(1));
+            }
+            store.put("9781617294945", Optional.of(volume("Spring in Action")), Duration.ofHours(1));
+            store.compact();
+
+            assertEquals(2, store.size());
+            assertEquals("Edition 49", store.get("9780134685991").orElseThrow().value().orElseThrow().getTitle());
+            assertEquals("Spring in Action", store.get("9781617294945").orElseThrow().value().orElseThrow().getTitle());
+            assertTrue(store.totalBytes() < 512, "compaction should leave only live records");
+        }
+    }
+
+    @Test
+    void put_compactsInTheBackgroundOnceThresholdIsCrossed() throws Exception {
+        try (DiskLookupStore<GoogleBooksResponse.VolumeInfo> store = open(256)) {
+            for (int i = 0; i < 50; i++) {
+                store.put("9780134685991", Optional.of(volume("Edition " + i)), Duration.ofHours(1));
+            }
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (store.totalBytes() >= 512 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(store.totalBytes() < 512, "background compaction should drop overwritten records");
+            assertEquals("Edition 49", store.get("9780134685991").orElseThrow().value().orElseThrow().getTitle());
+        }
+    }
+
+    @Test
+    void open_skipsPartialRecordLeftByCrash() throws Exception {
+        try (DiskLookupStore<GoogleBooksResponse.VolumeInfo> store = open(1024 * 1024)) {
+            store.put("9780134685991", Optional.of(volume("Effective Java")), Duration.ofHours(1));
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory.resolve("google-isbn"))) {
+            segment = files.findFirst().orElseThrow();
+        }
+        Files.writeString(segment, "{\"key\":\"97816", StandardOpenOption.APPEND);
+
+        try (DiskLookupStore<GoogleBooksResponse.VolumeInfo> reopened = open(1024 * 1024)) {
+            reopened.put("9781617294945", Optional.of(volume("Spring in Action")), Duration.ofHours(1));
+
+            assertEquals("Effective Java", reopened.get("9780134685991").orElseThrow().value().orElseThrow().getTitle());
+            assertEquals("Spring in Action", reopened.get("9781617294945").orElseThrow().value().orElseThrow().getTitle());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.jennifertellez.library.client;
+
+import com.jennifertellez.library.config.HttpClientProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@DisplayName("HTTP Client Interceptor Tests")
+class HttpInterceptorsTest {
+
+    private HttpHostMetrics metrics;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setMaxConnectionsPerHost(1);
+        metrics = new HttpHostMetrics(properties);
+
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        restTemplate.getInterceptors().add(new HostLimitingInterceptor(metrics, Duration.ofMillis(50)));
+        restTemplate.getInterceptors().add(new GzipInterceptor());
+    }
+
+    @Test
+    void gzip_requestsCompressionAndInflatesResponse() throws IOException {
+        server.expect(requestTo("https://openlibrary.org/api/books"))
+                .andExpect(header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andRespond(withSuccess(gzip("{\"title\":\"Dune\"}"), MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip"));
+
+        Map<?, ?> body = restTemplate.getForObject("https://openlibrary.org/api/books", Map.class);
+
+        assertEquals("Dune", body.get("title"));
+        server.verify();
+    }
+
+    @Test
+    void hostMetrics_countRequestsAndErrorsPerHost() {
+        server.expect(requestTo("https://www.googleapis.com/books/v1/volumes"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://www.googleapis.com/books/v1/volumes"))
+                .andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+
+        restTemplate.getForObject("https://www.googleapis.com/books/v1/volumes", Map.class);
+        assertThrows(HttpServerErrorException.class,
+                () -> restTemplate.getForObject("https://www.googleapis.com/books/v1/volumes", Map.class));
+
+        HttpHostMetrics.Stats stats = metrics.stats().get(0);
+        assertEquals("www.googleapis.com", stats.host());
+        assertEquals(2, stats.requests());
+        assertEquals(1, stats.errors());
+        // Both slots were given back once the responses were closed
+        assertEquals(0, stats.activeConnections());
+    }
+
+    @Test
+    void hostLimit_rejectsRequestWhenNoConnectionFreesUp() throws InterruptedException {
+        HttpHostMetrics.Host host = metrics.host("api.jikan.moe");
+        assertTrue(host.tryAcquire(0));
+
+        assertThrows(ResourceAccessException.class,
+                () -> restTemplate.getForObject("https://api.jikan.moe/v4/manga", Map.class));
+
+        assertEquals(1, metrics.stats().get(0).rejected());
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,126 @@
+package com.jennifertellez.library.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Lookup Cache Tests")
+class LookupCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private LookupCache<String> newCache(Duration negativeTtl) {
+        return new LookupCache<>("test", LookupKeys::isbn, 100, Duration.ofHours(1), negativeTtl);
+    }
+
+    @Test
+    void get_reusesAnswerForEquivalentIsbns() throws Exception {
+        LookupCache<String> cache = newCache(Duration.ofMinutes(10));
+
+        Optional<String> first = cache.get("978-0-13-468599-1", () -> {
+            loads.incrementAndGet();
+            return Optional.of("Effective Java");
+        });
+        Optional<String> second = cache.get(" 9780134685991 ", () -> {
+            loads.incrementAndGet();
+            return Optional.of("other");
+        });
+
+        assertEquals(Optional.of("Effective Java"), first);
+        assertEquals(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    void get_expiresNotFoundAnswersAfterNegativeTtl() throws Exception {
+        LookupCache<String> cache = newCache(Duration.ZERO);
+
+        cache.get("123", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.get("123", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_doesNotCacheFailures() throws Exception {
+        LookupCache<String> cache = newCache(Duration.ofMinutes(10));
+
+        assertThrows(IllegalStateException.class, () -> cache.get("123", () -> {
+            throw new IllegalStateException("source down");
+        }));
+        Optional<String> result = cache.get("123", () -> Optional.of("found"));
+
+        assertEquals(Optional.of("found"), result);
+        assertEquals(1, cache.stats().loadFailures());
+    }
+
+    @Test
+    void get_rethrowsInterruptedException() {
+        LookupCache<String> cache = newCache(Duration.ofMinutes(10));
+
+        assertThrows(InterruptedException.class, () -> cache.get("123", () -> {
+            throw new InterruptedException();
+        }));
+    }
+
+    @Test
+    void get_loadsOutsideTheCacheSoALoaderCanUseTheCache() throws Exception {
+        LookupCache<String> cache = newCache(Duration.ofMinutes(10));
+
+        Optional<String> result = cache.get("111", () -> cache.get("222", () -> Optional.of("inner")));
+
+        assertEquals(Optional.of("inner"), result);
+        assertEquals(Optional.of("inner"), cache.get("222", () -> Optional.of("never")));
+    }
+
+    @Test
+    void invalidate_forcesReload() throws Exception {
+        LookupCache<String> cache = newCache(Duration.ofMinutes(10));
+        cache.get("123", () -> {
+            loads.incrementAndGet();
+            return Optional.of("first");
+        });
+
+        cache.invalidate("123");
+        Optional<String> result = cache.get("123", () -> {
+            loads.incrementAndGet();
+            return Optional.of("second");
+        });
+
+        assertEquals(Optional.of("second"), result);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getAll_loadsOnlyMissingKeysInOneCall() throws Exception {
+        LookupCache<String> cache = newCache(Duration.ofMinutes(10));
+        cache.get("111", () -> Optional.of("cached"));
+
+        Map<String, Optional<String>> result = cache.getAll(List.of("111", "2-2-2", "333"), keys -> {
+            loads.incrementAndGet();
+            assertEquals(List.of("222", "333"), keys);
+            return Map.of("222", Optional.of("loaded"));
+        });
+
+        assertEquals(Optional.of("cached"), result.get("111"));
+        assertEquals(Optional.of("loaded"), result.get("2-2-2"));
+        assertEquals(Optional.empty(), result.get("333"));
+        assertEquals(1, loads.get());
+        // Keys the bulk loader left out are cached as "not found"
+        assertEquals(Optional.empty(), cache.get("333", () -> Optional.of("never")));
+    }
+}
@@ -0,0 +1,89 @@
+package com.jennifertellez.library.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Micro Batcher Tests")
+class MicroBatcherTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private MicroBatcher<String, String> batcher;
+
+    private MicroBatcher<String, String> newBatcher(Duration window, int maxBatchSize) {
+        batcher = new MicroBatcher<>("test", keys -> {
+            batches.add(keys);
+            return keys.stream()
+                    .filter(key -> !key.equals("missing"))
+                    .collect(Collectors.toMap(key -> key, String::toUpperCase));
+        }, window, maxBatchSize, 2);
+        return batcher;
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+    }
+
+    @Test
+    void submit_coalescesKeysWithinWindowIntoOneLoad() throws Exception {
+        newBatcher(Duration.ofMillis(200), 50);
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+        CompletableFuture<String> again = batcher.submit("a");
+        CompletableFuture<String> missing = batcher.submit("missing");
+
+        assertEquals("A", a.get());
+        assertEquals("B", b.get());
+        assertSame(a, again);
+        assertNull(missing.get());
+        assertEquals(List.of(List.of("a", "b", "missing")), batches);
+        assertEquals(1, batcher.stats().batchesSent());
+        assertEquals(4, batcher.stats().keysRequested());
+    }
+
+    @Test
+    void submit_sendsFullBatchWithoutWaitingForWindow() throws Exception {
+        newBatcher(Duration.ofHours(1), 2);
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+
+        assertEquals("A", a.get());
+        assertEquals("B", b.get());
+        assertEquals(List.of(List.of("a", "b")), batches);
+    }
+
+    @Test
+    void get_rethrowsLoaderFailureToEveryCaller() {
+        batcher = new MicroBatcher<String, String>("failing", keys -> {
+            throw new IllegalStateException("source down");
+        }, Duration.ofMillis(20), 50, 1);
+
+        CompletableFuture<String> other = batcher.submit("b");
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> batcher.get("a"));
+
+        assertEquals("source down", e.getMessage());
+        assertThrows(ExecutionException.class, other::get);
+    }
+
+    @Test
+    void submit_startsNewWindowAfterBatchIsSent() throws Exception {
+        newBatcher(Duration.ofMillis(20), 50);
+
+        assertEquals("A", batcher.get("a"));
+        assertEquals("B", batcher.get("b"));
+
+        assertEquals(List.of(List.of("a"), List.of("b")), batches);
+    }
+}
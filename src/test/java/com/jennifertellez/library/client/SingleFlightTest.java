@@ -0,0 +1,88 @@
+package com.jennifertellez.library.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+    private final SingleFlight<String> flight = new SingleFlight<>("test", LookupKeys::isbn);
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    void run_sharesInFlightWorkBetweenEquivalentKeys() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> leader = executor.submit(() -> flight.run("978-0-13-468599-1", () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "Effective Java";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> flight.run("9780134685991", () -> {
+                    runs.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // Let every follower join the in-flight future before the leader finishes
+            while (flight.stats().shared() < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals("Effective Java", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("Effective Java", follower.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, runs.get());
+        assertEquals(4, flight.stats().calls());
+        assertEquals(3, flight.stats().shared());
+        assertEquals(0, flight.stats().inFlight());
+    }
+
+    @Test
+    void run_doesNotRememberFinishedWork() {
+        flight.run("123", () -> "first");
+
+        assertEquals("second", flight.run("123", () -> "second"));
+        assertEquals(0, flight.stats().shared());
+    }
+
+    @Test
+    void run_rethrowsFailureAndAllowsRetry() {
+        assertThrows(IllegalStateException.class, () -> flight.run("123", () -> {
+            throw new IllegalStateException("source down");
+        }));
+
+        assertEquals("ok", flight.run("123", () -> "ok"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
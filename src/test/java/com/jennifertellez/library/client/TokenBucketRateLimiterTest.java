@@ -0,0 +1,80 @@
+package com.jennifertellez.library.client;
+
+import com.jennifertellez.library.exception.RateLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Token Bucket Rate Limiter Tests")
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void burstIsGrantedWithoutWaiting() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 2, 3, Duration.ofSeconds(5));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            limiter.acquirePermission();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMs < 100, "burst should not wait, took " + elapsedMs + "ms");
+        assertEquals(0, limiter.stats().delayed());
+    }
+
+    @Test
+    void tryAcquire_failsFastWhenBucketIsEmpty() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 1, 1, Duration.ZERO);
+
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertThrows(RateLimitExceededException.class, limiter::acquirePermission);
+        assertEquals(2, limiter.stats().rejected());
+    }
+
+    @Test
+    void concurrentCallersAreSpacedGlobally() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter("test", 10, 1, Duration.ofSeconds(5));
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(pool.submit(() -> {
+                limiter.acquirePermission();
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        pool.shutdown();
+
+        // 5 permits at 10/second: the first is free, the other four are 100ms apart
+        assertTrue(elapsedMs >= 350, "callers should be spaced out, took " + elapsedMs + "ms");
+        assertTrue(elapsedMs < 1_000, "callers should not wait longer than their slot, took " + elapsedMs + "ms");
+        assertEquals(5, limiter.stats().granted());
+        assertEquals(4, limiter.stats().delayed());
+    }
+
+    @Test
+    void unlimitedNeverWaits() throws Exception {
+        TokenBucketRateLimiter limiter = TokenBucketRateLimiter.unlimited("test");
+
+        for (int i = 0; i < 1_000; i++) {
+            limiter.acquirePermission();
+        }
+
+        assertEquals(1_000, limiter.stats().granted());
+        assertEquals(0, limiter.stats().delayed());
+    }
+}
@@ -3,10 +3,12 @@ package com.jennifertellez.library.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jennifertellez.library.dto.BookResponse;
 import com.jennifertellez.library.dto.CreateBookRequest;
+import com.jennifertellez.library.dto.ImportJobResponse;
 import com.jennifertellez.library.dto.PageResponse;
 import com.jennifertellez.library.exception.BookNotFoundException;
 import com.jennifertellez.library.exception.DuplicateBookException;
 import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.service.BookImportService;
 import com.jennifertellez.library.service.BookService;
 import com.jennifertellez.library.service.GoogleBooksService;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +19,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 
@@ -40,6 +43,9 @@ class BookControllerTest {
     @MockitoBean
     private GoogleBooksService googleBooksService;
 
+    @MockitoBean
+    private BookImportService bookImportService;
+
     private BookResponse bookResponse;
     private CreateBookRequest createBookRequest;
 
@@ -147,4 +153,34 @@ class BookControllerTest {
         mockMvc.perform(delete("/api/books/1"))
                 .andExpect(status().isNoContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void importBooks_JsonArray_ReturnsAcceptedJob() throws Exception {
+        ImportJobResponse job = ImportJobResponse.builder()
+                .jobId("job-1")
+                .status(ImportJobResponse.Status.QUEUED)
+                .total(2)
+                .build();
+        when(bookImportService.startImport(List.of("9780441013593", "0441172717"))).thenReturn(job);
+
+        mockMvc.perform(post("/api/books/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"9780441013593\", \"0441172717\"]"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/books/import/job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.total").value(2));
+    }
+
+    @Test
+    void importBooks_Csv_StreamsBodyToImporter() throws Exception {
+        ImportJobResponse job = ImportJobResponse.builder().jobId("job-2").build();
+        when(bookImportService.startImport(any(InputStream.class))).thenReturn(job);
+
+        mockMvc.perform(post("/api/books/import")
+                        .contentType("text/csv")
+                        .content("isbn\n9780441013593\n"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").value("job-2"));
+    }
+}
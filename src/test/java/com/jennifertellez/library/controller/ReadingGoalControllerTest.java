@@ -7,6 +7,7 @@ import com.jennifertellez.library.dto.UpdateReadingGoalRequest;
 import com.jennifertellez.library.exception.GlobalExceptionHandler;
 import com.jennifertellez.library.exception.ResourceNotFoundException;
 import com.jennifertellez.library.model.ReadingGoal;
+import com.jennifertellez.library.service.GoalProgressStream;
 import com.jennifertellez.library.service.ReadingGoalService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -44,6 +45,9 @@ class ReadingGoalControllerTest {
     @MockitoBean
     private ReadingGoalService readingGoalService;
 
+    @MockitoBean
+    private GoalProgressStream goalProgressStream;
+
     private ReadingGoal readingGoal;
     private CreateReadingGoalRequest createReadingGoalRequest;
 
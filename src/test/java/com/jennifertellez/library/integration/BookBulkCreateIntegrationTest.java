@@ -0,0 +1,122 @@
+package com.jennifertellez.library.integration;
+
+import com.jennifertellez.library.dto.BookResponse;
+import com.jennifertellez.library.dto.CreateBookRequest;
+import com.jennifertellez.library.exception.DuplicateBookException;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.service.BookService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class BookBulkCreateIntegrationTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    void createBooks_insertsEveryBookAcrossSeveralBatches() {
+        List<CreateBookRequest> requests = IntStream.range(0, 120)
+                .mapToObj(i -> request("Bulk " + i, i % 3 == 0 ? null : String.format("978%010d", i)))
+                .toList();
+
+        List<BookResponse> created = bookService.createBooks(requests);
+
+        assertEquals(120, created.size());
+        assertTrue(created.stream().allMatch(response -> response.getCreatedAt() != null && response.getUpdatedAt() != null),
+                "responses should carry the timestamps set on insert");
+        assertEquals(120, new HashSet<>(created.stream().map(BookResponse::getId).toList()).size());
+        assertEquals(120, bookRepository.count());
+        Book book = bookRepository.findById(created.get(7).getId()).orElseThrow();
+        assertEquals("Bulk 7", book.getTitle());
+        assertNotNull(book.getCreatedAt());
+    }
+
+    @Test
+    void createBook_responseCarriesTheTimestampsSetOnInsert() {
+        BookResponse created = bookService.createBook(request("Single", "9780000000999"));
+
+        assertNotNull(created.getCreatedAt());
+        assertNotNull(created.getUpdatedAt());
+    }
+
+    @Test
+    void createBooks_leavesTheCallersEntitiesManaged() {
+        Book existing = new Book();
+        existing.setTitle("Loaded before");
+        existing.setStatus(ReadingStatus.TO_READ);
+        bookRepository.saveAndFlush(existing);
+
+        bookService.createBooks(IntStream.range(0, 60).mapToObj(i -> request("Batch " + i, null)).toList());
+
+        assertTrue(entityManager.contains(existing));
+    }
+
+    // The stats counters only move after commit, so this one commits and cleans up after itself
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void createBooks_countsTheNewBooksInReadingStatistics() {
+        long addedThisYear = bookService.getReadingStatistics().getBooksAddedThisYear();
+        try {
+            bookService.createBooks(IntStream.range(0, 60).mapToObj(i -> request("Counted " + i, null)).toList());
+
+            assertEquals(addedThisYear + 60, bookService.getReadingStatistics().getBooksAddedThisYear());
+        } finally {
+            bookRepository.deleteAll();
+        }
+    }
+
+    @Test
+    void createBooks_rejectsTheWholeRequestOnDuplicateIsbn() {
+        Book existing = new Book();
+        existing.setTitle("Existing");
+        existing.setIsbn("9780000000042");
+        existing.setStatus(ReadingStatus.TO_READ);
+        bookRepository.save(existing);
+
+        List<CreateBookRequest> requests = new ArrayList<>();
+        requests.add(request("New", "9780000000001"));
+        requests.add(request("Copy", "9780000000042"));
+
+        assertThrows(DuplicateBookException.class, () -> bookService.createBooks(requests));
+        assertThrows(DuplicateBookException.class, () -> bookService.createBooks(
+                List.of(request("A", "9780000000007"), request("B", "9780000000007"))));
+        assertEquals(1, bookRepository.count());
+    }
+
+    private static CreateBookRequest request(String title, String isbn) {
+        CreateBookRequest request = new CreateBookRequest();
+        request.setTitle(title);
+        request.setIsbn(isbn);
+        request.setStatus(ReadingStatus.TO_READ);
+        return request;
+    }
+}
@@ -0,0 +1,150 @@
+package com.jennifertellez.library.integration;
+
+import com.jennifertellez.library.dto.ImportItemResult;
+import com.jennifertellez.library.dto.ImportJobResponse;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.service.BookImportService;
+import com.jennifertellez.library.service.BookLookupService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = {"library.import.batch-size=3", "library.import.lookup-concurrency=2"})
+@ActiveProfiles("test")
+public class BookImportIntegrationTest {
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @MockitoBean
+    private BookLookupService bookLookupService;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+
+        Book existing = new Book();
+        existing.setTitle("Already Here");
+        existing.setIsbn("9780441013593");
+        existing.setStatus(ReadingStatus.FINISHED);
+        bookRepository.save(existing);
+
+        when(bookLookupService.lookupIsbn(anyString())).thenAnswer(invocation -> {
+            String isbn = invocation.getArgument(0);
+            if (isbn.endsWith("0")) {
+                return Optional.empty();
+            }
+            Book book = new Book();
+            book.setTitle("Book " + isbn);
+            book.setIsbn(isbn);
+            return Optional.of(book);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    void startImport_dedupesLooksUpAndBatchInserts() throws InterruptedException {
+        List<String> isbns = new ArrayList<>(IntStream.rangeClosed(1, 7)
+                .mapToObj(i -> "978000000000" + i)
+                .toList());
+        isbns.add("978-0-441-01359-3");  // already in the library
+        isbns.add("9780000000001");      // repeated in the request
+        isbns.add("9780000000010");      // unknown to every source
+        isbns.add("12345");              // not an ISBN
+
+        ImportJobResponse job = awaitCompletion(bookImportService.startImport(isbns).getJobId());
+
+        assertEquals(ImportJobResponse.Status.COMPLETED, job.getStatus());
+        assertEquals(11, job.getProcessed());
+        assertEquals(7, job.getImported());
+        assertEquals(2, job.getDuplicates());
+        assertEquals(1, job.getNotFound());
+        assertEquals(1, job.getInvalid());
+        assertEquals(8, bookRepository.count());
+
+        Map<String, ImportItemResult> imported = job.getResults().stream()
+                .filter(result -> result.getStatus() == ImportItemResult.Status.IMPORTED)
+                .collect(Collectors.toMap(ImportItemResult::getIsbn, result -> result));
+        Book saved = bookRepository.findByIsbn("9780000000004").orElseThrow();
+        assertEquals(saved.getId(), imported.get("9780000000004").getBookId());
+        assertEquals("Book 9780000000004", saved.getTitle());
+        assertNotNull(saved.getCreatedAt());
+        verify(bookLookupService, never()).lookupIsbn("9780441013593");
+    }
+
+    @Test
+    void startImport_readsIsbnColumnFromCsv() throws Exception {
+        // Spreadsheet-style export with quoted commas and ="..." wrapped ISBNs
+        String csv = "Title,Author,ISBN,ISBN13\n" +
+                "\"Dune, Deluxe\",Frank Herbert,\"=\"\"0441172717\"\"\",\"=\"\"9780000000005\"\"\"\n" +
+                "Empty,Nobody,\"=\"\"\"\"\",\"=\"\"\"\"\"\n";
+
+        ImportJobResponse job = awaitCompletion(bookImportService.startImport(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))).getJobId());
+
+        assertEquals(1, job.getTotal());
+        assertEquals(1, job.getImported());
+        assertEquals("9780000000005", job.getResults().get(0).getIsbn());
+    }
+
+    @Test
+    void startImport_stopsReadingCsvOnceOverTheIsbnLimit() {
+        // An endless body: the import must give up at the limit instead of buffering it all
+        byte[] row = "9780441172719\n".getBytes(StandardCharsets.UTF_8);
+        AtomicLong bytesRead = new AtomicLong();
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                return row[(int) (bytesRead.getAndIncrement() % row.length)];
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> bookImportService.startImport(endless));
+        assertTrue(bytesRead.get() < 20_000L * row.length);
+    }
+
+    @Test
+    void startImport_rejectsEmptyList() {
+        assertThrows(IllegalArgumentException.class, () -> bookImportService.startImport(List.of()));
+    }
+
+    private ImportJobResponse awaitCompletion(String jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            ImportJobResponse job = bookImportService.getJob(jobId);
+            if (job.getFinishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        fail("Import did not finish");
+        return null;
+    }
+}
@@ -1,8 +1,11 @@
 package com.jennifertellez.library.integration;
 
 import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.BookSearchCriteria;
 import com.jennifertellez.library.model.ReadingStatus;
 import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.BookSpecification;
+import com.jennifertellez.library.repository.projection.BookSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -66,4 +69,19 @@ public class BookPaginationIntegrationTest {
         assertEquals(10, page.getContent().size());
         assertEquals(25, page.getTotalElements());
     }
+
+    @Test
+    void testSummaryPage() {
+        PageRequest pageRequest = PageRequest.of(1, 10, Sort.by("title").descending());
+        Page<BookSummary> page = bookRepository.findSummaries(
+                BookSpecification.withCriteria(BookSearchCriteria.builder().author("author 1").build()), pageRequest);
+
+        assertEquals(5, page.getTotalElements());
+        assertTrue(page.getContent().isEmpty());
+
+        Page<BookSummary> all = bookRepository.findSummaries(null, PageRequest.of(0, 10, Sort.by("title")));
+        assertEquals(25, all.getTotalElements());
+        assertEquals("Book 1", all.getContent().get(0).title());
+        assertEquals(ReadingStatus.TO_READ, all.getContent().get(0).status());
+    }
 }
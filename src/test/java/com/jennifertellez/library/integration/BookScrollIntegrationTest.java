@@ -0,0 +1,118 @@
+package com.jennifertellez.library.integration;
+
+import com.jennifertellez.library.dto.BookResponse;
+import com.jennifertellez.library.dto.CursorPageResponse;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.BookSearchCriteria;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.service.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class BookScrollIntegrationTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookService bookService;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+
+        // Duplicate titles so the id tie-breaker matters
+        for (int i = 0; i < 25; i++) {
+            Book book = new Book();
+            book.setTitle("Book " + (i % 10));
+            book.setAuthor(i % 2 == 0 ? "Even Author" : "Odd Author");
+            book.setStatus(ReadingStatus.TO_READ);
+            bookRepository.save(book);
+        }
+        bookRepository.flush();
+    }
+
+    @Test
+    void scrollBooks_visitsEveryBookOnceInSortOrder() {
+        Sort sort = Sort.by(Sort.Direction.DESC, "title");
+        List<BookResponse> seen = new ArrayList<>();
+        String cursor = null;
+        int slices = 0;
+        do {
+            CursorPageResponse<BookResponse> slice =
+                    bookService.scrollBooks(new BookSearchCriteria(), sort, 10, cursor, false);
+            seen.addAll(slice.getContent());
+            assertNull(slice.getTotalElements());
+            cursor = slice.getNextCursor();
+            assertEquals(slice.isHasNext(), cursor != null);
+            slices++;
+        } while (cursor != null);
+
+        assertEquals(3, slices);
+        assertEquals(25, seen.stream().map(BookResponse::getId).distinct().count());
+        List<String> titles = seen.stream().map(BookResponse::getTitle).toList();
+        assertEquals(titles.stream().sorted((a, b) -> b.compareTo(a)).toList(), titles);
+    }
+
+    @Test
+    void scrollBooks_appliesFiltersAndCountsOnlyWhenAsked() {
+        BookSearchCriteria criteria = new BookSearchCriteria();
+        criteria.setAuthor("even");
+
+        CursorPageResponse<BookResponse> first =
+                bookService.scrollBooks(criteria, Sort.by("title"), 10, null, true);
+        CursorPageResponse<BookResponse> second =
+                bookService.scrollBooks(criteria, Sort.by("title"), 10, first.getNextCursor(), true);
+
+        assertEquals(13L, first.getTotalElements());
+        assertEquals(3, second.getContent().size());
+        assertFalse(second.isHasNext());
+        assertTrue(second.getContent().stream().allMatch(book -> book.getAuthor().equals("Even Author")));
+    }
+
+    @Test
+    void scrollBooks_rejectsCursorFromAnotherSortOrUnsortableField() {
+        String cursor = bookService.scrollBooks(new BookSearchCriteria(), Sort.by("title"), 5, null, false)
+                .getNextCursor();
+
+        assertThrows(IllegalArgumentException.class, () ->
+                bookService.scrollBooks(new BookSearchCriteria(), Sort.by("createdAt"), 5, cursor, false));
+        assertThrows(IllegalArgumentException.class, () ->
+                bookService.scrollBooks(new BookSearchCriteria(), Sort.by("title"), 5, "not-a-cursor", false));
+        assertThrows(IllegalArgumentException.class, () ->
+                bookService.scrollBooks(new BookSearchCriteria(), Sort.by("rating"), 5, null, false));
+    }
+
+    @Test
+    void scrollBooks_rejectsEmptySlicesAndCapsTheSliceSize() {
+        for (int i = 0; i < BookService.MAX_PAGE_SIZE; i++) {
+            Book book = new Book();
+            book.setTitle("Extra " + i);
+            book.setStatus(ReadingStatus.TO_READ);
+            bookRepository.save(book);
+        }
+        bookRepository.flush();
+
+        CursorPageResponse<BookResponse> slice =
+                bookService.scrollBooks(new BookSearchCriteria(), Sort.by("id"), 1000, null, false);
+
+        assertEquals(BookService.MAX_PAGE_SIZE, slice.getContent().size());
+        assertTrue(slice.isHasNext());
+        assertThrows(IllegalArgumentException.class, () ->
+                bookService.scrollBooks(new BookSearchCriteria(), Sort.by("id"), 0, null, false));
+    }
+}
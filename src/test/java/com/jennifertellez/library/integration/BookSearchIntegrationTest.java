@@ -0,0 +1,86 @@
+package com.jennifertellez.library.integration;
+
+import com.jennifertellez.library.dto.BookResponse;
+import com.jennifertellez.library.dto.PageResponse;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.BookSearchCriteria;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.service.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class BookSearchIntegrationTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookService bookService;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+
+        save("A Book About Dune Ecology", "Someone", "Deserts", ReadingStatus.TO_READ);
+        save("Unrelated", "Someone", "Mentions dune once", ReadingStatus.FINISHED);
+        save("Dune Messiah", "Frank Herbert", "Sequel", ReadingStatus.FINISHED);
+        save("Children", "Dune Fan", "Essays", ReadingStatus.TO_READ);
+        save("Dune", "Frank Herbert", "Arrakis", ReadingStatus.CURRENTLY_READING);
+        save("Foundation", "Isaac Asimov", "Psychohistory", ReadingStatus.FINISHED);
+        bookRepository.flush();
+    }
+
+    private void save(String title, String author, String description, ReadingStatus status) {
+        Book book = new Book();
+        book.setTitle(title);
+        book.setAuthor(author);
+        book.setDescription(description);
+        book.setStatus(status);
+        bookRepository.save(book);
+    }
+
+    @Test
+    void searchBooks_ranksExactAndLeadingTitleMatchesFirst() {
+        PageResponse<BookResponse> page = bookService.searchBooks("DUNE", PageRequest.of(0, 10));
+
+        assertEquals(List.of("Dune", "Dune Messiah", "A Book About Dune Ecology", "Children", "Unrelated"),
+                page.getContent().stream().map(BookResponse::getTitle).toList());
+        assertEquals(5, page.getTotalElements());
+    }
+
+    @Test
+    void searchBooks_honoursExplicitSortAndPaging() {
+        PageResponse<BookResponse> page = bookService.searchBooks("dune", PageRequest.of(1, 2, Sort.by("title")));
+
+        assertEquals(List.of("Dune", "Dune Messiah"),
+                page.getContent().stream().map(BookResponse::getTitle).toList());
+        assertEquals(5, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+    }
+
+    @Test
+    void advanceSearch_combinesTermWithFilters() {
+        BookSearchCriteria criteria = new BookSearchCriteria();
+        criteria.setSearchTerm("dune");
+        criteria.setStatus(ReadingStatus.FINISHED);
+
+        PageResponse<BookResponse> page = bookService.advanceSearch(criteria, PageRequest.of(0, 10, Sort.by("title")));
+
+        assertEquals(List.of("Dune Messiah", "Unrelated"),
+                page.getContent().stream().map(BookResponse::getTitle).toList());
+    }
+}
@@ -0,0 +1,150 @@
+package com.jennifertellez.library.integration;
+
+import com.jennifertellez.library.dto.ChangeFeedResponse;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingGoal;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.model.Shelf;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.ReadingGoalRepository;
+import com.jennifertellez.library.repository.ShelfRepository;
+import com.jennifertellez.library.service.ChangeFeed;
+import com.jennifertellez.library.service.ShelfService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Outbox rows only become visible once their transaction commits, so these tests do not run in a rolled-back one.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ChangeFeedIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ShelfRepository shelfRepository;
+
+    @Autowired
+    private ReadingGoalRepository readingGoalRepository;
+
+    @Autowired
+    private ShelfService shelfService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long since;
+
+    @BeforeEach
+    void setUp() {
+        shelfRepository.deleteAll();
+        bookRepository.deleteAll();
+        readingGoalRepository.deleteAll();
+        changeFeed.publish();
+        since = changeFeed.stats().lastSeq();
+    }
+
+    @Test
+    void getChanges_returnsCommittedChangesInOrder() throws Exception {
+        Book book = bookRepository.save(newBook("Outboxed"));
+        book.setStatus(ReadingStatus.CURRENTLY_READING);
+        bookRepository.save(book);
+
+        ReadingGoal goal = new ReadingGoal();
+        goal.setTargetBooks(5);
+        goal.setYear(2026);
+        goal.setStartDate(LocalDate.of(2026, 1, 1));
+        goal.setEndDate(LocalDate.of(2026, 12, 31));
+        readingGoalRepository.save(goal);
+
+        Shelf shelf = new Shelf();
+        shelf.setName("Feed");
+        shelf = shelfRepository.save(shelf);
+        shelfService.addBooksToShelf(shelf.getId(), List.of(book.getId()));
+        changeFeed.publish();
+
+        MvcResult result = mockMvc.perform(get("/api/changes").param("since", String.valueOf(since)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(5)))
+                .andExpect(jsonPath("$.changes[0].entityType").value("BOOK"))
+                .andExpect(jsonPath("$.changes[0].operation").value("CREATED"))
+                .andExpect(jsonPath("$.changes[1].operation").value("UPDATED"))
+                .andExpect(jsonPath("$.changes[2].entityType").value("READING_GOAL"))
+                .andExpect(jsonPath("$.changes[3].entityType").value("SHELF"))
+                .andExpect(jsonPath("$.changes[4].entityId").value(shelf.getId()))
+                .andExpect(jsonPath("$.changes[4].operation").value("UPDATED"))
+                .andExpect(jsonPath("$.changes[0].seq").value(since + 1))
+                .andExpect(jsonPath("$.nextSince").value(since + 5))
+                .andExpect(jsonPath("$.resyncRequired").value(false));
+    }
+
+    @Test
+    void getChanges_skipsRolledBackChanges() {
+        transactionTemplate.executeWithoutResult(status -> {
+            bookRepository.saveAndFlush(newBook("Never committed"));
+            status.setRollbackOnly();
+        });
+        changeFeed.publish();
+
+        assertTrue(changeFeed.read(since, 100).getChanges().isEmpty());
+    }
+
+    @Test
+    void getChanges_withWait_returnsOnceAChangeIsPublished() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/changes")
+                        .param("since", String.valueOf(since))
+                        .param("waitSeconds", "5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(1, changeFeed.stats().waiting());
+
+        Book book = bookRepository.save(newBook("Awaited"));
+
+        // Published from the after-commit hook, without calling publish() here
+        ChangeFeedResponse response = (ChangeFeedResponse) result.getAsyncResult(5_000);
+        assertEquals(1, response.getChanges().size());
+        assertEquals(book.getId(), response.getChanges().get(0).entityId());
+        assertEquals(0, changeFeed.stats().waiting());
+    }
+
+    @Test
+    void getChanges_withInvalidLimit_returns400() throws Exception {
+        mockMvc.perform(get("/api/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static Book newBook(String title) {
+        Book book = new Book();
+        book.setTitle(title);
+        book.setStatus(ReadingStatus.TO_READ);
+        return book;
+    }
+}
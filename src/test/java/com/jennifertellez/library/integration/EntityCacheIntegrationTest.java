@@ -0,0 +1,147 @@
+package com.jennifertellez.library.integration;
+
+import com.jennifertellez.library.config.CaffeineRegionFactory;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingGoal;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.model.Shelf;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.ReadingGoalRepository;
+import com.jennifertellez.library.repository.ShelfRepository;
+import com.jennifertellez.library.service.ShelfService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Second-level cache behaviour across transactions, so these tests commit instead of rolling back.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class EntityCacheIntegrationTest {
+
+    private static final String SHELF_BOOKS = Shelf.class.getName() + ".books";
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ShelfRepository shelfRepository;
+
+    @Autowired
+    private ReadingGoalRepository readingGoalRepository;
+
+    @Autowired
+    private ShelfService shelfService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private SessionFactoryImplementor sessionFactory;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        shelfRepository.deleteAll();
+        bookRepository.deleteAll();
+        readingGoalRepository.deleteAll();
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        cache = sessionFactory.getCache();
+        cache.evictAllRegions();
+    }
+
+    @Test
+    void findById_isServedFromCacheOnceLoaded() {
+        Book book = new Book();
+        book.setTitle("Cached");
+        book.setStatus(ReadingStatus.TO_READ);
+        Long id = bookRepository.save(book).getId();
+        cache.evictEntityData(Book.class);
+
+        transactionTemplate.executeWithoutResult(status -> bookRepository.findById(id));
+        assertTrue(cache.containsEntity(Book.class, id));
+
+        long hits = regionHits(Book.class.getName());
+        transactionTemplate.executeWithoutResult(status ->
+                assertEquals("Cached", bookRepository.findById(id).orElseThrow().getTitle()));
+        assertEquals(hits + 1, regionHits(Book.class.getName()));
+    }
+
+    @Test
+    void currentGoalQuery_isInvalidatedWhenGoalsChange() {
+        LocalDate today = LocalDate.now();
+        ReadingGoal goal = new ReadingGoal();
+        goal.setTargetBooks(10);
+        goal.setYear(today.getYear());
+        goal.setStartDate(today.minusDays(10));
+        goal.setEndDate(today.plusDays(10));
+        ReadingGoal saved = readingGoalRepository.save(goal);
+
+        assertEquals(10, readingGoalRepository.findCurrentGoal(today).orElseThrow().getTargetBooks());
+        long hits = queryRegionHits();
+        readingGoalRepository.findCurrentGoal(today);
+        assertEquals(hits + 1, queryRegionHits());
+
+        saved.setTargetBooks(25);
+        readingGoalRepository.save(saved);
+
+        assertEquals(25, readingGoalRepository.findCurrentGoal(today).orElseThrow().getTargetBooks());
+    }
+
+    @Test
+    void shelfBooksCollection_isEvictedByBulkMembershipChanges() {
+        Shelf shelf = new Shelf();
+        shelf.setName("Cached shelf");
+        Long shelfId = shelfRepository.save(shelf).getId();
+        Book book = new Book();
+        book.setTitle("Joining");
+        book.setStatus(ReadingStatus.TO_READ);
+        Long bookId = bookRepository.save(book).getId();
+
+        assertEquals(0, loadShelfBooks(shelfId));
+        assertTrue(cache.containsCollection(SHELF_BOOKS, shelfId));
+
+        assertTrue(cache.containsEntity(Shelf.class, shelfId));
+
+        shelfService.addBooksToShelf(shelfId, List.of(bookId));
+
+        assertFalse(cache.containsCollection(SHELF_BOOKS, shelfId));
+        // The statement declares its tables, so unrelated regions such as shelves are left alone
+        assertTrue(cache.containsEntity(Shelf.class, shelfId));
+        assertEquals(1, loadShelfBooks(shelfId));
+    }
+
+    private int loadShelfBooks(Long shelfId) {
+        return transactionTemplate.execute(status ->
+                shelfRepository.findById(shelfId).orElseThrow().getBooks().size());
+    }
+
+    private long regionHits(String region) {
+        return regionFactory().stats().stream()
+                .filter(stats -> stats.region().equals(region))
+                .mapToLong(CaffeineRegionFactory.Stats::hits)
+                .sum();
+    }
+
+    private long queryRegionHits() {
+        return regionHits(sessionFactory.getCache().getDefaultQueryResultsCache().getRegion().getName());
+    }
+
+    private CaffeineRegionFactory regionFactory() {
+        return (CaffeineRegionFactory) sessionFactory.getCache().getRegionFactory();
+    }
+}
@@ -0,0 +1,118 @@
+package com.jennifertellez.library.integration;
+
+import com.jennifertellez.library.dto.UpdateBookRequest;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingGoal;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.ReadingGoalRepository;
+import com.jennifertellez.library.repository.ShelfRepository;
+import com.jennifertellez.library.service.BookService;
+import com.jennifertellez.library.service.GoalProgressStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Book updates have to commit before progress is pushed, so these tests do not run in a rolled-back transaction.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class GoalProgressStreamIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private GoalProgressStream goalProgressStream;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ShelfRepository shelfRepository;
+
+    @Autowired
+    private ReadingGoalRepository readingGoalRepository;
+
+    private ReadingGoal goal;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        shelfRepository.deleteAll();
+        bookRepository.deleteAll();
+        readingGoalRepository.deleteAll();
+
+        LocalDate today = LocalDate.now();
+        goal = new ReadingGoal();
+        goal.setTargetBooks(12);
+        goal.setYear(today.getYear());
+        goal.setStartDate(today.minusMonths(1));
+        goal.setEndDate(today.plusMonths(1));
+        goal = readingGoalRepository.save(goal);
+
+        book = new Book();
+        book.setTitle("Streamed");
+        book.setStatus(ReadingStatus.CURRENTLY_READING);
+        book = bookRepository.save(book);
+    }
+
+    @Test
+    void stream_sendsSnapshotThenPushesRelevantChangesOnly() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/goals/{id}/progress/stream", goal.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = result.getResponse();
+        awaitContent(response, "\"booksRead\":0");
+
+        // Not a status or finished date change: nothing is recomputed
+        long computations = goalProgressStream.stats().computations();
+        UpdateBookRequest rename = new UpdateBookRequest();
+        rename.setTitle("Renamed");
+        bookService.updateBook(book.getId(), rename);
+        assertEquals(computations, goalProgressStream.stats().computations());
+
+        UpdateBookRequest finish = new UpdateBookRequest();
+        finish.setStatus(ReadingStatus.FINISHED);
+        finish.setFinishedDate(LocalDate.now());
+        bookService.updateBook(book.getId(), finish);
+
+        awaitContent(response, "\"booksRead\":1");
+        assertTrue(response.getContentAsString().contains("event:progress"));
+        assertEquals(1, goalProgressStream.stats().subscribers());
+    }
+
+    @Test
+    void stream_unknownGoal_returnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/goals/{id}/progress/stream", -1L))
+                .andExpect(status().isNotFound());
+    }
+
+    private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!response.getContentAsString().contains(expected)) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Stream never sent " + expected + ", got: " + response.getContentAsString());
+            }
+            Thread.sleep(20);
+        }
+    }
+}
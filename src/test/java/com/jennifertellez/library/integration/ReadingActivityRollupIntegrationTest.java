@@ -0,0 +1,115 @@
+package com.jennifertellez.library.integration;
+
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingActivityDaily;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.ReadingActivityRepository;
+import com.jennifertellez.library.repository.ShelfRepository;
+import com.jennifertellez.library.service.ReadingActivityRollup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The reconciler runs in its own transaction, so these tests commit instead of rolling back.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReadingActivityRollupIntegrationTest {
+
+    private static final LocalDate STARTED = LocalDate.of(2026, 1, 10);
+    private static final LocalDate FINISHED = LocalDate.of(2026, 2, 3);
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ShelfRepository shelfRepository;
+
+    @Autowired
+    private ReadingActivityRepository readingActivityRepository;
+
+    @Autowired
+    private ReadingActivityRollup readingActivityRollup;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        shelfRepository.deleteAll();
+        bookRepository.deleteAll();
+        readingActivityRepository.deleteAll();
+    }
+
+    @Test
+    void bookWrites_moveTheAffectedDays() {
+        Book book = bookRepository.save(finishedBook(FINISHED, 320));
+        assertDay(FINISHED, 1, 320, 0);
+        assertDay(STARTED, 0, 0, 1);
+
+        book.setFinishedDate(FINISHED.plusMonths(1));
+        book = bookRepository.save(book);
+        assertDay(FINISHED, 0, 0, 0);
+        assertDay(FINISHED.plusMonths(1), 1, 320, 0);
+
+        // Only FINISHED books count as read
+        book.setStatus(ReadingStatus.DNF);
+        book = bookRepository.save(book);
+        assertDay(FINISHED.plusMonths(1), 0, 0, 0);
+
+        bookRepository.delete(book);
+        assertDay(STARTED, 0, 0, 0);
+    }
+
+    @Test
+    void reconcile_repairsDriftAndDropsEmptyDays() {
+        bookRepository.save(finishedBook(FINISHED, 200));
+        bookRepository.save(finishedBook(FINISHED, 100));
+        assertEquals(0, readingActivityRollup.reconcile());
+
+        // Writes that bypass Hibernate leave the rollup behind
+        jdbcTemplate.update("UPDATE reading_activity_daily SET finished_count = 7 WHERE activity_date = ?", FINISHED);
+        jdbcTemplate.update("INSERT INTO reading_activity_daily VALUES (?, 0, 0, 0)", FINISHED.minusDays(1));
+        jdbcTemplate.update("UPDATE books SET date_started = NULL");
+
+        assertEquals(2, readingActivityRollup.reconcile());
+        assertDay(FINISHED, 2, 300, 0);
+        assertTrue(readingActivityRepository.findById(STARTED).isEmpty());
+        assertTrue(readingActivityRepository.findById(FINISHED.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    void reconcile_recreatesMissingDays() {
+        bookRepository.save(finishedBook(FINISHED, 250));
+        jdbcTemplate.update("DELETE FROM reading_activity_daily WHERE activity_date = ?", FINISHED);
+
+        assertEquals(1, readingActivityRollup.reconcile());
+        assertDay(FINISHED, 1, 250, 0);
+        assertDay(STARTED, 0, 0, 1);
+    }
+
+    private Book finishedBook(LocalDate finished, int pages) {
+        Book book = new Book();
+        book.setTitle("Rolled up");
+        book.setStatus(ReadingStatus.FINISHED);
+        book.setDateStarted(STARTED);
+        book.setFinishedDate(finished);
+        book.setPageCount(pages);
+        return book;
+    }
+
+    private void assertDay(LocalDate day, long finished, long pages, long started) {
+        ReadingActivityDaily row = readingActivityRepository.findById(day)
+                .orElse(new ReadingActivityDaily(day, 0, 0, 0));
+        assertEquals(new ReadingActivityDaily(day, finished, pages, started), row);
+    }
+}
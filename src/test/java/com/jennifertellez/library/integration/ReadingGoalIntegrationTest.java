@@ -350,6 +350,82 @@ Tests need to be updated with new logic
                 .andExpect(jsonPath("$.recentlyFinished", hasSize(5))); // Limited to 5
     }
 
+    @Test
+    void testGetGoalProgress_groupsFinishedBooksByMonthAndListsNewestFirst() throws Exception {
+        ReadingGoal saved = readingGoalRepository.save(createGoal(2026, 24));
+
+        LocalDate[] finished = {
+                LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 31),
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 15), LocalDate.of(2026, 3, 31),
+                LocalDate.of(2026, 12, 31)
+        };
+        for (int i = 0; i < finished.length; i++) {
+            Book book = new Book();
+            book.setTitle("Book " + i);
+            book.setStatus(ReadingStatus.FINISHED);
+            book.setFinishedDate(finished[i]);
+            bookRepository.save(book);
+        }
+
+        mockMvc.perform(get("/api/goals/{id}/progress", saved.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.booksRead").value(6))
+                .andExpect(jsonPath("$.monthlyBreakdown['2026-01']").value(2))
+                .andExpect(jsonPath("$.monthlyBreakdown['2026-02']").value(0))
+                .andExpect(jsonPath("$.monthlyBreakdown['2026-03']").value(3))
+                .andExpect(jsonPath("$.monthlyBreakdown['2026-12']").value(1))
+                .andExpect(jsonPath("$.recentlyFinished[0].title").value("Book 5"))
+                .andExpect(jsonPath("$.recentlyFinished[1].finishedDate").value("2026-03-31"))
+                .andExpect(jsonPath("$.recentlyFinished[0].shelves").doesNotExist());
+    }
+
+    @Test
+    void testGetAllGoalProgress_matchesPerGoalProgressForOverlappingWindows() throws Exception {
+        ReadingGoal fullYear = readingGoalRepository.save(createGoal(2026, 24));
+        ReadingGoal spring = createGoal(2026, 4);
+        spring.setStartDate(LocalDate.of(2026, 3, 10));
+        spring.setEndDate(LocalDate.of(2026, 6, 30));
+        spring = readingGoalRepository.save(spring);
+        readingGoalRepository.save(createGoal(2025, 12));
+
+        LocalDate[] finished = {
+                LocalDate.of(2025, 12, 30), LocalDate.of(2026, 1, 5),
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 10), LocalDate.of(2026, 3, 10),
+                LocalDate.of(2026, 6, 30), LocalDate.of(2026, 7, 1)
+        };
+        for (int i = 0; i < finished.length; i++) {
+            Book book = new Book();
+            book.setTitle("Book " + i);
+            book.setStatus(ReadingStatus.FINISHED);
+            book.setFinishedDate(finished[i]);
+            bookRepository.save(book);
+        }
+
+        mockMvc.perform(get("/api/goals/progress"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)));
+
+        mockMvc.perform(get("/api/goals/progress").param("year", "2026"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[?(@.goalId == %d)].booksRead", fullYear.getId()).value(6))
+                .andExpect(jsonPath("$[?(@.goalId == %d)].monthlyBreakdown['2026-03']", fullYear.getId()).value(3))
+                .andExpect(jsonPath("$[?(@.goalId == %d)].booksRead", spring.getId()).value(3))
+                .andExpect(jsonPath("$[?(@.goalId == %d)].monthlyBreakdown['2026-03']", spring.getId()).value(2))
+                .andExpect(jsonPath("$[?(@.goalId == %d)].monthlyBreakdown['2026-06']", spring.getId()).value(1));
+
+        mockMvc.perform(get("/api/goals/{id}/progress", spring.getId()))
+                .andExpect(jsonPath("$.booksRead").value(3))
+                .andExpect(jsonPath("$.monthlyBreakdown['2026-03']").value(2));
+    }
+
+    @Test
+    void testGetAllGoalProgress_whenNoGoals_returnsEmptyArray() throws Exception {
+        mockMvc.perform(get("/api/goals/progress"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
     @Test
     void testGetGoalProgress_whenGoalNotFound_returns404() throws Exception {
         mockMvc.perform(get("/api/goals/{id}/progress", 999L))
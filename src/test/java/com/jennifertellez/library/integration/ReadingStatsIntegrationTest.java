@@ -0,0 +1,68 @@
+package com.jennifertellez.library.integration;
+
+import com.jennifertellez.library.dto.ReadingStatsResponse;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.service.ReadingStatsAggregator;
+import com.jennifertellez.library.service.ReadingStatsEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ReadingStatsIntegrationTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ReadingStatsAggregator readingStatsAggregator;
+
+    @Autowired
+    private ReadingStatsEngine readingStatsEngine;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+
+        for (int i = 1; i <= 30; i++) {
+            Book book = new Book();
+            book.setTitle("Book " + i);
+            book.setAuthor("Author " + (i % 7));
+            book.setPageCount(i % 4 == 0 ? null : i * 10);
+            book.setRating(i % 3 == 0 ? null : (i % 5) + 1);
+            if (i % 2 == 0) {
+                book.setStatus(ReadingStatus.FINISHED);
+                book.setFinishedDate(LocalDate.now().minusYears(i % 3));
+            } else {
+                book.setStatus(i % 5 == 0 ? ReadingStatus.DNF : ReadingStatus.TO_READ);
+            }
+            bookRepository.save(book);
+        }
+        bookRepository.flush();
+    }
+
+    @Test
+    void sqlAggregatesMatchRebuiltCounters() {
+        ReadingStatsResponse sql = readingStatsAggregator.computeStatistics();
+
+        readingStatsEngine.rebuild();
+        ReadingStatsResponse incremental = readingStatsEngine.getStatistics();
+
+        assertEquals(30L, sql.getTotalBooks());
+        assertEquals(15L, sql.getBooksRead());
+        assertEquals(7L, sql.getUniqueAuthors());
+        assertEquals(5, sql.getTopAuthors().size());
+        assertEquals(sql, incremental);
+    }
+}
@@ -0,0 +1,130 @@
+package com.jennifertellez.library.integration;
+
+import com.jennifertellez.library.dto.BookResponse;
+import com.jennifertellez.library.dto.CreateShelfRequest;
+import com.jennifertellez.library.dto.PageResponse;
+import com.jennifertellez.library.dto.ShelfBooksUpdateResponse;
+import com.jennifertellez.library.dto.ShelfResponse;
+import com.jennifertellez.library.exception.ResourceNotFoundException;
+import com.jennifertellez.library.model.Book;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.model.Shelf;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.ShelfRepository;
+import com.jennifertellez.library.service.ShelfService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ShelfIntegrationTest {
+
+    @Autowired
+    private ShelfRepository shelfRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ShelfService shelfService;
+
+    private Shelf favorites;
+    private Shelf empty;
+
+    @BeforeEach
+    void setUp() {
+        shelfRepository.deleteAll();
+        bookRepository.deleteAll();
+
+        favorites = new Shelf();
+        favorites.setName("Favorites");
+        shelfRepository.save(favorites);
+
+        empty = new Shelf();
+        empty.setName("Abandoned");
+        shelfRepository.save(empty);
+
+        for (int i = 0; i < 5; i++) {
+            Book book = new Book();
+            book.setTitle("Book " + i);
+            book.setStatus(ReadingStatus.TO_READ);
+            bookRepository.save(book);
+            favorites.addBook(book);
+        }
+        shelfRepository.flush();
+    }
+
+    @Test
+    void createShelf_responseCarriesTheCreationTimestamp() {
+        CreateShelfRequest request = new CreateShelfRequest();
+        request.setName("To buy");
+
+        assertNotNull(shelfService.createShelf(request).getCreatedAt());
+    }
+
+    @Test
+    void getShelfSummaries_countsBooksWithoutLoadingThem() {
+        List<ShelfResponse> summaries = shelfService.getShelfSummaries();
+
+        assertEquals(2, summaries.size());
+        assertEquals("Abandoned", summaries.get(0).getName());
+        assertEquals(0, summaries.get(0).getBookCount());
+        assertEquals("Favorites", summaries.get(1).getName());
+        assertEquals(5, summaries.get(1).getBookCount());
+        assertNull(summaries.get(1).getBooks());
+    }
+
+    @Test
+    void getShelfBooks_pagesThroughOneShelf() {
+        PageResponse<BookResponse> page = shelfService.getShelfBooks(favorites.getId(),
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "title")));
+
+        assertEquals(5, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(List.of("Book 2", "Book 1"),
+                page.getContent().stream().map(BookResponse::getTitle).toList());
+    }
+
+    @Test
+    void getShelfBooks_unknownShelf_throwsNotFound() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> shelfService.getShelfBooks(-1L, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void addBooksToShelf_isIdempotentAndReportsUnknownBooks() {
+        List<Long> ids = new ArrayList<>(bookRepository.findAll().stream().map(Book::getId).toList());
+        ids.add(-5L);
+
+        ShelfBooksUpdateResponse first = shelfService.addBooksToShelf(empty.getId(), ids);
+        ShelfBooksUpdateResponse second = shelfService.addBooksToShelf(empty.getId(), ids);
+
+        assertEquals(5, first.getChanged());
+        assertEquals(List.of(-5L), first.getNotFoundBookIds());
+        assertEquals(0, second.getChanged());
+        assertEquals(5, second.getBookCount());
+    }
+
+    @Test
+    void removeBooksFromShelf_deletesOnlyListedMemberships() {
+        List<Long> ids = bookRepository.findAll().stream().map(Book::getId).limit(3).toList();
+
+        ShelfBooksUpdateResponse response = shelfService.removeBooksFromShelf(favorites.getId(), ids);
+
+        assertEquals(3, response.getChanged());
+        assertEquals(2, response.getBookCount());
+        assertEquals(2, shelfService.getShelfBooks(favorites.getId(), PageRequest.of(0, 10)).getTotalElements());
+    }
+}
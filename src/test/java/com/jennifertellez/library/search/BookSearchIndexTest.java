@@ -0,0 +1,107 @@
+package com.jennifertellez.library.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Book Search Index Tests")
+class BookSearchIndexTest {
+
+    private BookSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookSearchIndex();
+        index.index(1, "Dune", "Frank Herbert", "Desert planet Arrakis and the spice");
+        index.index(2, "Dune Messiah", "Frank Herbert", "Paul rules the known universe");
+        index.index(3, "Children of Time", "Adrian Tchaikovsky", "Spiders inherit a terraformed planet");
+        index.index(4, "Ecology Essays", "Someone", "Notes on dune ecosystems and sand");
+    }
+
+    @Test
+    void tokenize_lowercasesAndDropsPunctuation() {
+        assertEquals(List.of("the", "hobbit", "there", "back", "again"),
+                BookSearchIndex.tokenize("The Hobbit: There & Back Again!"));
+    }
+
+    @Test
+    void search_ranksTitleMatchesAboveDescriptionMatches() {
+        BookSearchIndex.Result result = index.search("dune", 0, 10);
+
+        assertEquals(3, result.totalHits());
+        assertEquals(4L, result.ids().get(2));
+        assertTrue(List.of(1L, 2L).containsAll(result.ids().subList(0, 2)));
+    }
+
+    @Test
+    void search_requiresEveryWordAndTreatsLastAsPrefix() {
+        assertEquals(List.of(2L), index.search("dune mess", 0, 10).ids());
+        assertEquals(List.of(1L, 3L), index.matchingIds("plan"));
+        assertTrue(index.search("dune spiders", 0, 10).ids().isEmpty());
+    }
+
+    @Test
+    void search_pagesThroughRankedHits() {
+        BookSearchIndex.Result all = index.search("dune", 0, 10);
+        BookSearchIndex.Result second = index.search("dune", 1, 1);
+
+        assertEquals(List.of(all.ids().get(1)), second.ids());
+        assertEquals(3, second.totalHits());
+        assertTrue(index.search("dune", 5, 10).ids().isEmpty());
+    }
+
+    @Test
+    void index_replacesPreviousTermsAndRemoveForgetsBook() {
+        index.index(1, "Foundation", "Isaac Asimov", "Psychohistory");
+        index.remove(2);
+
+        assertEquals(List.of(4L), index.matchingIds("dune"));
+        assertEquals(List.of(1L), index.matchingIds("asimov"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void postingLists_surviveManyUpdates() {
+        for (long id = 10; id < 2_000; id++) {
+            index.index(id, "Common Title " + id, "Author", null);
+        }
+        for (long id = 10; id < 2_000; id += 2) {
+            index.remove(id);
+        }
+
+        List<Long> ids = index.matchingIds("common");
+        assertEquals(995, ids.size());
+        assertEquals(11L, ids.get(0));
+        assertEquals(1_999L, ids.get(ids.size() - 1));
+    }
+
+    @Test
+    void snapshot_roundTripsIndexAndWatermark() throws IOException {
+        index.remove(3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.writeSnapshot(out, 3, 1_700_000_000_000L);
+
+        BookSearchIndex.Snapshot snapshot = BookSearchIndex.readSnapshot(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(3, snapshot.bookCount());
+        assertEquals(1_700_000_000_000L, snapshot.lastUpdated());
+        assertEquals(index.search("dune", 0, 10), snapshot.index().search("dune", 0, 10));
+        assertTrue(snapshot.index().matchingIds("spiders").isEmpty());
+
+        snapshot.index().index(5, "Dune Again", "Someone", null);
+        assertEquals(4, snapshot.index().matchingIds("dune").size());
+    }
+
+    @Test
+    void readSnapshot_rejectsOtherFiles() {
+        assertThrows(IOException.class,
+                () -> BookSearchIndex.readSnapshot(new ByteArrayInputStream(new byte[16])));
+    }
+}
@@ -0,0 +1,148 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.config.BookEventProperties;
+import com.jennifertellez.library.dto.BookChangedEvent;
+import com.jennifertellez.library.dto.BookStatsSnapshot;
+import com.jennifertellez.library.model.ReadingStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Book Event Dispatcher Tests")
+class BookEventDispatcherTest {
+
+    // Tasks only run when the test says so, so queued changes can pile up deterministically
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final RecordingSubscriber subscriber = new RecordingSubscriber();
+    private BookEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        BookEventProperties properties = new BookEventProperties();
+        properties.setQueueCapacity(3);
+        properties.setMaxBatchSize(2);
+        dispatcher = new BookEventDispatcher(List.of(subscriber), tasks::add, properties);
+    }
+
+    @Test
+    void onBookChanged_coalescesChangesToTheSameBook() {
+        dispatcher.onBookChanged(new BookChangedEvent(1L, snapshot(ReadingStatus.TO_READ), snapshot(ReadingStatus.CURRENTLY_READING)));
+        dispatcher.onBookChanged(new BookChangedEvent(1L, snapshot(ReadingStatus.CURRENTLY_READING), snapshot(ReadingStatus.FINISHED)));
+        runAll();
+
+        assertEquals(1, subscriber.batches.size());
+        BookChangedEvent delivered = subscriber.batches.get(0).get(0);
+        assertEquals(ReadingStatus.TO_READ, delivered.before().getStatus());
+        assertEquals(ReadingStatus.FINISHED, delivered.after().getStatus());
+
+        BookEventDispatcher.Stats stats = dispatcher.stats().get(0);
+        assertEquals(2, stats.published());
+        assertEquals(1, stats.coalesced());
+        assertEquals(1, stats.delivered());
+    }
+
+    @Test
+    void onBookChanged_keepsACoalescedChangeInItsOriginalPlace() {
+        dispatcher.onBookChanged(new BookChangedEvent(1L, null, snapshot(ReadingStatus.TO_READ)));
+        dispatcher.onBookChanged(new BookChangedEvent(2L, null, snapshot(ReadingStatus.TO_READ)));
+        dispatcher.onBookChanged(new BookChangedEvent(1L, snapshot(ReadingStatus.TO_READ), snapshot(ReadingStatus.FINISHED)));
+        runAll();
+
+        assertEquals(List.of(1L, 2L), subscriber.batches.get(0).stream().map(BookChangedEvent::bookId).toList());
+    }
+
+    @Test
+    void onBookChanged_dropsBookCreatedAndDeletedBeforeDelivery() {
+        dispatcher.onBookChanged(new BookChangedEvent(1L, null, snapshot(ReadingStatus.TO_READ)));
+        dispatcher.onBookChanged(new BookChangedEvent(1L, snapshot(ReadingStatus.TO_READ), null));
+        runAll();
+
+        assertTrue(subscriber.batches.isEmpty());
+        assertEquals(0, dispatcher.stats().get(0).queued());
+    }
+
+    @Test
+    void onBookChanged_deliversInBatchesOfAtMostMaxBatchSize() {
+        for (long id = 1; id <= 3; id++) {
+            dispatcher.onBookChanged(new BookChangedEvent(id, null, snapshot(ReadingStatus.TO_READ)));
+        }
+        assertEquals(1, tasks.size(), "One drain task at a time per subscriber");
+        runAll();
+
+        assertEquals(List.of(2, 1), subscriber.batches.stream().map(List::size).toList());
+        assertEquals(2, dispatcher.stats().get(0).largestBatch());
+    }
+
+    @Test
+    void onBookChanged_whenQueueIsFull_dropsQueuedChangesAndAsksForResync() {
+        for (long id = 1; id <= 4; id++) {
+            dispatcher.onBookChanged(new BookChangedEvent(id, null, snapshot(ReadingStatus.TO_READ)));
+        }
+        dispatcher.onBookChanged(new BookChangedEvent(5L, null, snapshot(ReadingStatus.TO_READ)));
+        runAll();
+
+        assertEquals(1, subscriber.overflows);
+        assertEquals(List.of(5L), subscriber.batches.stream().flatMap(List::stream).map(BookChangedEvent::bookId).toList());
+        BookEventDispatcher.Stats stats = dispatcher.stats().get(0);
+        assertEquals(1, stats.overflows());
+        assertEquals(4, stats.dropped());
+    }
+
+    @Test
+    void onBookChanged_keepsDeliveringAfterSubscriberFailure() {
+        subscriber.failNext = true;
+        dispatcher.onBookChanged(new BookChangedEvent(1L, null, snapshot(ReadingStatus.TO_READ)));
+        runAll();
+        dispatcher.onBookChanged(new BookChangedEvent(2L, null, snapshot(ReadingStatus.TO_READ)));
+        runAll();
+
+        assertEquals(1, dispatcher.stats().get(0).failures());
+        assertEquals(2L, subscriber.batches.get(subscriber.batches.size() - 1).get(0).bookId());
+    }
+
+    private void runAll() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static BookStatsSnapshot snapshot(ReadingStatus status) {
+        BookStatsSnapshot snapshot = new BookStatsSnapshot();
+        snapshot.setStatus(status);
+        return snapshot;
+    }
+
+    private static class RecordingSubscriber implements BookChangeSubscriber {
+
+        private final List<List<BookChangedEvent>> batches = new ArrayList<>();
+        private int overflows;
+        private boolean failNext;
+
+        @Override
+        public String subscriberName() {
+            return "recording";
+        }
+
+        @Override
+        public void onBookChanges(List<BookChangedEvent> changes) {
+            batches.add(changes);
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("boom");
+            }
+        }
+
+        @Override
+        public void onOverflow() {
+            overflows++;
+        }
+    }
+}
@@ -7,12 +7,17 @@ import com.jennifertellez.library.exception.DuplicateBookException;
 import com.jennifertellez.library.model.Book;
 import com.jennifertellez.library.model.ReadingStatus;
 import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.BookShelfRepository;
+import com.jennifertellez.library.search.BookSearchEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import java.util.Arrays;
 import java.util.List;
@@ -29,6 +34,18 @@ public class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookShelfRepository bookShelfRepository;
+
+    @Mock
+    private ReadingStatsEngine readingStatsEngine;
+
+    @Mock
+    private BookSearchEngine bookSearchEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -54,7 +71,7 @@ public class BookServiceTest {
     @Test
     void createBook_Success() {
         when(bookRepository.existsByIsbn(anyString())).thenReturn(false);
-        when(bookRepository.save(any(Book.class))).thenReturn(testBook);
+        when(bookRepository.saveAndFlush(any(Book.class))).thenReturn(testBook);
 
         BookResponse response = bookService.createBook(createRequest);
 
@@ -62,7 +79,7 @@ public class BookServiceTest {
         assertEquals("Test Book", response.getTitle());
         assertEquals("Test Author", response.getAuthor());
         verify(bookRepository).existsByIsbn("1234567890");
-        verify(bookRepository).save(any(Book.class));
+        verify(bookRepository).saveAndFlush(any(Book.class));
     }
 
     @Test
@@ -74,7 +91,7 @@ public class BookServiceTest {
         });
 
         verify(bookRepository).existsByIsbn("1234567890");
-        verify(bookRepository, never()).save(any(Book.class));
+        verify(bookRepository, never()).saveAndFlush(any(Book.class));
     }
 
     @Test
@@ -116,13 +133,14 @@ public class BookServiceTest {
     @Test
     void searchBooks_Success() {
         List<Book> books = Arrays.asList(testBook);
-        when(bookRepository.searchBooks("test")).thenReturn(books);
+        when(bookSearchEngine.search("test", Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(1L)));
+        when(bookRepository.findAllById(List.of(1L))).thenReturn(books);
 
         List<BookResponse> responses = bookService.searchBooks("test");
 
         assertNotNull(responses);
         assertEquals(1, responses.size());
-        verify(bookRepository).searchBooks("test");
+        verify(bookSearchEngine).search("test", Pageable.unpaged());
     }
 
     @Test
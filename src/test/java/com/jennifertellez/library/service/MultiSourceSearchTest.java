@@ -0,0 +1,189 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.client.SourceFanOut;
+import com.jennifertellez.library.config.ExternalSearchProperties;
+import com.jennifertellez.library.dto.GoogleBooksResponse;
+import com.jennifertellez.library.dto.MultiSourceSearchResponse;
+import com.jennifertellez.library.dto.jikan.JikanMangaResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Multi-Source Search Tests")
+class MultiSourceSearchTest {
+
+    private static final long STUB_LATENCY_MS = 300;
+
+    @Mock
+    private GoogleBooksService googleBooksService;
+
+    @Mock
+    private JikanService jikanService;
+
+    @Mock
+    private OpenLibraryService openLibraryService;
+
+    private final ThreadPoolTaskExecutor executor = executor();
+
+    private final ExternalSearchProperties properties = properties();
+
+    @Spy
+    private SourceFanOut sourceFanOut = new SourceFanOut(executor, properties);
+
+    @InjectMocks
+    private BookServiceImpl bookService;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void titleSearch_queriesSourcesConcurrently() {
+        doAnswer(respondAfter(STUB_LATENCY_MS, Optional.of(googleBook("Dune"))))
+                .when(googleBooksService).searchByTitle(anyString());
+        doAnswer(respondAfter(STUB_LATENCY_MS, Optional.of(manga("Dune Manga"))))
+                .when(jikanService).searchMangaByTitle(anyString());
+
+        long start = System.nanoTime();
+        MultiSourceSearchResponse response = bookService.searchAllSources("Dune");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(2, response.getTotalResults());
+        assertEquals(List.of("google", "jikan"),
+                response.getResults().stream().map(r -> r.getSource()).toList());
+        assertTrue(response.getTimedOutSources().isEmpty());
+        assertTrue(elapsedMs < STUB_LATENCY_MS * 2, "sources should overlap, took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void isbnSearch_returnsAnsweredSourcesAndFlagsTimeouts() {
+        doAnswer(respondAfter(2_000, Optional.of(Map.<String, Object>of("title", "Slow Book"))))
+                .when(openLibraryService).searchByIsbn("9780441172719");
+        doAnswer(respondAfter(STUB_LATENCY_MS, Optional.of(googleBook("Dune"))))
+                .when(googleBooksService).searchByIsbn("9780441172719");
+
+        long start = System.nanoTime();
+        MultiSourceSearchResponse response = bookService.searchAllSources("978-0441172719");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(1, response.getTotalResults());
+        assertEquals("google", response.getResults().get(0).getSource());
+        assertEquals(List.of("openLibrary"), response.getTimedOutSources());
+        assertTrue(response.getFailedSources().isEmpty());
+        assertTrue(elapsedMs < 1_500, "slow source should be cut off at its deadline, took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void isbnSearch_interruptsLookupThatMissedItsDeadline() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return Optional.empty();
+        }).when(openLibraryService).searchByIsbn("9780441172719");
+        when(googleBooksService.searchByIsbn("9780441172719")).thenReturn(Optional.empty());
+
+        MultiSourceSearchResponse response = bookService.searchAllSources("978-0441172719");
+
+        assertEquals(List.of("openLibrary"), response.getTimedOutSources());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS), "timed-out lookup should give its thread back");
+    }
+
+    @Test
+    void searchAll_whenPoolIsSaturated_reportsSourceAsFailedInsteadOfRunningOnCaller() {
+        ThreadPoolTaskExecutor single = new ThreadPoolTaskExecutor();
+        single.setCorePoolSize(1);
+        single.setMaxPoolSize(1);
+        single.setQueueCapacity(0);
+        single.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        single.initialize();
+        try {
+            SourceFanOut fanOut = new SourceFanOut(single, properties);
+            Thread caller = Thread.currentThread();
+            Map<String, Supplier<Optional<String>>> lookups = new LinkedHashMap<>();
+            lookups.put("google", () -> {
+                sleep(STUB_LATENCY_MS);
+                return Optional.of("google");
+            });
+            lookups.put("jikan", () -> Optional.of(Thread.currentThread() == caller ? "caller" : "pool"));
+
+            SourceFanOut.Result<String> result = fanOut.searchAll(lookups);
+
+            assertEquals(List.of("google"), result.results());
+            assertEquals(List.of("jikan"), result.failedSources());
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> Answer<T> respondAfter(long latencyMs, T result) {
+        return invocation -> {
+            Thread.sleep(latencyMs);
+            return result;
+        };
+    }
+
+    private static GoogleBooksResponse.BookItem googleBook(String title) {
+        GoogleBooksResponse.VolumeInfo volumeInfo = new GoogleBooksResponse.VolumeInfo();
+        volumeInfo.setTitle(title);
+        GoogleBooksResponse.BookItem item = new GoogleBooksResponse.BookItem();
+        item.setVolumeInfo(volumeInfo);
+        return item;
+    }
+
+    private static JikanMangaResponse.JikanMangaData manga(String title) {
+        JikanMangaResponse.JikanMangaData manga = new JikanMangaResponse.JikanMangaData();
+        manga.setTitle(title);
+        manga.setMalId(1L);
+        return manga;
+    }
+
+    private static ThreadPoolTaskExecutor executor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+        return executor;
+    }
+
+    private static ExternalSearchProperties properties() {
+        ExternalSearchProperties properties = new ExternalSearchProperties();
+        properties.setDefaultTimeout(Duration.ofMillis(1_000));
+        properties.getTimeouts().put("openLibrary", Duration.ofMillis(800));
+        return properties;
+    }
+}
@@ -10,6 +10,9 @@ import com.jennifertellez.library.model.ReadingGoal;
 import com.jennifertellez.library.model.ReadingStatus;
 import com.jennifertellez.library.repository.BookRepository;
 import com.jennifertellez.library.repository.ReadingGoalRepository;
+import com.jennifertellez.library.repository.ReadingActivityRepository;
+import com.jennifertellez.library.repository.projection.MonthlyActivity;
+import com.jennifertellez.library.repository.projection.RecentlyFinishedBook;
 import lombok.Locked;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,10 +21,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,6 +48,11 @@ class ReadingGoalServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private ReadingActivityRepository readingActivityRepository;
+
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
     @InjectMocks
     private ReadingGoalService readingGoalService;
 
@@ -242,11 +256,7 @@ Update tests to new logic
 
         when(readingGoalRepository.findById(1L))
                 .thenReturn(Optional.of(readingGoal));
-        when(bookRepository.findByStatusAndFinishedDateBetween(
-                eq(ReadingStatus.FINISHED),
-                any(LocalDate.class),
-                any(LocalDate.class)
-        )).thenReturn(finishedBooks);
+        stubFinishedBooks(finishedBooks);
 
         GoalProgressDTO result = readingGoalService.getGoalProgress(1L);
 
@@ -262,11 +272,7 @@ Update tests to new logic
     void testGetGoalProgress_withNoBooksRead_returnsZeroProgress() {
         when(readingGoalRepository.findById(1L))
                 .thenReturn(Optional.of(readingGoal));
-        when(bookRepository.findByStatusAndFinishedDateBetween(
-                any(),
-                any(LocalDate.class),
-                any(LocalDate.class)
-        )).thenReturn(new ArrayList<>());
+        stubFinishedBooks(new ArrayList<>());
 
         GoalProgressDTO result = readingGoalService.getGoalProgress(1L);
 
@@ -289,11 +295,7 @@ Update tests to new logic
 
         when(readingGoalRepository.findById(1L))
                 .thenReturn(Optional.of(activeGoal));
-        when(bookRepository.findByStatusAndFinishedDateBetween(
-                any(),
-                any(LocalDate.class),
-                any(LocalDate.class)
-        )).thenReturn(finishedBooks);
+        stubFinishedBooks(finishedBooks);
 
         GoalProgressDTO result = readingGoalService.getGoalProgress(1L);
 
@@ -307,11 +309,7 @@ Update tests to new logic
 
         when(readingGoalRepository.findById(1L))
                 .thenReturn(Optional.of(readingGoal));
-        when(bookRepository.findByStatusAndFinishedDateBetween(
-                any(),
-                any(LocalDate.class),
-                any(LocalDate.class)
-        )).thenReturn(finishedBooks);
+        stubFinishedBooks(finishedBooks);
 
         GoalProgressDTO result = readingGoalService.getGoalProgress(1L);
 
@@ -319,6 +317,31 @@ Update tests to new logic
         assertTrue(result.getRecentlyFinished().size() <= 5, "Should limit to 5 recent books");
     }
 
+    // Answers the two progress queries the way the database would for these books
+    private void stubFinishedBooks(List<Book> books) {
+        Map<LocalDate, Long> months = new LinkedHashMap<>();
+        for (Book book : books) {
+            months.merge(book.getFinishedDate().withDayOfMonth(1), 1L, Long::sum);
+        }
+        List<MonthlyActivity> monthly = months.entrySet().stream()
+                .map(month -> projectionFactory.createProjection(MonthlyActivity.class, Map.of(
+                        "periodYear", month.getKey().getYear(),
+                        "periodMonth", month.getKey().getMonthValue(),
+                        "finished", month.getValue())))
+                .toList();
+        List<RecentlyFinishedBook> recent = books.stream()
+                .sorted(Comparator.comparing(Book::getFinishedDate).reversed())
+                .limit(5)
+                .map(book -> new RecentlyFinishedBook(book.getId(), book.getTitle(), book.getAuthor(),
+                        book.getThumbnail(), book.getFinishedDate()))
+                .toList();
+
+        when(readingActivityRepository.sumFinishedByMonth(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(monthly);
+        when(bookRepository.findRecentlyFinished(eq(ReadingStatus.FINISHED), any(LocalDate.class), any(LocalDate.class), eq(Limit.of(5))))
+                .thenReturn(recent);
+    }
+
     private List<Book> createFinishedBooks(int count) {
         List<Book> books = new ArrayList<>();
         for (int i = 0; i < count; i++) {
@@ -0,0 +1,144 @@
+package com.jennifertellez.library.service;
+
+import com.jennifertellez.library.dto.BookStatsSnapshot;
+import com.jennifertellez.library.dto.ReadingStatsResponse;
+import com.jennifertellez.library.model.ReadingStatus;
+import com.jennifertellez.library.repository.BookRepository;
+import com.jennifertellez.library.repository.projection.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Reading Stats Engine Tests")
+class ReadingStatsEngineTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @InjectMocks
+    private ReadingStatsEngine readingStatsEngine;
+
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    private int currentYear;
+
+    @BeforeEach
+    void setUp() {
+        currentYear = LocalDate.now().getYear();
+    }
+
+    @Test
+    void rebuild_loadsGroupedCounts() {
+        when(bookRepository.countByStatus()).thenReturn(List.of(
+                projection(StatusCount.class, Map.of("status", ReadingStatus.FINISHED, "total", 2L)),
+                projection(StatusCount.class, Map.of("status", ReadingStatus.TO_READ, "total", 1L))
+        ));
+        when(bookRepository.countByRating()).thenReturn(List.of(
+                projection(RatingCount.class, Map.of("rating", 5, "total", 1L)),
+                projection(RatingCount.class, Map.of("rating", 3, "total", 1L))
+        ));
+        when(bookRepository.countByAuthor(any(Pageable.class))).thenReturn(List.of(
+                projection(AuthorCount.class, Map.of("author", "Author A", "total", 2L)),
+                projection(AuthorCount.class, Map.of("author", "Author B", "total", 1L))
+        ));
+        when(bookRepository.countFinishedByYear()).thenReturn(List.of(
+                projection(YearCount.class, Map.of("period", currentYear, "total", 1L)),
+                projection(YearCount.class, Map.of("period", currentYear - 1, "total", 1L))
+        ));
+        when(bookRepository.countCreatedByYear()).thenReturn(List.of(
+                projection(YearCount.class, Map.of("period", currentYear, "total", 3L))
+        ));
+        when(bookRepository.sumPageCounts()).thenReturn(
+                projection(PageTotals.class, Map.of("pageSum", 400L, "booksWithPages", 2L)));
+
+        readingStatsEngine.rebuild();
+        ReadingStatsResponse stats = readingStatsEngine.getStatistics();
+
+        assertEquals(3L, stats.getTotalBooks());
+        assertEquals(2L, stats.getBooksRead());
+        assertEquals(1L, stats.getBooksToRead());
+        assertEquals(1L, stats.getBooksReadThisYear());
+        assertEquals(3L, stats.getBooksAddedThisYear());
+        assertEquals(4.0, stats.getAverageRating());
+        assertEquals(2L, stats.getRatedBooks());
+        assertEquals(2L, stats.getUniqueAuthors());
+        assertEquals(2L, stats.getTopAuthors().get("Author A"));
+        assertEquals(200.0, stats.getAveragePagesPerBook());
+        assertEquals(1L, stats.getBooksReadByYear().get(currentYear - 1));
+    }
+
+    @Test
+    void incrementalChanges_matchFullRebuild() {
+        when(bookRepository.sumPageCounts()).thenReturn(
+                projection(PageTotals.class, Map.of("pageSum", 0L, "booksWithPages", 0L)));
+        readingStatsEngine.rebuild();
+
+        BookStatsSnapshot toRead = snapshot(ReadingStatus.TO_READ, null, "Author A", 250, null);
+        BookStatsSnapshot finished = snapshot(ReadingStatus.FINISHED, 4, "Author A", 250, LocalDate.now());
+
+        readingStatsEngine.onBookCreated(toRead);
+        readingStatsEngine.onBookUpdated(toRead, finished);
+        ReadingStatsResponse stats = readingStatsEngine.getStatistics();
+
+        assertEquals(1L, stats.getTotalBooks());
+        assertEquals(0L, stats.getBooksToRead());
+        assertEquals(1L, stats.getBooksRead());
+        assertEquals(1L, stats.getBooksReadThisYear());
+        assertEquals(1L, stats.getRatingDistribution().get(4));
+
+        readingStatsEngine.onBookDeleted(finished);
+        stats = readingStatsEngine.getStatistics();
+
+        assertEquals(0L, stats.getTotalBooks());
+        assertEquals(0L, stats.getUniqueAuthors());
+        assertTrue(stats.getRatingDistribution().isEmpty());
+        assertTrue(stats.getBooksReadByYear().isEmpty());
+        verify(bookRepository, times(1)).countByStatus();
+    }
+
+    @Test
+    void changesCommittedDuringRebuild_areReplayedOntoTheNewCounters() {
+        BookStatsSnapshot finished = snapshot(ReadingStatus.FINISHED, 5, "Author B", 300, LocalDate.now());
+        when(bookRepository.sumPageCounts()).thenReturn(
+                projection(PageTotals.class, Map.of("pageSum", 0L, "booksWithPages", 0L)));
+        readingStatsEngine.rebuild();
+
+        // The second rebuild's first query has already run when the change commits
+        when(bookRepository.countByStatus()).thenAnswer(invocation -> {
+            readingStatsEngine.onBookCreated(finished);
+            return List.of();
+        });
+        readingStatsEngine.rebuild();
+        ReadingStatsResponse stats = readingStatsEngine.getStatistics();
+
+        assertEquals(1L, stats.getTotalBooks());
+        assertEquals(1L, stats.getBooksRead());
+        assertEquals(1L, stats.getBooksAddedThisYear());
+    }
+
+    private <T> T projection(Class<T> type, Map<String, Object> values) {
+        return projectionFactory.createProjection(type, values);
+    }
+
+    private BookStatsSnapshot snapshot(ReadingStatus status, Integer rating, String author,
+                                       Integer pageCount, LocalDate finishedDate) {
+        return new BookStatsSnapshot(status, rating, author, pageCount, finishedDate, LocalDateTime.now());
+    }
+}
@@ -61,13 +61,13 @@ public class ShelfServiceTest {
         request.setDescription("My favorite books");
 
         when(shelfRepository.existsByName(anyString())).thenReturn(false);
-        when(shelfRepository.save(any(Shelf.class))).thenReturn(testShelf);
+        when(shelfRepository.saveAndFlush(any(Shelf.class))).thenReturn(testShelf);
 
         ShelfResponse response = shelfService.createShelf(request);
 
         assertNotNull(response);
         assertEquals("Favorites", response.getName());
-        verify(shelfRepository).save(any(Shelf.class));
+        verify(shelfRepository).saveAndFlush(any(Shelf.class));
     }
 
     @Test
@@ -80,7 +80,7 @@ public class ShelfServiceTest {
         });
 
         verify(shelfRepository).existsByName("Favorites");
-        verify(shelfRepository, never()).save(any(Shelf.class));
+        verify(shelfRepository, never()).saveAndFlush(any(Shelf.class));
     }
 
     @Test
@@ -109,14 +109,14 @@ public class ShelfServiceTest {
     @Test
     void getAllShelves_Success() {
         List<Shelf> shelves = Arrays.asList(testShelf);
-        when(shelfRepository.findAll()).thenReturn(shelves);
+        when(shelfRepository.findAllWithBooks()).thenReturn(shelves);
 
         List<ShelfResponse> responses = shelfService.getAllShelves();
 
         assertNotNull(responses);
         assertEquals(1, responses.size());
         assertEquals("Favorites", responses.get(0).getName());
-        verify(shelfRepository).findAll();
+        verify(shelfRepository).findAllWithBooks();
     }
 
     @Test